@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.tinkerpop.benchmark.util.AbstractBenchmarkBase;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV1d0;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares the serialization of a large Gryo response message directly into (and out of) a pooled {@link ByteBuf}
+ * with the former approach of encoding into a {@code byte[]} which is then copied into (and out of) the
+ * {@link ByteBuf}.
+ */
+@State(Scope.Thread)
+public class GryoMessageSerializerBenchmark extends AbstractBenchmarkBase {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+    private final GryoMessageSerializerV1d0 serializer = new GryoMessageSerializerV1d0();
+    private final Kryo kryo = GryoMapper.build().create().createMapper();
+    private ResponseMessage response;
+
+    @Setup
+    public void prepare() {
+        serializer.configure(new HashMap<>(), null);
+        final TinkerGraph graph = TinkerGraph.open();
+        final List<Vertex> result = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            final Vertex vertex = graph.addVertex("name", "vertex-" + i, "age", i);
+            result.add(DetachedFactory.detach(vertex, true));
+        }
+        response = ResponseMessage.build(UUID.randomUUID()).result(result).create();
+    }
+
+    @Benchmark
+    public ResponseMessage serializeAndDeserializeResponseWithByteBufs() throws Exception {
+        final ByteBuf buffer = serializer.serializeResponseAsBinary(response, allocator);
+        try {
+            return serializer.deserializeResponse(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public Object serializeAndDeserializeResponseWithByteArrays() throws Exception {
+        final ByteBuf buffer;
+        try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+            final Output output = new Output(baos, BUFFER_SIZE);
+            kryo.writeObjectOrNull(output, response.getRequestId(), UUID.class);
+            output.writeShort(response.getStatus().getCode().getValue());
+            output.writeString(response.getStatus().getMessage());
+            kryo.writeClassAndObject(output, response.getStatus().getAttributes());
+            kryo.writeClassAndObject(output, response.getResult().getData());
+            kryo.writeClassAndObject(output, response.getResult().getMeta());
+            output.flush();
+            buffer = allocator.buffer((int) output.total());
+            buffer.writeBytes(baos.toByteArray());
+        }
+
+        try {
+            final byte[] payload = new byte[buffer.readableBytes()];
+            buffer.readBytes(payload);
+            try (final Input input = new Input(payload)) {
+                kryo.readObjectOrNull(input, UUID.class);
+                input.readShort();
+                input.readString();
+                kryo.readClassAndObject(input);
+                return kryo.readClassAndObject(input);
+            }
+        } finally {
+            buffer.release();
+        }
+    }
+}
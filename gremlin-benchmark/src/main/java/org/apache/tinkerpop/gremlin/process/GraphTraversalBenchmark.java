@@ -22,6 +22,7 @@ import org.apache.tinkerpop.benchmark.util.AbstractGraphBenchmark;
 import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
@@ -51,6 +52,16 @@ public class GraphTraversalBenchmark extends AbstractGraphBenchmark {
         return g.V().out().out().out().toList();
     }
 
+    @Benchmark
+    public List<Object> g_V_out_out_out_valuesXnameX() throws Exception {
+        return g.V().out().out().out().values("name").toList();
+    }
+
+    @Benchmark
+    public List<Object> g_withStrategiesXLazyBarrierStrategyX_V_out_out_out_valuesXnameX() throws Exception {
+        return g.withStrategies(LazyBarrierStrategy.instance()).V().out().out().out().values("name").toList();
+    }
+
     @Benchmark
     public List<Path> g_V_out_out_out_path() throws Exception {
         return g.V().out().out().out().path().toList();
@@ -19,12 +19,21 @@
 package org.apache.tinkerpop.gremlin.process.computer.bulkloading;
 
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -40,6 +49,23 @@ public interface BulkLoader {
      */
     public Vertex getOrCreateVertex(final Vertex vertex, final Graph graph, final GraphTraversalSource g);
 
+    /**
+     * Creates a clone of the given vertex in the given graph.
+     *
+     * @param vertex The vertex to be cloned.
+     * @param graph  The graph that holds the cloned vertex after this method was called.
+     * @param g      A standard traversal source for the given graph.
+     * @return The cloned vertex.
+     */
+    public default Vertex createVertex(final Vertex vertex, final Graph graph, final GraphTraversalSource g) {
+        final GraphTraversal<Vertex, Vertex> t = g.addV(vertex.label());
+        if (useUserSuppliedIds())
+            t.property(T.id, vertex.id());
+        else if (null != getVertexIdProperty())
+            t.property(getVertexIdProperty(), vertex.id().toString());
+        return t.next();
+    }
+
     /**
      * Creates a clone of the given edge between the given in- and out-vertices.
      *
@@ -104,6 +130,33 @@ public interface BulkLoader {
      */
     public Vertex getVertex(final Vertex vertex, final Graph graph, final GraphTraversalSource g);
 
+    /**
+     * Gets the vertices that match the given vertices from the given graph with a single lookup. Vertices that have
+     * no match in the given graph are not contained in the result.
+     *
+     * @param vertices The vertices to be matched.
+     * @param graph    The graph that holds the matching vertices.
+     * @param g        A standard traversal source for the given graph.
+     * @return The matched vertices by the identifiers of the given vertices.
+     */
+    public default Map<Object, Vertex> getVertices(final List<Vertex> vertices, final Graph graph, final GraphTraversalSource g) {
+        final Map<Object, Vertex> result = new HashMap<>();
+        final String vertexIdProperty = getVertexIdProperty();
+        if (vertices.isEmpty() || (!useUserSuppliedIds() && null == vertexIdProperty))
+            return result;
+        final Map<String, Vertex> vertexById = new HashMap<>();
+        vertices.forEach(vertex -> vertexById.put(vertex.id().toString(), vertex));
+        final Iterator<Vertex> iterator = useUserSuppliedIds()
+                ? g.V(vertices.stream().map(Element::id).toArray())
+                : g.V().has(vertexIdProperty, P.within(vertexById.keySet()));
+        iterator.forEachRemaining(match -> {
+            final Vertex vertex = vertexById.get(useUserSuppliedIds() ? match.id().toString() : match.<String>value(vertexIdProperty));
+            if (null != vertex && (useUserSuppliedIds() || vertex.label().equals(match.label())))
+                result.put(vertex.id(), match);
+        });
+        return result;
+    }
+
     /**
      * Gets a vertex by its ID from the given graph.
      *
@@ -25,11 +25,13 @@ import org.apache.commons.configuration.ConfigurationUtils;
 import org.apache.commons.configuration.PropertiesConfiguration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.event.MutationListener;
@@ -42,17 +44,21 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
 import org.javatuples.Pair;
 import org.javatuples.Tuple;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
@@ -68,21 +74,38 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
     public static final String KEEP_ORIGINAL_IDS_CFG_KEY = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "keepOriginalIds");
     public static final String USER_SUPPLIED_IDS_CFG_KEY = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "userSuppliedIds");
     public static final String WRITE_GRAPH_CFG_KEY = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "writeGraph");
+    public static final String LOAD_BATCH_SIZE_CFG_KEY = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "loadBatchSize");
     public static final String DEFAULT_BULK_LOADER_VERTEX_ID = "bulkLoader.vertex.id";
 
+    public static final String LOADED_VERTICES = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "loadedVertices");
+    public static final String LOADED_EDGES = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "loadedEdges");
+    public static final String VERTEX_LOAD_RATES = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "vertexLoadRates");
+    public static final String EDGE_LOAD_RATES = String.join(".", BULK_LOADER_VERTEX_PROGRAM_CFG_PREFIX, "edgeLoadRates");
+
     private final MessageScope messageScope;
     private final Set<VertexComputeKey> elementComputeKeys;
+    private final Set<MemoryComputeKey> memoryComputeKeys;
     private Configuration configuration;
     private BulkLoader bulkLoader;
     private Graph graph;
     private GraphTraversalSource g;
     private long intermediateBatchSize;
+    private long loadBatchSize;
 
     private BulkLoadingListener listener;
 
+    // worker-local state of the batched loading mode
+    private final List<Vertex> vertexBatch = new ArrayList<>();
+    private final List<Edge> edgeBatch = new ArrayList<>();
+    private final Map<Object, Object> vertexIdCache = new HashMap<>();
+    private String workerId;
+    private long loadedElements;
+    private long loadTime;
+
     private BulkLoaderVertexProgram() {
         messageScope = MessageScope.Local.of(__::inE);
         elementComputeKeys = new HashSet<>();
+        memoryComputeKeys = new HashSet<>();
     }
 
     private BulkLoader createBulkLoader() {
@@ -117,19 +140,7 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
         if (!close && (intermediateBatchSize == 0L || listener.mutations() < intermediateBatchSize))
             return;
         if (null != graph) {
-            if (graph.features().graph().supportsTransactions()) {
-                LOGGER.info("Committing transaction on Graph instance: {} [{} mutations]", graph, listener.mutations());
-                try {
-                    graph.tx().commit();
-                    LOGGER.debug("Committed transaction on Graph instance: {}", graph);
-                    listener.resetCounter();
-                } catch (Exception e) {
-                    LOGGER.error("Failed to commit transaction on Graph instance: {}", graph);
-                    graph.tx().rollback();
-                    listener.resetCounter();
-                    throw e;
-                }
-            }
+            commitTransaction();
             if (close) {
                 try {
                     graph.close();
@@ -142,8 +153,30 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
         }
     }
 
+    private void commitTransaction() {
+        if (graph.features().graph().supportsTransactions()) {
+            LOGGER.info("Committing transaction on Graph instance: {} [{} mutations]", graph, listener.mutations());
+            try {
+                graph.tx().commit();
+                LOGGER.debug("Committed transaction on Graph instance: {}", graph);
+                listener.resetCounter();
+            } catch (Exception e) {
+                LOGGER.error("Failed to commit transaction on Graph instance: {}", graph);
+                graph.tx().rollback();
+                listener.resetCounter();
+                throw e;
+            }
+        }
+    }
+
     @Override
     public void setup(final Memory memory) {
+        if (loadBatchSize > 0L) {
+            memory.set(LOADED_VERTICES, 0L);
+            memory.set(LOADED_EDGES, 0L);
+            memory.set(VERTEX_LOAD_RATES, new HashMap<>());
+            memory.set(EDGE_LOAD_RATES, new HashMap<>());
+        }
     }
 
     @Override
@@ -153,7 +186,14 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
             ConfigurationUtils.copy(config, configuration);
         }
         intermediateBatchSize = configuration.getLong(INTERMEDIATE_BATCH_SIZE_CFG_KEY, 0L);
+        loadBatchSize = configuration.getLong(LOAD_BATCH_SIZE_CFG_KEY, 0L);
         elementComputeKeys.add(VertexComputeKey.of(DEFAULT_BULK_LOADER_VERTEX_ID, true));
+        if (loadBatchSize > 0L) {
+            memoryComputeKeys.add(MemoryComputeKey.of(LOADED_VERTICES, Operator.sumLong, false, false));
+            memoryComputeKeys.add(MemoryComputeKey.of(LOADED_EDGES, Operator.sumLong, false, false));
+            memoryComputeKeys.add(MemoryComputeKey.of(VERTEX_LOAD_RATES, Operator.addAll, false, false));
+            memoryComputeKeys.add(MemoryComputeKey.of(EDGE_LOAD_RATES, Operator.addAll, false, false));
+        }
         bulkLoader = createBulkLoader();
     }
 
@@ -184,10 +224,26 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
         } else {
             LOGGER.warn("Leaked Graph instance: {}", graph);
         }
+        if (memory.isInitialIteration()) {
+            vertexIdCache.clear();
+        }
+        workerId = UUID.randomUUID().toString();
+        loadedElements = 0L;
+        loadTime = 0L;
     }
 
     @Override
     public void workerIterationEnd(final Memory memory) {
+        if (loadBatchSize > 0L) {
+            try {
+                flush(memory);
+            } catch (Exception e) {
+                if (graph.features().graph().supportsTransactions()) {
+                    graph.tx().rollback();
+                }
+                throw e;
+            }
+        }
         this.commit(true);
     }
 
@@ -204,7 +260,9 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
     }
 
     private void executeInternal(final Vertex sourceVertex, final Messenger<Tuple> messenger, final Memory memory) {
-        if (memory.isInitialIteration()) {
+        if (loadBatchSize > 0L) {
+            executeBatched(sourceVertex, memory);
+        } else if (memory.isInitialIteration()) {
             this.listener.resetStats();
             // get or create the vertex
             final Vertex targetVertex = bulkLoader.getOrCreateVertex(sourceVertex, graph, g);
@@ -261,6 +319,138 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
         }
     }
 
+    /**
+     * Collects the vertices (in the vertex loading stage) or the edges (in the edge loading stage) of this worker and
+     * loads them whenever the batch is full. Each batch is loaded in its own transaction. The vertices of the target
+     * graph are resolved with a single lookup per batch, for vertices that were loaded by this worker the identifiers
+     * in the target graph are known from the vertex loading stage.
+     */
+    private void executeBatched(final Vertex sourceVertex, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            vertexBatch.add(DetachedFactory.detach(sourceVertex, true));
+            memory.add(LOADED_VERTICES, 1L);
+            if (vertexBatch.size() >= loadBatchSize) {
+                loadVertices();
+                memory.add(VERTEX_LOAD_RATES, loadRate());
+            }
+        } else if (memory.getIteration() == 1) {
+            long edges = 0L;
+            final Iterator<Edge> edgeIterator = sourceVertex.edges(Direction.OUT);
+            while (edgeIterator.hasNext()) {
+                edgeBatch.add(DetachedFactory.detach(edgeIterator.next(), true));
+                edges++;
+            }
+            memory.add(LOADED_EDGES, edges);
+            if (edgeBatch.size() >= loadBatchSize) {
+                loadEdges();
+                memory.add(EDGE_LOAD_RATES, loadRate());
+            }
+        } else if (memory.getIteration() == 2) {
+            vertexBatch.add(DetachedFactory.detach(sourceVertex, false));
+            if (vertexBatch.size() >= loadBatchSize) {
+                removeVertexIdProperties();
+            }
+        }
+    }
+
+    /**
+     * Loads the remaining partial batch of this worker.
+     */
+    private void flush(final Memory memory) {
+        if (memory.isInitialIteration()) {
+            loadVertices();
+        } else if (memory.getIteration() == 1) {
+            loadEdges();
+        } else if (memory.getIteration() == 2) {
+            removeVertexIdProperties();
+        }
+    }
+
+    private void loadVertices() {
+        final long start = System.nanoTime();
+        final Map<Object, Vertex> existingVertices = bulkLoader.getVertices(vertexBatch, graph, g);
+        for (final Vertex sourceVertex : vertexBatch) {
+            final Vertex existingVertex = existingVertices.get(sourceVertex.id());
+            final Vertex targetVertex;
+            final Iterator<VertexProperty<Object>> vpi = sourceVertex.properties();
+            if (null == existingVertex) {
+                targetVertex = bulkLoader.createVertex(sourceVertex, graph, g);
+                vpi.forEachRemaining(vp -> bulkLoader.createVertexProperty(vp, targetVertex, graph, g));
+            } else {
+                targetVertex = existingVertex;
+                vpi.forEachRemaining(vp -> bulkLoader.getOrCreateVertexProperty(vp, targetVertex, graph, g));
+            }
+            vertexIdCache.put(sourceVertex.id(), targetVertex.id());
+        }
+        commitTransaction();
+        loadedElements += vertexBatch.size();
+        loadTime += System.nanoTime() - start;
+        vertexBatch.clear();
+    }
+
+    private void loadEdges() {
+        final long start = System.nanoTime();
+        final List<Vertex> sourceVertices = new ArrayList<>();
+        for (final Edge edge : edgeBatch) {
+            sourceVertices.add(edge.outVertex());
+            sourceVertices.add(edge.inVertex());
+        }
+        final Map<Object, Vertex> targetVertices = getTargetVertices(sourceVertices);
+        final Map<Object, Boolean> incremental = new HashMap<>();
+        for (final Edge edge : edgeBatch) {
+            final Vertex outV = targetVertices.get(edge.outVertex().id());
+            final Vertex inV = targetVertices.get(edge.inVertex().id());
+            if (null == outV || null == inV)
+                throw new IllegalStateException("Unable to find the adjacent vertices of the edge in the target graph: " + edge);
+            if (incremental.computeIfAbsent(outV.id(), id -> outV.edges(Direction.OUT).hasNext())) {
+                bulkLoader.getOrCreateEdge(edge, outV, inV, graph, g);
+            } else {
+                bulkLoader.createEdge(edge, outV, inV, graph, g);
+            }
+        }
+        commitTransaction();
+        loadedElements += edgeBatch.size();
+        loadTime += System.nanoTime() - start;
+        edgeBatch.clear();
+    }
+
+    private void removeVertexIdProperties() {
+        getTargetVertices(vertexBatch).values().forEach(vertex -> vertex.property(bulkLoader.getVertexIdProperty()).remove());
+        commitTransaction();
+        vertexBatch.clear();
+    }
+
+    /**
+     * Gets the vertices of the target graph that match the given vertices. Vertices whose identifier in the target
+     * graph is cached are read with a single multi-get, all others are resolved by the {@link BulkLoader}.
+     */
+    private Map<Object, Vertex> getTargetVertices(final List<Vertex> sourceVertices) {
+        final Map<Object, Vertex> result = new HashMap<>();
+        final Map<Object, Object> cachedIds = new HashMap<>();
+        final Map<Object, Vertex> uncachedVertices = new HashMap<>();
+        for (final Vertex sourceVertex : sourceVertices) {
+            final Object targetId = vertexIdCache.get(sourceVertex.id());
+            if (null != targetId)
+                cachedIds.put(targetId, sourceVertex.id());
+            else
+                uncachedVertices.putIfAbsent(sourceVertex.id(), sourceVertex);
+        }
+        if (!cachedIds.isEmpty())
+            g.V(cachedIds.keySet().toArray()).forEachRemaining(vertex -> result.put(cachedIds.get(vertex.id()), vertex));
+        if (!uncachedVertices.isEmpty())
+            result.putAll(bulkLoader.getVertices(new ArrayList<>(uncachedVertices.values()), graph, g));
+        return result;
+    }
+
+    /**
+     * The number of elements this worker loaded per second in the current iteration.
+     */
+    private Map<String, Double> loadRate() {
+        final Map<String, Double> rate = new HashMap<>();
+        rate.put(workerId, loadTime > 0L ? loadedElements * 1000000000d / loadTime : 0d);
+        return rate;
+    }
+
     @Override
     public boolean terminate(final Memory memory) {
         switch (memory.getIteration()) {
@@ -277,6 +467,11 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
         return elementComputeKeys;
     }
 
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return memoryComputeKeys;
+    }
+
     @Override
     public Set<MessageScope> getMessageScopes(final Memory memory) {
         return Collections.singleton(messageScope);
@@ -310,6 +505,8 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
             sb.append("bulkLoader=").append(bulkLoader).append(", ");
         }
         sb.append("batchSize=").append(intermediateBatchSize);
+        if (loadBatchSize > 0L)
+            sb.append(", loadBatchSize=").append(loadBatchSize);
         return StringFactory.vertexProgramString(this, sb.toString());
     }
 
@@ -385,6 +582,20 @@ public class BulkLoaderVertexProgram implements VertexProgram<Tuple> {
             return this;
         }
 
+        /**
+         * Enables the batched loading mode in which each worker loads its vertices (and later its edges) in batches
+         * of the given size, one transaction per batch. Existing vertices are resolved with a single lookup per batch
+         * and the number of loaded elements as well as the load rate of each worker are reported in the
+         * {@link Memory} (see {@link #LOADED_VERTICES}, {@link #LOADED_EDGES}, {@link #VERTEX_LOAD_RATES} and
+         * {@link #EDGE_LOAD_RATES}). Vertices that were loaded by another worker are looked up by their identifier or
+         * by the vertex id property, hence the {@link OneTimeBulkLoader} requires user supplied identifiers when
+         * more than one worker loads the graph.
+         */
+        public Builder loadBatchSize(final int batchSize) {
+            configuration.setProperty(LOAD_BATCH_SIZE_CFG_KEY, batchSize);
+            return this;
+        }
+
         /**
          * A configuration for the target graph that can be passed to GraphFactory.open().
          */
@@ -25,7 +25,6 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
-import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 
@@ -48,11 +47,7 @@ public class IncrementalBulkLoader implements BulkLoader {
         final Iterator<Vertex> iterator = useUserSuppliedIds()
                 ? g.V().hasId(vertex.id())
                 : g.V().has(vertex.label(), getVertexIdProperty(), vertex.id().toString());
-        return iterator.hasNext()
-                ? iterator.next()
-                : useUserSuppliedIds()
-                ? g.addV(vertex.label()).property(T.id, vertex.id()).next()
-                : g.addV(vertex.label()).property(getVertexIdProperty(), vertex.id().toString()).next();
+        return iterator.hasNext() ? iterator.next() : createVertex(vertex, graph, g);
     }
 
     /**
@@ -19,14 +19,16 @@
 package org.apache.tinkerpop.gremlin.process.computer.bulkloading;
 
 import org.apache.commons.configuration.Configuration;
-import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
-import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 /**
  * {@link org.apache.tinkerpop.gremlin.process.computer.bulkloading.OneTimeBulkLoader} is a
  * {@link org.apache.tinkerpop.gremlin.process.computer.bulkloading.BulkLoader} implementation that should be used
@@ -45,8 +47,7 @@ public class OneTimeBulkLoader implements BulkLoader {
      */
     @Override
     public Vertex getOrCreateVertex(final Vertex vertex, final Graph graph, final GraphTraversalSource g) {
-        final GraphTraversal<Vertex, Vertex> t = g.addV(vertex.label());
-        return (useUserSuppliedIds() ? t.property(T.id, vertex.id()) : t).next();
+        return createVertex(vertex, graph, g);
     }
 
     /**
@@ -73,6 +74,14 @@ public class OneTimeBulkLoader implements BulkLoader {
         return getVertexById(vertex.id(), graph, g);
     }
 
+    /**
+     * Always returns an empty map as all vertices are cloned.
+     */
+    @Override
+    public Map<Object, Vertex> getVertices(final List<Vertex> vertices, final Graph graph, final GraphTraversalSource g) {
+        return Collections.emptyMap();
+    }
+
     /**
      * {@inheritDoc}
      */
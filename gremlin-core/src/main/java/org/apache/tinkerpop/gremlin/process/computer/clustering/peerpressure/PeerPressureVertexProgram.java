@@ -69,11 +69,13 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
     private static final String DISTRIBUTE_VOTE = "gremlin.peerPressureVertexProgram.distributeVote";
     private static final String EDGE_TRAVERSAL = "gremlin.peerPressureVertexProgram.edgeTraversal";
     private static final String VOTE_TO_HALT = "gremlin.peerPressureVertexProgram.voteToHalt";
+    private static final String INCREMENTAL = "gremlin.peerPressureVertexProgram.incremental";
 
     private PureTraversal<Vertex, Edge> edgeTraversal = null;
     private PureTraversal<Vertex, ? extends Number> initialVoteStrengthTraversal = null;
     private int maxIterations = 30;
     private boolean distributeVote = false;
+    private boolean incremental = false;
     private String property = CLUSTER;
 
     private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
@@ -94,6 +96,7 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
         this.property = configuration.getString(PROPERTY, CLUSTER);
         this.maxIterations = configuration.getInt(MAX_ITERATIONS, 30);
         this.distributeVote = configuration.getBoolean(DISTRIBUTE_VOTE, false);
+        this.incremental = configuration.getBoolean(INCREMENTAL, false);
     }
 
     @Override
@@ -102,6 +105,7 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
         configuration.setProperty(PROPERTY, this.property);
         configuration.setProperty(MAX_ITERATIONS, this.maxIterations);
         configuration.setProperty(DISTRIBUTE_VOTE, this.distributeVote);
+        configuration.setProperty(INCREMENTAL, this.incremental);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
         if (null != this.initialVoteStrengthTraversal)
@@ -147,9 +151,10 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
                 double voteStrength = (null == this.initialVoteStrengthTraversal ?
                         1.0d :
                         TraversalUtil.apply(vertex, this.initialVoteStrengthTraversal.get()).doubleValue());
-                vertex.property(VertexProperty.Cardinality.single, this.property, vertex.id());
+                final Serializable cluster = this.initialCluster(vertex);
+                vertex.property(VertexProperty.Cardinality.single, this.property, cluster);
                 vertex.property(VertexProperty.Cardinality.single, VOTE_STRENGTH, voteStrength);
-                messenger.sendMessage(this.voteScope, new Pair<>((Serializable) vertex.id(), voteStrength));
+                messenger.sendMessage(this.voteScope, new Pair<>(cluster, voteStrength));
                 memory.add(VOTE_TO_HALT, false);
             }
         } else if (1 == memory.getIteration() && this.distributeVote) {
@@ -157,9 +162,10 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
                     1.0d :
                     TraversalUtil.apply(vertex, this.initialVoteStrengthTraversal.get()).doubleValue()) /
                     IteratorUtils.reduce(IteratorUtils.map(messenger.receiveMessages(), Pair::getValue1), 0.0d, (a, b) -> a + b);
-            vertex.property(VertexProperty.Cardinality.single, this.property, vertex.id());
+            final Serializable cluster = this.initialCluster(vertex);
+            vertex.property(VertexProperty.Cardinality.single, this.property, cluster);
             vertex.property(VertexProperty.Cardinality.single, VOTE_STRENGTH, voteStrength);
-            messenger.sendMessage(this.voteScope, new Pair<>((Serializable) vertex.id(), voteStrength));
+            messenger.sendMessage(this.voteScope, new Pair<>(cluster, voteStrength));
             memory.add(VOTE_TO_HALT, false);
         } else {
             final Map<Serializable, Double> votes = new HashMap<>();
@@ -184,6 +190,15 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
         }
     }
 
+    /**
+     * In incremental mode, a vertex starts in the cluster of a previous computation (if it was in one).
+     */
+    private Serializable initialCluster(final Vertex vertex) {
+        return this.incremental ?
+                vertex.<Serializable>property(this.property).orElse((Serializable) vertex.id()) :
+                (Serializable) vertex.id();
+    }
+
     private static <T> T largestCount(final Map<T, Double> map) {
         T largestKey = null;
         double largestValue = Double.MIN_VALUE;
@@ -234,6 +249,15 @@ public class PeerPressureVertexProgram extends StaticVertexProgram<Pair<Serializ
             return this;
         }
 
+        /**
+         * Seed the vertices with the clusters of a previous computation (i.e. the existing values of the
+         * {@link #property(String)}) so that only the clusters affected by changes to the graph have to be revoted.
+         */
+        public Builder incremental(final boolean incremental) {
+            this.configuration.setProperty(INCREMENTAL, incremental);
+            return this;
+        }
+
         public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
             PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
             return this;
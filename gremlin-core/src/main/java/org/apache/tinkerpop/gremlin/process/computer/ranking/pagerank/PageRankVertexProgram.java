@@ -21,12 +21,14 @@ package org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
 import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -59,6 +61,9 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private static final String TOTAL_ITERATIONS = "gremlin.pageRankVertexProgram.totalIterations";
     private static final String EDGE_TRAVERSAL = "gremlin.pageRankVertexProgram.edgeTraversal";
     private static final String INITIAL_RANK_TRAVERSAL = "gremlin.pageRankVertexProgram.initialRankTraversal";
+    private static final String EPSILON = "gremlin.pageRankVertexProgram.epsilon";
+    private static final String RESIDUAL = "gremlin.pageRankVertexProgram.residual";
+    private static final String CONVERGED = "gremlin.pageRankVertexProgram.converged";
 
     private MessageScope.Local<Double> incidentMessageScope = MessageScope.Local.of(__::outE);
     private MessageScope.Local<Double> countMessageScope = MessageScope.Local.of(new MessageScope.Local.ReverseTraversalSupplier(this.incidentMessageScope));
@@ -67,8 +72,10 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
     private double vertexCountAsDouble = 1.0d;
     private double alpha = 0.85d;
     private int totalIterations = 30;
+    private double epsilon = 0.0d;
     private String property = PAGE_RANK;
     private Set<VertexComputeKey> vertexComputeKeys;
+    private Set<MemoryComputeKey> memoryComputeKeys;
 
     private PageRankVertexProgram() {
 
@@ -86,8 +93,14 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
         this.alpha = configuration.getDouble(ALPHA, 0.85d);
         this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0d);
         this.property = configuration.getString(PROPERTY, PAGE_RANK);
         this.vertexComputeKeys = new HashSet<>(Arrays.asList(VertexComputeKey.of(this.property, false), VertexComputeKey.of(EDGE_COUNT, true)));
+        this.memoryComputeKeys = new HashSet<>();
+        if (this.epsilon > 0.0d) {
+            this.vertexComputeKeys.add(VertexComputeKey.of(RESIDUAL, true));
+            this.memoryComputeKeys.add(MemoryComputeKey.of(CONVERGED, Operator.and, false, true));
+        }
     }
 
     @Override
@@ -96,6 +109,7 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         configuration.setProperty(VERTEX_COUNT, this.vertexCountAsDouble);
         configuration.setProperty(ALPHA, this.alpha);
         configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
+        configuration.setProperty(EPSILON, this.epsilon);
         configuration.setProperty(PROPERTY, this.property);
         if (null != this.edgeTraversal)
             this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
@@ -118,6 +132,11 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
         return this.vertexComputeKeys;
     }
 
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return this.memoryComputeKeys;
+    }
+
     @Override
     public Optional<MessageCombiner<Double>> getMessageCombiner() {
         return (Optional) PageRankMessageCombiner.instance();
@@ -144,7 +163,8 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
 
     @Override
     public void setup(final Memory memory) {
-
+        if (this.epsilon > 0.0d)
+            memory.set(CONVERGED, true);
     }
 
     @Override
@@ -155,28 +175,62 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             double initialPageRank = (null == this.initialRankTraversal ?
                     1.0d :
                     TraversalUtil.apply(vertex, this.initialRankTraversal.get()).doubleValue()) / this.vertexCountAsDouble;
+            // the fixed point does not depend on the initial ranks and thus, a previous computation is a good seed
+            if (this.epsilon > 0.0d)
+                initialPageRank = vertex.<Double>property(this.property).orElse(initialPageRank);
             double edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
             vertex.property(VertexProperty.Cardinality.single, this.property, initialPageRank);
             vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
-            if (!this.terminate(memory)) // don't send messages if this is the last iteration
+            if (!this.lastIteration(memory)) // don't send messages if this is the last iteration
                 messenger.sendMessage(this.incidentMessageScope, initialPageRank / edgeCount);
+        } else if (this.epsilon > 0.0d) {
+            // the first ranking iteration receives the ranks of the adjacent vertices and yields the residual of the
+            // initial rank while all later iterations only receive the rank changes of the adjacent vertices
+            final double pageRank = vertex.<Double>value(this.property);
+            final double incoming = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            final double delta = 2 == memory.getIteration() ?
+                    (this.alpha * incoming) + ((1.0d - this.alpha) / this.vertexCountAsDouble) - pageRank :
+                    this.alpha * incoming;
+            if (0.0d != delta)
+                vertex.property(VertexProperty.Cardinality.single, this.property, pageRank + delta);
+            // a rank change is only propagated once it is larger than epsilon and thus, only the neighborhood of the
+            // vertices whose rank changed is active
+            final double residual = vertex.<Double>property(RESIDUAL).orElse(0.0d) + delta;
+            if (Math.abs(residual) > this.epsilon && !this.lastIteration(memory)) {
+                vertex.property(VertexProperty.Cardinality.single, RESIDUAL, 0.0d);
+                messenger.sendMessage(this.incidentMessageScope, residual / vertex.<Double>value(EDGE_COUNT));
+                memory.add(CONVERGED, false);
+            } else
+                vertex.property(VertexProperty.Cardinality.single, RESIDUAL, residual);
         } else {
             double newPageRank = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
             newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
             vertex.property(VertexProperty.Cardinality.single, this.property, newPageRank);
-            if (!this.terminate(memory)) // don't send messages if this is the last iteration
+            if (!this.lastIteration(memory)) // don't send messages if this is the last iteration
                 messenger.sendMessage(this.incidentMessageScope, newPageRank / vertex.<Double>value(EDGE_COUNT));
         }
     }
 
     @Override
     public boolean terminate(final Memory memory) {
+        if (this.lastIteration(memory))
+            return true;
+        else if (this.epsilon > 0.0d && memory.getIteration() > 1) {
+            final boolean converged = memory.<Boolean>get(CONVERGED);
+            memory.set(CONVERGED, true);
+            return converged;
+        } else
+            return false;
+    }
+
+    private boolean lastIteration(final Memory memory) {
         return memory.getIteration() >= this.totalIterations;
     }
 
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ", iterations=" + this.totalIterations +
+                (this.epsilon > 0.0d ? ", epsilon=" + this.epsilon : ""));
     }
 
     //////////////////////////////
@@ -201,6 +255,17 @@ public class PageRankVertexProgram implements VertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Terminate once no vertex rank changes by more than {@code epsilon} (or once the iterations are exhausted).
+         * Only the rank changes are propagated and a vertex whose rank is already known from a previous computation
+         * (i.e. it has a value for the {@link #property(String)}) starts from that rank. Thus, re-ranking a graph after
+         * a small change only activates the neighborhood of the changed elements.
+         */
+        public Builder epsilon(final double epsilon) {
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
         public Builder property(final String key) {
             this.configuration.setProperty(PROPERTY, key);
             return this;
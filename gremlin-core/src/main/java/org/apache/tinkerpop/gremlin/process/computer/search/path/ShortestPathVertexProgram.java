@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
+import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.util.PureTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code ShortestPathVertexProgram} computes, for every target vertex, a shortest path from each source vertex that
+ * can reach it. It is a breadth-first search in which every source floods the graph with the path that reached a
+ * vertex. A vertex only records (and forwards) the first path it receives from a source, so each vertex is visited at
+ * most once per source and the program halts as soon as no vertex learns a new path (or {@code maxDistance} is
+ * reached). Paths are stored as lists of vertex ids on the target vertices in the {@link #PATHS} property.
+ * <p/>
+ * Unlike {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep}, which searches between a
+ * single source and its targets and can meet in the middle, this program computes the paths from every source to
+ * every target at once, so each vertex holds the path of every source that reached it and memory grows with the
+ * number of vertices times the number of sources. Use {@link Builder#source(Traversal.Admin)} and
+ * {@link Builder#maxDistance(int)} to bound that state on large graphs. When several shortest paths from a source
+ * reach a vertex in the same iteration, the one with the smallest vertex ids (compared position by position) is kept.
+ */
+public class ShortestPathVertexProgram extends StaticVertexProgram<List<Object>> {
+
+    private MessageScope.Local<?> pathScope = MessageScope.Local.of(__::outE);
+    private final Set<MessageScope> pathScopes = new HashSet<>(Collections.singletonList(this.pathScope));
+
+    public static final String PATHS = "gremlin.shortestPathVertexProgram.paths";
+    private static final String VISITED = "gremlin.shortestPathVertexProgram.visited";
+    private static final String SOURCE_TRAVERSAL = "gremlin.shortestPathVertexProgram.sourceTraversal";
+    private static final String TARGET_TRAVERSAL = "gremlin.shortestPathVertexProgram.targetTraversal";
+    private static final String EDGE_TRAVERSAL = "gremlin.shortestPathVertexProgram.edgeTraversal";
+    private static final String MAX_DISTANCE = "gremlin.shortestPathVertexProgram.maxDistance";
+    private static final String PROPERTY = "gremlin.shortestPathVertexProgram.property";
+    private static final String VOTE_TO_HALT = "gremlin.shortestPathVertexProgram.voteToHalt";
+
+    private PureTraversal<Vertex, Edge> edgeTraversal = null;
+    private PureTraversal<Vertex, ?> sourceTraversal = null;
+    private PureTraversal<Vertex, ?> targetTraversal = null;
+    private int maxDistance = Integer.MAX_VALUE;
+    private String property = PATHS;
+
+    private static final Set<MemoryComputeKey> MEMORY_COMPUTE_KEYS = Collections.singleton(MemoryComputeKey.of(VOTE_TO_HALT, Operator.and, false, true));
+
+    private ShortestPathVertexProgram() {
+
+    }
+
+    @Override
+    public void loadState(final Graph graph, final Configuration configuration) {
+        if (configuration.containsKey(SOURCE_TRAVERSAL))
+            this.sourceTraversal = PureTraversal.loadState(configuration, SOURCE_TRAVERSAL, graph);
+        if (configuration.containsKey(TARGET_TRAVERSAL))
+            this.targetTraversal = PureTraversal.loadState(configuration, TARGET_TRAVERSAL, graph);
+        if (configuration.containsKey(EDGE_TRAVERSAL)) {
+            this.edgeTraversal = PureTraversal.loadState(configuration, EDGE_TRAVERSAL, graph);
+            this.pathScope = MessageScope.Local.of(() -> this.edgeTraversal.get().clone());
+            this.pathScopes.clear();
+            this.pathScopes.add(this.pathScope);
+        }
+        this.property = configuration.getString(PROPERTY, PATHS);
+        this.maxDistance = configuration.getInt(MAX_DISTANCE, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void storeState(final Configuration configuration) {
+        super.storeState(configuration);
+        configuration.setProperty(PROPERTY, this.property);
+        configuration.setProperty(MAX_DISTANCE, this.maxDistance);
+        if (null != this.edgeTraversal)
+            this.edgeTraversal.storeState(configuration, EDGE_TRAVERSAL);
+        if (null != this.sourceTraversal)
+            this.sourceTraversal.storeState(configuration, SOURCE_TRAVERSAL);
+        if (null != this.targetTraversal)
+            this.targetTraversal.storeState(configuration, TARGET_TRAVERSAL);
+    }
+
+    @Override
+    public Set<VertexComputeKey> getVertexComputeKeys() {
+        return new HashSet<>(Arrays.asList(VertexComputeKey.of(this.property, false), VertexComputeKey.of(VISITED, true)));
+    }
+
+    @Override
+    public Set<MemoryComputeKey> getMemoryComputeKeys() {
+        return MEMORY_COMPUTE_KEYS;
+    }
+
+    @Override
+    public Set<MessageScope> getMessageScopes(final Memory memory) {
+        return this.pathScopes;
+    }
+
+    @Override
+    public GraphComputer.ResultGraph getPreferredResultGraph() {
+        return GraphComputer.ResultGraph.NEW;
+    }
+
+    @Override
+    public GraphComputer.Persist getPreferredPersist() {
+        return GraphComputer.Persist.VERTEX_PROPERTIES;
+    }
+
+    @Override
+    public void setup(final Memory memory) {
+        memory.set(VOTE_TO_HALT, false);
+    }
+
+    @Override
+    public void execute(final Vertex vertex, final Messenger<List<Object>> messenger, final Memory memory) {
+        if (memory.isInitialIteration()) {
+            if (null == this.sourceTraversal || TraversalUtil.test(vertex, this.sourceTraversal.get())) {
+                final List<Object> path = new ArrayList<>(Collections.singletonList(vertex.id()));
+                final Map<Object, List<Object>> visited = new HashMap<>();
+                visited.put(vertex.id(), path);
+                vertex.property(VertexProperty.Cardinality.single, VISITED, visited);
+                if (this.maxDistance > 0) {
+                    messenger.sendMessage(this.pathScope, path);
+                    memory.add(VOTE_TO_HALT, false);
+                }
+            }
+        } else {
+            final Map<Object, List<Object>> visited = vertex.<Map<Object, List<Object>>>property(VISITED).orElseGet(HashMap::new);
+            // of all the paths that reach this vertex first from a particular source, keep the smallest for determinism
+            final Map<Object, List<Object>> candidates = new HashMap<>();
+            messenger.receiveMessages().forEachRemaining(path -> {
+                final Object source = path.get(0);
+                if (!visited.containsKey(source)) {
+                    final List<Object> candidate = candidates.get(source);
+                    if (null == candidate || comparePaths(candidate, path) > 0)
+                        candidates.put(source, path);
+                }
+            });
+            if (candidates.isEmpty())
+                return;
+            for (final List<Object> candidate : candidates.values()) {
+                final List<Object> path = new ArrayList<>(candidate);
+                path.add(vertex.id());
+                visited.put(path.get(0), path);
+                if (path.size() - 1 < this.maxDistance)
+                    messenger.sendMessage(this.pathScope, path);
+            }
+            vertex.property(VertexProperty.Cardinality.single, VISITED, visited);
+            if (null == this.targetTraversal || TraversalUtil.test(vertex, this.targetTraversal.get())) {
+                final List<List<Object>> paths = new ArrayList<>();
+                for (final List<Object> path : visited.values()) {
+                    if (path.size() > 1)
+                        paths.add(path);
+                }
+                vertex.property(VertexProperty.Cardinality.single, this.property, paths);
+            }
+            memory.add(VOTE_TO_HALT, false);
+        }
+    }
+
+    /**
+     * Orders paths by their length and then by their vertex ids so that the path kept for a source does not depend on
+     * the order in which messages arrive.
+     */
+    private static int comparePaths(final List<Object> a, final List<Object> b) {
+        if (a.size() != b.size())
+            return Integer.compare(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            final int comparison = compareIds(a.get(i), b.get(i));
+            if (0 != comparison)
+                return comparison;
+        }
+        return 0;
+    }
+
+    private static int compareIds(final Object a, final Object b) {
+        if (a instanceof Comparable && null != b && a.getClass().equals(b.getClass()))
+            return ((Comparable) a).compareTo(b);
+        // ids of different types (or that are not comparable) are ordered by type and then by their string form
+        final int comparison = a.getClass().getName().compareTo(b.getClass().getName());
+        return 0 != comparison ? comparison : a.toString().compareTo(b.toString());
+    }
+
+    @Override
+    public boolean terminate(final Memory memory) {
+        final boolean voteToHalt = memory.<Boolean>get(VOTE_TO_HALT) || memory.getIteration() >= this.maxDistance;
+        if (voteToHalt) {
+            return true;
+        } else {
+            memory.set(VOTE_TO_HALT, true);
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.vertexProgramString(this, "maxDistance=" + this.maxDistance);
+    }
+
+    //////////////////////////////
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public static final class Builder extends AbstractVertexProgramBuilder<Builder> {
+
+
+        private Builder() {
+            super(ShortestPathVertexProgram.class);
+        }
+
+        public Builder property(final String key) {
+            this.configuration.setProperty(PROPERTY, key);
+            return this;
+        }
+
+        /**
+         * The maximum number of edges a shortest path may have.
+         */
+        public Builder maxDistance(final int distance) {
+            this.configuration.setProperty(MAX_DISTANCE, distance);
+            return this;
+        }
+
+        /**
+         * The edges that paths may traverse (default {@code __.outE()}).
+         */
+        public Builder edges(final Traversal.Admin<Vertex, Edge> edgeTraversal) {
+            PureTraversal.storeState(this.configuration, EDGE_TRAVERSAL, edgeTraversal);
+            return this;
+        }
+
+        /**
+         * A filter on the vertices that paths start from (default all vertices).
+         */
+        public Builder source(final Traversal.Admin<Vertex, ?> sourceTraversal) {
+            PureTraversal.storeState(this.configuration, SOURCE_TRAVERSAL, sourceTraversal);
+            return this;
+        }
+
+        /**
+         * A filter on the vertices that paths end at and that store them (default all vertices).
+         */
+        public Builder target(final Traversal.Admin<Vertex, ?> targetTraversal) {
+            PureTraversal.storeState(this.configuration, TARGET_TRAVERSAL, targetTraversal);
+            return this;
+        }
+    }
+
+    ////////////////////////////
+
+    @Override
+    public Features getFeatures() {
+        return new Features() {
+            @Override
+            public boolean requiresLocalMessageScopes() {
+                return true;
+            }
+
+            @Override
+            public boolean requiresVertexPropertyAddition() {
+                return true;
+            }
+        };
+    }
+}
@@ -34,7 +34,15 @@ public final class TraversalVertexProgramMessageCombiner implements MessageCombi
 
     }
 
+    /**
+     * Merges the smaller message into the larger one. Equal traversers are merged by adding their bulks and thus the
+     * traversers of the larger message are neither copied nor rehashed.
+     */
     public TraverserSet<Object> combine(final TraverserSet<Object> messageA, final TraverserSet<Object> messageB) {
+        if (messageA.size() < messageB.size()) {
+            messageB.addAll(messageA);
+            return messageB;
+        }
         messageA.addAll(messageB);
         return messageA;
     }
@@ -49,10 +49,16 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
     private String pageRankProperty = PageRankVertexProgram.PAGE_RANK;
     private int times = 30;
     private final double alpha;
+    private final double epsilon;
 
     public PageRankVertexProgramStep(final Traversal.Admin traversal, final double alpha) {
+        this(traversal, alpha, 0.0d);
+    }
+
+    public PageRankVertexProgramStep(final Traversal.Admin traversal, final double alpha, final double epsilon) {
         super(traversal);
         this.alpha = alpha;
+        this.epsilon = epsilon;
         this.modulateBy(__.<Vertex>outE().asAdmin());
     }
 
@@ -91,6 +97,8 @@ public final class PageRankVertexProgramStep extends VertexProgramStep implement
                 .iterations(this.times + 1)
                 .alpha(this.alpha)
                 .edges(detachedTraversal);
+        if (this.epsilon > 0.0d)
+            builder.epsilon(this.epsilon);
         if (this.previousTraversalVertexProgram())
             builder.initialRank(new HaltedTraversersCountTraversal());
         return builder.create(graph);
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.util;
+
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@code WorkerMemory} is the {@link Memory} of a single worker during
+ * {@link org.apache.tinkerpop.gremlin.process.computer.VertexProgram#execute}. The values added by the worker are
+ * reduced into a local buffer with the reducer of their {@link MemoryComputeKey} and {@link #complete()} adds the
+ * buffered values to the base memory once per key. As values added during an iteration can not be read before the
+ * next iteration, this does not change the semantics of the memory but it avoids that all workers contend on the
+ * base memory for every vertex. The worker memory is not thread-safe and must not be shared between workers.
+ */
+public final class WorkerMemory implements Memory {
+
+    private final Memory baseMemory;
+    private final Map<String, MemoryComputeKey> memoryComputeKeys;
+    private final Map<String, Object> localMemory = new HashMap<>();
+
+    public WorkerMemory(final Memory baseMemory, final Map<String, MemoryComputeKey> memoryComputeKeys) {
+        this.baseMemory = baseMemory;
+        this.memoryComputeKeys = memoryComputeKeys;
+    }
+
+    @Override
+    public Set<String> keys() {
+        return this.baseMemory.keys();
+    }
+
+    @Override
+    public <R> R get(final String key) throws IllegalArgumentException {
+        return this.baseMemory.get(key);
+    }
+
+    @Override
+    public void set(final String key, final Object value) {
+        this.baseMemory.set(key, value);
+    }
+
+    @Override
+    public void add(final String key, final Object value) {
+        final MemoryComputeKey memoryComputeKey = this.memoryComputeKeys.get(key);
+        if (null == memoryComputeKey)
+            throw GraphComputer.Exceptions.providedKeyIsNotAMemoryComputeKey(key);
+        MemoryHelper.validateValue(value);
+        this.localMemory.compute(key, (k, v) -> null == v ? value : memoryComputeKey.getReducer().apply(v, value));
+    }
+
+    @Override
+    public int getIteration() {
+        return this.baseMemory.getIteration();
+    }
+
+    @Override
+    public long getRuntime() {
+        return this.baseMemory.getRuntime();
+    }
+
+    /**
+     * Adds the locally reduced values to the base memory and clears the local buffer.
+     */
+    public void complete() {
+        this.localMemory.forEach(this.baseMemory::add);
+        this.localMemory.clear();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.memoryString(this.baseMemory);
+    }
+}
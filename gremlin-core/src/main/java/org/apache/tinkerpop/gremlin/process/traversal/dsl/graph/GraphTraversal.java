@@ -1368,6 +1368,11 @@ public interface GraphTraversal<S, E> extends Traversal<S, E> {
         return this.asAdmin().addStep((Step<E, E>) new PageRankVertexProgramStep(this.asAdmin(), alpha));
     }
 
+    public default GraphTraversal<S, E> pageRank(final double alpha, final double epsilon) {
+        this.asAdmin().getBytecode().addStep(Symbols.pageRank, alpha, epsilon);
+        return this.asAdmin().addStep((Step<E, E>) new PageRankVertexProgramStep(this.asAdmin(), alpha, epsilon));
+    }
+
     public default GraphTraversal<S, E> peerPressure() {
         this.asAdmin().getBytecode().addStep(Symbols.peerPressure);
         return this.asAdmin().addStep((Step<E, E>) new PeerPressureVertexProgramStep(this.asAdmin()));
@@ -34,6 +34,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEn
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.InjectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.RequirementsStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -75,6 +76,7 @@ public class GraphTraversalSource implements TraversalSource {
 
         public static final String withBulk = "withBulk";
         public static final String withPath = "withPath";
+        public static final String withParallelism = "withParallelism";
 
     }
 
@@ -230,6 +232,20 @@ public class GraphTraversalSource implements TraversalSource {
         return clone;
     }
 
+    /**
+     * Traverse the elements of {@code g.V()} and {@code g.E()} in {@code parallelism} concurrent splits up to the first
+     * reducing barrier or {@code order()} if the graph is a
+     * {@link org.apache.tinkerpop.gremlin.structure.util.ParallelScanProvider} (see {@link ParallelStrategy}).
+     */
+    public GraphTraversalSource withParallelism(final int parallelism) {
+        if (parallelism <= 1)
+            return this;
+        final GraphTraversalSource clone = this.clone();
+        clone.getStrategies().addStrategies(ParallelStrategy.build().parallelism(parallelism).create());
+        clone.bytecode.addSource(Symbols.withParallelism, parallelism);
+        return clone;
+    }
+
     @Override
     public GraphTraversalSource withRemote(final Configuration conf) {
         return (GraphTraversalSource) TraversalSource.super.withRemote(conf);
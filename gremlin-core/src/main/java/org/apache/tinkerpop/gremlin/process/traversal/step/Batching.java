@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+
+/**
+ * A {@code Batching} step can process a set of traversers at once instead of one traverser at a time. When batch
+ * mode is enabled (see {@link #setBatchSize(int)}), the step drains up to batch size traversers from its starts and
+ * hands them to {@link #processNextBatch(TraverserSet, TraverserSet)} which allows a provider to, for instance,
+ * fetch the adjacency of all the vertices in the batch with a single call to its storage layer.
+ * Batch mode is off by default as a batch is processed ahead of demand and merges equal traversers, which changes the
+ * order of the results. {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy}
+ * enables it on every run of at least two consecutive steps that {@link #supportsBatching()} in an OLTP traversal.
+ */
+public interface Batching<S, E> {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    /**
+     * Process all the traversers of {@code in} and add the resultant traversers to {@code out}.
+     */
+    public void processNextBatch(final TraverserSet<S> in, final TraverserSet<E> out);
+
+    /**
+     * Set the maximum number of traversers to process at once. A batch size of {@code 0} disables batch mode.
+     */
+    public void setBatchSize(final int batchSize);
+
+    public int getBatchSize();
+
+    /**
+     * Whether the step yields the same results in batch mode. Steps that mutate the graph, evaluate user lambdas,
+     * process path labels, are barriers or end the traversal early are processed one traverser at a time.
+     */
+    public default boolean supportsBatching() {
+        return !(this instanceof Mutating ||
+                this instanceof LambdaHolder ||
+                this instanceof PathProcessor ||
+                this instanceof Barrier ||
+                this instanceof Ranging);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.branch;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.util.ParallelScanProvider;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * A {@code ParallelStep} wraps a traversal that starts with a {@link GraphStep} and ends with a {@link Barrier} (see
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy}). The elements of the
+ * {@link GraphStep} are split by the {@link ParallelScanProvider} of the graph, a clone of the wrapped traversal
+ * processes each split in the common {@link ForkJoinPool} and the partial barriers of the clones are merged with
+ * {@link Barrier#addBarrier(Object)} as they would be by a {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer}.
+ */
+public final class ParallelStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private Traversal.Admin<S, E> parallelTraversal;
+    private final int parallelism;
+    private Step<?, E> barrier = null;
+
+    public ParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> parallelTraversal, final int parallelism) {
+        super(traversal);
+        this.parallelTraversal = this.integrateChild(parallelTraversal);
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    @Override
+    public List<Traversal.Admin<S, E>> getGlobalChildren() {
+        return Collections.singletonList(this.parallelTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.parallelTraversal.getTraverserRequirements();
+    }
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() throws NoSuchElementException {
+        if (null == this.barrier)
+            this.barrier = this.fork();
+        return this.barrier.next();
+    }
+
+    /**
+     * Processes the splits of the wrapped traversal and returns a barrier holding their merged results.
+     */
+    private Step<?, E> fork() {
+        final ParallelScanProvider provider = this.getTraversal().getGraph().flatMap(ParallelScanProvider::of).orElse(null);
+        if (null == provider)
+            return this.parallelTraversal.getEndStep();
+
+        final List<ForkJoinTask<Object>> tasks = new ArrayList<>();
+        for (final Iterator<Element> split : provider.split((GraphStep<?, Element>) this.parallelTraversal.getStartStep(), this.parallelism)) {
+            final Traversal.Admin<S, E> fork = this.parallelTraversal.clone();
+            ((GraphStep<?, Element>) fork.getStartStep()).setIteratorSupplier(() -> split);
+            tasks.add(ForkJoinPool.commonPool().submit(() -> ParallelStep.partialBarrier(fork.getEndStep())));
+        }
+
+        final Step<?, E> barrier = this.parallelTraversal.getEndStep().clone();
+        barrier.setTraversal(this.parallelTraversal);
+        if (barrier instanceof CollectingBarrierStep) {
+            // collecting barriers replace their traversers on addBarrier() so the partial barriers are merged first
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            for (final ForkJoinTask<Object> task : tasks) {
+                traverserSet.addAll((TraverserSet<Object>) task.join());
+            }
+            ((Barrier) barrier).addBarrier(traverserSet);
+        } else {
+            for (final ForkJoinTask<Object> task : tasks) {
+                final Object partialBarrier = task.join();
+                if (null != partialBarrier)
+                    ((Barrier) barrier).addBarrier(partialBarrier);
+            }
+        }
+        return barrier;
+    }
+
+    private static Object partialBarrier(final Step<?, ?> endStep) {
+        if (endStep instanceof CollectingBarrierStep) {
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            endStep.forEachRemaining(traverser -> traverserSet.add((Traverser.Admin<Object>) traverser));
+            return traverserSet;
+        }
+        final Barrier<?> barrier = (Barrier<?>) endStep;
+        return barrier.hasNextBarrier() ? barrier.nextBarrier() : null;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.barrier = null;
+        this.parallelTraversal.reset();
+    }
+
+    @Override
+    public ParallelStep<S, E> clone() {
+        final ParallelStep<S, E> clone = (ParallelStep<S, E>) super.clone();
+        clone.parallelTraversal = this.parallelTraversal.clone();
+        clone.barrier = null;
+        return clone;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.integrateChild(this.parallelTraversal);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.parallelism, this.parallelTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.parallelTraversal.hashCode() ^ this.parallelism;
+    }
+}
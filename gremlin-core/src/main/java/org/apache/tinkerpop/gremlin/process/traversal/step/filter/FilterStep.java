@@ -20,12 +20,15 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.filter;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class FilterStep<S> extends AbstractStep<S, S> {
+public abstract class FilterStep<S> extends AbstractStep<S, S> implements Batching<S, S> {
 
     public FilterStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -37,8 +40,27 @@ public abstract class FilterStep<S> extends AbstractStep<S, S> {
             final Traverser.Admin<S> traverser = this.starts.next();
             if (this.filter(traverser))
                 return traverser;
+            this.recycleFiltered(traverser);
         }
     }
 
+    @Override
+    public void processNextBatch(final TraverserSet<S> in, final TraverserSet<S> out) {
+        for (final Traverser.Admin<S> traverser : in) {
+            if (!this.filter(traverser))
+                this.recycleFiltered(traverser);
+            else
+                this.addToBatch(out, traverser);
+        }
+    }
+
+    /**
+     * Recycles a filtered traverser unless a user lambda may have kept a reference to it.
+     */
+    protected void recycleFiltered(final Traverser.Admin<S> traverser) {
+        if (!(this instanceof LambdaHolder))
+            this.recycle(traverser);
+    }
+
     protected abstract boolean filter(final Traverser.Admin<S> traverser);
 }
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
@@ -54,6 +55,26 @@ public class HasStep<S extends Element> extends FilterStep<S> implements HasCont
         return HasContainer.testAll(traverser.get(), this.hasContainers);
     }
 
+    /**
+     * Only this class is batched as its batch loop does not call {@code filter()} and would thus bypass the overrides of a
+     * provider subclass.
+     */
+    @Override
+    public boolean supportsBatching() {
+        return HasStep.class == this.getClass();
+    }
+
+    @Override
+    public void processNextBatch(final TraverserSet<S> in, final TraverserSet<S> out) {
+        final List<HasContainer> hasContainers = this.hasContainers;
+        for (final Traverser.Admin<S> traverser : in) {
+            if (HasContainer.testAll(traverser.get(), hasContainers))
+                this.addToBatch(out, traverser);
+            else
+                this.recycle(traverser);
+        }
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this, this.hasContainers);
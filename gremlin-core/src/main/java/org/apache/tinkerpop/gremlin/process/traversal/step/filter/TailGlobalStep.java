@@ -56,6 +56,10 @@ public final class TailGlobalStep<S> extends AbstractStep<S, S> implements Bypas
         this.bypass = bypass;
     }
 
+    public long getLimit() {
+        return this.limit;
+    }
+
     @Override
     public Traverser.Admin<S> processNextStart() {
         if (this.bypass) {
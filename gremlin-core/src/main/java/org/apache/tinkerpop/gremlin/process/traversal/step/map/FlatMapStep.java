@@ -20,7 +20,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 
 import java.util.Iterator;
@@ -28,7 +30,7 @@ import java.util.Iterator;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
+public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> implements Batching<S, E> {
 
     private Traverser.Admin<S> head = null;
     private Iterator<E> iterator = EmptyIterator.instance();
@@ -49,6 +51,16 @@ public abstract class FlatMapStep<S, E> extends AbstractStep<S, E> {
         }
     }
 
+    @Override
+    public void processNextBatch(final TraverserSet<S> in, final TraverserSet<E> out) {
+        for (final Traverser.Admin<S> traverser : in) {
+            final Iterator<E> iterator = this.flatMap(traverser);
+            while (iterator.hasNext()) {
+                this.addToBatch(out, traverser.split(iterator.next(), this));
+            }
+        }
+    }
+
     protected abstract Iterator<E> flatMap(final Traverser.Admin<S> traverser);
 
     @Override
@@ -94,6 +94,10 @@ public class GraphStep<S, E extends Element> extends AbstractStep<S, E> implemen
         this.iteratorSupplier = iteratorSupplier;
     }
 
+    public Supplier<Iterator<E>> getIteratorSupplier() {
+        return this.iteratorSupplier;
+    }
+
     public Object[] getIds() {
         return this.ids;
     }
@@ -35,7 +35,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserPartitions;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -43,12 +45,14 @@ import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -59,10 +63,16 @@ import java.util.function.BinaryOperator;
  */
 public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>> implements ByModulating, TraversalParent {
 
+    // the number of partition files the traversers are hashed into by key once the spill threshold is reached
+    private static final int SPILL_PARTITIONS = 16;
+
     private char state = 'k';
     private Traversal.Admin<S, K> keyTraversal = null;
     private Traversal.Admin<S, ?> preTraversal;
     private Traversal.Admin<S, V> valueTraversal;
+    private long spillThreshold = Long.MAX_VALUE;
+    private File spillDirectory = null;
+    private boolean spilled = false;
 
     public GroupStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -87,6 +97,73 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
         }
     }
 
+    @Override
+    protected Map<K, V> reduceStarts(Map<K, V> seed) {
+        if (Long.MAX_VALUE == this.spillThreshold || !TraverserSpill.canSpill(this.getTraversal()))
+            return super.reduceStarts(seed);
+        long count = 0;
+        TraverserPartitions<S> partitions = null;
+        try {
+            while (this.starts.hasNext()) {
+                final Traverser.Admin<S> traverser = this.starts.next();
+                if (null != partitions)
+                    partitions.add(partitions.partitionOf(TraversalUtil.applyNullable(traverser, this.keyTraversal)), traverser);
+                else {
+                    seed = this.reducingBiOperator.apply(seed, this.projectTraverser(traverser));
+                    if (++count >= this.spillThreshold && this.starts.hasNext())
+                        partitions = new TraverserPartitions<>(TraverserSpill.getMapper(this.getTraversal()), this.spillDirectory, SPILL_PARTITIONS,
+                                t -> TraverserSpill.reattach(this.getTraversal(), t));
+                }
+            }
+            return null == partitions ? seed : this.reducePartitions(seed, partitions);
+        } finally {
+            if (null != partitions)
+                partitions.close();
+        }
+    }
+
+    /**
+     * Splits the in-memory groups by partition and then, one partition at a time, reduces the spilled traversers of
+     * the partition into its groups. As every traverser of a key is in the same partition, the groups of a partition
+     * are complete once it is read and are given their final reduction before the next partition is read.
+     */
+    private Map<K, V> reducePartitions(final Map<K, V> seed, final TraverserPartitions<S> partitions) {
+        final List<Map<K, V>> inMemory = new ArrayList<>(partitions.getPartitionCount());
+        for (int i = 0; i < partitions.getPartitionCount(); i++) {
+            inMemory.add(new HashMap<>());
+        }
+        for (final Map.Entry<K, V> entry : seed.entrySet()) {
+            inMemory.get(partitions.partitionOf(entry.getKey())).put(entry.getKey(), entry.getValue());
+        }
+        seed.clear();
+        final Map<K, V> result = new HashMap<>();
+        for (int i = 0; i < partitions.getPartitionCount(); i++) {
+            Map<K, V> partition = inMemory.set(i, null);
+            final Iterator<Traverser.Admin<S>> traversers = partitions.read(i);
+            while (traversers.hasNext()) {
+                partition = this.reducingBiOperator.apply(partition, this.projectTraverser(traversers.next()));
+            }
+            result.putAll(GroupStep.doFinalReduction((Map<K, Object>) partition, this.valueTraversal));
+        }
+        this.spilled = true;
+        return result;
+    }
+
+    /**
+     * Once the number of traversers reduced by this step reaches the {@code spillThreshold}, the remaining traversers
+     * are written to temporary partition files in the {@code spillDirectory} by the hash of their key and each partition
+     * is reduced separately. The threshold is a count of traversers rather than a size in bytes. Spilling only occurs
+     * in OLTP and only if the traversal does not track paths, as paths are not re-attached when read back.
+     */
+    public void setSpill(final long spillThreshold, final File spillDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    public long getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
     @Override
     public Map<K, V> projectTraverser(final Traverser.Admin<S> traverser) {
         final Map<K, V> map = new HashMap<>(1);
@@ -128,6 +205,8 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
             clone.keyTraversal = this.keyTraversal.clone();
         clone.valueTraversal = this.valueTraversal.clone();
         clone.preTraversal = this.integrateChild(GroupStep.generatePreTraversal(clone.valueTraversal));
+        clone.setReducingBiOperator(new GroupBiOperator<>(clone.valueTraversal));
+        clone.spilled = false;
         return clone;
     }
 
@@ -149,9 +228,20 @@ public final class GroupStep<S, K, V> extends ReducingBarrierStep<S, Map<K, V>>
 
     @Override
     public Map<K, V> generateFinalResult(final Map<K, V> object) {
+        if (this.spilled) {
+            // the groups were already given their final reduction partition by partition
+            this.spilled = false;
+            return object;
+        }
         return GroupStep.doFinalReduction((Map<K, Object>) object, this.valueTraversal);
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.spilled = false;
+    }
+
     ///////////////////////
 
     public static final class GroupBiOperator<K, V> implements BinaryOperator<Map<K, V>>, Serializable {
@@ -20,12 +20,14 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public abstract class MapStep<S, E> extends AbstractStep<S, E> {
+public abstract class MapStep<S, E> extends AbstractStep<S, E> implements Batching<S, E> {
 
     public MapStep(final Traversal.Admin traversal) {
         super(traversal);
@@ -37,6 +39,13 @@ public abstract class MapStep<S, E> extends AbstractStep<S, E> {
         return traverser.split(this.map(traverser), this);
     }
 
+    @Override
+    public void processNextBatch(final TraverserSet<S> in, final TraverserSet<E> out) {
+        for (final Traverser.Admin<S> traverser : in) {
+            this.addToBatch(out, traverser.split(this.map(traverser), this));
+        }
+    }
+
     protected abstract E map(final Traverser.Admin<S> traverser);
 
 }
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
@@ -35,6 +36,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversal
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ComputerAwareStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ProfileStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ConnectiveStrategy;
@@ -42,8 +44,12 @@ import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.Path
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.GraphStatistics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.PathUtil;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
@@ -780,9 +786,73 @@ public final class MatchStep<S, E> extends ComputerAwareStep<S, Map<String, E>>
                 this.multiplicity = 0.0d;
             }
 
-            public final void incrementEndCount() {
+            public void incrementEndCount() {
                 this.multiplicity = (double) ++this.endsCount / (double) this.startsCount;
             }
         }
     }
+
+    /**
+     * {@code CostMatchAlgorithm} is a {@link CountMatchAlgorithm} that, when the graph provides {@link GraphStatistics},
+     * orders the patterns up front by an estimate of the number of traversers each pattern yields per traverser that
+     * enters it. The estimate is derived from the average degree of the traversed edge labels and the selectivity of
+     * the {@code has()}-tests of the pattern. As traversers flow through the patterns, the observed multiplicity
+     * progressively outweighs the estimate (which counts as {@link #PRIOR_WEIGHT} observations).
+     */
+    public static class CostMatchAlgorithm extends CountMatchAlgorithm {
+
+        public static final double PRIOR_WEIGHT = 100.0d;
+
+        @Override
+        public void initialize(final TraversalEngine.Type traversalEngineType, final List<Traversal.Admin<Object, Object>> traversals) {
+            final Optional<GraphStatistics> statistics = traversals.isEmpty() ?
+                    Optional.empty() :
+                    traversals.get(0).getGraph().flatMap(GraphStatistics::of);
+            if (!statistics.isPresent()) {
+                super.initialize(traversalEngineType, traversals);
+                return;
+            }
+            this.onComputer = traversalEngineType.equals(TraversalEngine.Type.COMPUTER);
+            this.bundles = traversals.stream().map(traversal -> new CostBundle(traversal, CostMatchAlgorithm.estimate(traversal, statistics.get()))).collect(Collectors.toList());
+            Collections.sort(this.bundles, Comparator.<Bundle>comparingInt(b -> b.traversalType.ordinal()).thenComparingDouble(b -> b.multiplicity));
+        }
+
+        /**
+         * Estimates the number of traversers the pattern yields per traverser that enters it.
+         */
+        public static double estimate(final Traversal.Admin<?, ?> traversal, final GraphStatistics statistics) {
+            double multiplicity = 1.0d;
+            Class<? extends Element> elementClass = Vertex.class;
+            for (final Step<?, ?> step : traversal.getSteps()) {
+                if (step instanceof VertexStep) {
+                    multiplicity = multiplicity * statistics.averageDegree(((VertexStep) step).getDirection(), ((VertexStep) step).getEdgeLabels());
+                    elementClass = ((VertexStep) step).getReturnClass();
+                } else if (step instanceof EdgeVertexStep || step instanceof EdgeOtherVertexStep) {
+                    if (step instanceof EdgeVertexStep && Direction.BOTH == ((EdgeVertexStep) step).getDirection())
+                        multiplicity = multiplicity * 2.0d;
+                    elementClass = Vertex.class;
+                } else if (step instanceof HasContainerHolder) {
+                    for (final HasContainer hasContainer : ((HasContainerHolder) step).getHasContainers()) {
+                        multiplicity = multiplicity * statistics.selectivity(elementClass, hasContainer);
+                    }
+                }
+            }
+            return multiplicity;
+        }
+
+        public class CostBundle extends Bundle {
+            public final double estimate;
+
+            public CostBundle(final Traversal.Admin<Object, Object> traversal, final double estimate) {
+                super(traversal);
+                this.estimate = estimate;
+                this.multiplicity = estimate;
+            }
+
+            @Override
+            public void incrementEndCount() {
+                this.multiplicity = ((this.estimate * PRIOR_WEIGHT) + ++this.endsCount) / (PRIOR_WEIGHT + this.startsCount);
+            }
+        }
+    }
 }
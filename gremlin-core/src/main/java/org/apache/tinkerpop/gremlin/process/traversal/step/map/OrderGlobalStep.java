@@ -27,12 +27,16 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TopK;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSpill;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
 import org.javatuples.Pair;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -51,11 +55,64 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
     private List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators = new ArrayList<>();
     private ChainedComparator<S, C> chainedComparator = null;
     private long limit = Long.MAX_VALUE;
+    private boolean tail = false;
+    private long spillThreshold = Long.MAX_VALUE;
+    private File spillDirectory = null;
+    private TraverserSpill<S> spill = null;
+    private Iterator<Traverser.Admin<S>> spillIterator = EmptyIterator.instance();
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
     }
 
+    @Override
+    public void processAllStarts() {
+        final TraverserSet<S> traverserSet = this.getTraverserSet();
+        if (Long.MAX_VALUE != this.limit && this.starts.hasNext()) {
+            if (null == this.chainedComparator)
+                this.chainedComparator = new ChainedComparator<>(true, this.comparators);
+            if (!this.chainedComparator.isShuffle()) {
+                final TopK<Traverser.Admin<S>> topK = OrderGlobalStep.topK(this.chainedComparator, this.limit, this.tail);
+                traverserSet.forEach(topK::add);
+                traverserSet.clear();
+                this.starts.forEachRemaining(topK::add);
+                topK.toList().forEach(traverserSet::add);
+                return;
+            }
+        }
+        if (Long.MAX_VALUE == this.spillThreshold) {
+            super.processAllStarts();
+            return;
+        }
+        if (!this.starts.hasNext())
+            return;
+        if (null == this.chainedComparator)
+            this.chainedComparator = new ChainedComparator<>(true, this.comparators);
+        final boolean spillable = this.isSpillable();
+        while (this.starts.hasNext()) {
+            traverserSet.add(this.starts.next());
+            if (spillable && traverserSet.size() >= this.spillThreshold && this.starts.hasNext()) {
+                if (null == this.spill)
+                    this.spill = new TraverserSpill<>(TraverserSpill.getMapper(this.getTraversal()), this.spillDirectory, traverser -> TraverserSpill.reattach(this.getTraversal(), traverser));
+                this.barrierConsumer(traverserSet);
+                this.spill.spill(traverserSet);
+            }
+        }
+        this.barrierConsumer(traverserSet);
+        if (null != this.spill)
+            this.spillIterator = this.spill.merge(traverserSet, (Comparator) this.chainedComparator);
+    }
+
+    @Override
+    public Traverser.Admin<S> processNextStart() {
+        if (!this.spillIterator.hasNext() && this.getTraverserSet().isEmpty() && this.starts.hasNext())
+            this.processAllStarts();
+        if (this.spillIterator.hasNext())
+            return this.spillIterator.next();
+        this.closeSpill();
+        return super.processNextStart();
+    }
+
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
         if (null == this.chainedComparator)
@@ -67,13 +124,42 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
     }
 
     public void setLimit(final long limit) {
+        this.setLimit(limit, false);
+    }
+
+    /**
+     * Sets the number of traversers (by bulk) that are required of this step by a subsequent range. If {@code tail}
+     * is {@code true} the last {@code limit} traversers are required rather than the first. Only those traversers
+     * are kept in a bounded priority queue while the barrier is filled rather than sorting all of them.
+     */
+    public void setLimit(final long limit, final boolean tail) {
         this.limit = limit;
+        this.tail = tail;
+    }
+
+    public boolean isTail() {
+        return this.tail;
     }
 
     public long getLimit() {
         return this.limit;
     }
 
+    /**
+     * Once the number of unique traversers held by this step reaches the {@code spillThreshold}, they are sorted and
+     * written to a temporary file in the {@code spillDirectory} and later merged back in order. The threshold is a
+     * count of traversers rather than a size in bytes. Spilling only occurs in OLTP and only if the traversal does not
+     * track paths, as paths are not re-attached when read back.
+     */
+    public void setSpill(final long spillThreshold, final File spillDirectory) {
+        this.spillThreshold = spillThreshold;
+        this.spillDirectory = spillDirectory;
+    }
+
+    public long getSpillThreshold() {
+        return this.spillThreshold;
+    }
+
     @Override
     public void addComparator(final Traversal.Admin<S, C> traversal, final Comparator<C> comparator) {
         this.comparators.add(new Pair<>(this.integrateChild(traversal), comparator));
@@ -126,9 +212,17 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
             clone.comparators.add(new Pair<>(comparator.getValue0().clone(), comparator.getValue1()));
         }
         clone.chainedComparator = null;
+        clone.spill = null;
+        clone.spillIterator = EmptyIterator.instance();
         return clone;
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        this.closeSpill();
+    }
+
     @Override
     public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
         super.setTraversal(parentTraversal);
@@ -139,7 +233,26 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
     public MemoryComputeKey<TraverserSet<S>> getMemoryComputeKey() {
         if (null == this.chainedComparator)
             this.chainedComparator = new ChainedComparator<>(true, this.comparators);
-        return MemoryComputeKey.of(this.getId(), new OrderBiOperator<>(this.chainedComparator, this.limit), false, true);
+        return MemoryComputeKey.of(this.getId(), new OrderBiOperator<>(this.chainedComparator, this.limit, this.tail), false, true);
+    }
+
+    private static <S> TopK<Traverser.Admin<S>> topK(final ChainedComparator comparator, final long limit, final boolean tail) {
+        return new TopK<>((Comparator<Traverser.Admin<S>>) comparator, limit, tail, Traverser::bulk, (a, b) -> {
+            a.merge(b);
+            return a;
+        });
+    }
+
+    private boolean isSpillable() {
+        return !this.chainedComparator.isShuffle() && TraverserSpill.canSpill(this.getTraversal());
+    }
+
+    private void closeSpill() {
+        if (null != this.spill) {
+            this.spill.close();
+            this.spill = null;
+            this.spillIterator = EmptyIterator.instance();
+        }
     }
 
     ////////////////
@@ -148,31 +261,41 @@ public final class OrderGlobalStep<S, C extends Comparable> extends CollectingBa
 
         private ChainedComparator chainedComparator;
         private long limit;
+        private boolean tail;
 
         private OrderBiOperator() {
             // for serializers that need a no-arg constructor
         }
 
         public OrderBiOperator(final ChainedComparator<S, ?> chainedComparator, final long limit) {
+            this(chainedComparator, limit, false);
+        }
+
+        public OrderBiOperator(final ChainedComparator<S, ?> chainedComparator, final long limit, final boolean tail) {
             this.chainedComparator = chainedComparator;
             this.limit = limit;
+            this.tail = tail;
         }
 
         @Override
         public TraverserSet<S> apply(final TraverserSet<S> setA, final TraverserSet<S> setB) {
             setA.addAll(setB);
             if (Long.MAX_VALUE != this.limit && setA.bulkSize() > this.limit) {
-                if (this.chainedComparator.isShuffle())
+                if (this.chainedComparator.isShuffle()) {
                     setA.shuffle();
-                else
-                    setA.sort(this.chainedComparator);
-                long counter = 0l;
-                final Iterator<Traverser.Admin<S>> traversers = setA.iterator();
-                while (traversers.hasNext()) {
-                    final Traverser.Admin<S> traverser = traversers.next();
-                    if (counter > this.limit)
-                        traversers.remove();
-                    counter = counter + traverser.bulk();
+                    long counter = 0l;
+                    final Iterator<Traverser.Admin<S>> traversers = setA.iterator();
+                    while (traversers.hasNext()) {
+                        final Traverser.Admin<S> traverser = traversers.next();
+                        if (counter > this.limit)
+                            traversers.remove();
+                        counter = counter + traverser.bulk();
+                    }
+                } else {
+                    final TopK<Traverser.Admin<S>> topK = OrderGlobalStep.topK(this.chainedComparator, this.limit, this.tail);
+                    setA.forEach(topK::add);
+                    setA.clear();
+                    topK.toList().forEach(setA::add);
                 }
             }
             return setA;
@@ -25,6 +25,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.lambda.IdentityTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ByModulating;
 import org.apache.tinkerpop.gremlin.process.traversal.step.ComparatorHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.TopK;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
@@ -47,16 +48,42 @@ public final class OrderLocalStep<S, C extends Comparable> extends MapStep<S, S>
 
     private List<Pair<Traversal.Admin<S, C>, Comparator<C>>> comparators = new ArrayList<>();
     private ChainedComparator<S, C> chainedComparator = null;
+    private long limit = Long.MAX_VALUE;
+    private boolean tail = false;
 
     public OrderLocalStep(final Traversal.Admin traversal) {
         super(traversal);
     }
 
+    /**
+     * Sets the number of entries of a sorted collection or map that are required by a subsequent local range. If
+     * {@code tail} is {@code true}, the last {@code limit} entries are required rather than the first. Only those
+     * entries are then returned, selected with a bounded priority queue rather than a full sort.
+     */
+    public void setLimit(final long limit, final boolean tail) {
+        this.limit = limit;
+        this.tail = tail;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
+    public boolean isTail() {
+        return this.tail;
+    }
+
     @Override
     protected S map(final Traverser.Admin<S> traverser) {
         if (null == this.chainedComparator)
             this.chainedComparator = new ChainedComparator<>(false, this.comparators);
         final S start = traverser.get();
+        if (Long.MAX_VALUE != this.limit && !this.chainedComparator.isShuffle()) {
+            if (start instanceof Collection)
+                return (S) OrderLocalStep.topCollection((Collection) start, this.chainedComparator, this.limit, this.tail);
+            else if (start instanceof Map)
+                return (S) OrderLocalStep.topMap((Map) start, this.chainedComparator, this.limit, this.tail);
+        }
         if (start instanceof Collection)
             return (S) OrderLocalStep.sortCollection((Collection) start, this.chainedComparator);
         else if (start instanceof Map)
@@ -151,4 +178,18 @@ public final class OrderLocalStep<S, C extends Comparable> extends MapStep<S, S>
         entries.forEach(entry -> sortedMap.put(entry.getKey(), entry.getValue()));
         return sortedMap;
     }
+
+    private static final <A> List<A> topCollection(final Collection<A> collection, final ChainedComparator comparator, final long limit, final boolean tail) {
+        final TopK<A> topK = new TopK<>(comparator, limit, tail);
+        collection.forEach(topK::add);
+        return topK.toList();
+    }
+
+    private static final <K, V> Map<K, V> topMap(final Map<K, V> map, final ChainedComparator comparator, final long limit, final boolean tail) {
+        final TopK<Map.Entry<K, V>> topK = new TopK<>(comparator, limit, tail);
+        map.entrySet().forEach(topK::add);
+        final LinkedHashMap<K, V> sortedMap = new LinkedHashMap<>();
+        topK.toList().forEach(entry -> sortedMap.put(entry.getKey(), entry.getValue()));
+        return sortedMap;
+    }
 }
@@ -21,13 +21,18 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.util.BatchAdjacencyProvider;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -51,6 +56,44 @@ public class PropertiesStep<E> extends FlatMapStep<Element, E> {
                 (Iterator) traverser.get().properties(this.propertyKeys);
     }
 
+    /**
+     * Only this class is batched as its batch loop does not call {@code flatMap()} and would thus bypass the overrides of a
+     * provider subclass.
+     */
+    @Override
+    public boolean supportsBatching() {
+        return PropertiesStep.class == this.getClass();
+    }
+
+    @Override
+    public void processNextBatch(final TraverserSet<Element> in, final TraverserSet<E> out) {
+        final Graph graph = (Graph) this.traversal.getGraph().orElse(null);
+        if (graph instanceof BatchAdjacencyProvider) {
+            final List<Traverser.Admin<Element>> traversers = new ArrayList<>(in);
+            final List<Element> elements = new ArrayList<>(traversers.size());
+            for (final Traverser.Admin<Element> traverser : traversers) {
+                elements.add(traverser.get());
+            }
+            final List<Iterator<?>> properties = ((BatchAdjacencyProvider) graph).properties(elements, this.returnType, this.propertyKeys);
+            for (int i = 0; i < traversers.size(); i++) {
+                final Iterator<?> iterator = properties.get(i);
+                while (iterator.hasNext()) {
+                    this.addToBatch(out, traversers.get(i).split((E) iterator.next(), this));
+                }
+            }
+            return;
+        }
+        final boolean values = this.returnType.equals(PropertyType.VALUE);
+        for (final Traverser.Admin<Element> traverser : in) {
+            final Iterator<?> iterator = values ?
+                    traverser.get().values(this.propertyKeys) :
+                    traverser.get().properties(this.propertyKeys);
+            while (iterator.hasNext()) {
+                this.addToBatch(out, traverser.split((E) iterator.next(), this));
+            }
+        }
+    }
+
     public PropertyType getReturnType() {
         return this.returnType;
     }
@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.map;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.util.iterator.EmptyIterator;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@code ShortestPathStep} emits the shortest simple path from the current vertex to the first vertex that satisfies
+ * the target {@link HasContainer}s (an id test), extending the path of the traverser. It is the result of
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.ShortestPathStrategy} rewriting
+ * {@code repeat(out().simplePath()).until(hasId(x)).limit(1).path()}. When all target vertices can be resolved by
+ * id, the search is a bidirectional breadth-first search, otherwise it is a unidirectional breadth-first search.
+ * In both cases every vertex is visited at most once per direction.
+ * <p/>
+ * The search is done for each incoming traverser on its own. With several start vertices, the {@code limit(1)} that
+ * follows the step therefore returns the shortest path of the first start that can reach a target, which is not
+ * necessarily the shortest path over all the starts.
+ */
+public final class ShortestPathStep extends FlatMapStep<Vertex, Path> {
+
+    private final Direction direction;
+    private final String[] edgeLabels;
+    private final List<HasContainer> targetContainers;
+
+    public ShortestPathStep(final Traversal.Admin traversal, final Direction direction, final String[] edgeLabels, final List<HasContainer> targetContainers) {
+        super(traversal);
+        this.direction = direction;
+        this.edgeLabels = edgeLabels;
+        this.targetContainers = targetContainers;
+    }
+
+    @Override
+    protected Iterator<Path> flatMap(final Traverser.Admin<Vertex> traverser) {
+        final Path prefix = traverser.path();
+        if (!prefix.isSimple())
+            return EmptyIterator.instance();
+        final Vertex source = traverser.get();
+        final Set<Object> blocked = new HashSet<>(prefix.objects());
+        blocked.remove(source);
+        final Optional<Set<Vertex>> targets = this.resolveTargets(source, blocked);
+        final List<Vertex> vertices = targets.isPresent() ?
+                this.bidirectional(source, targets.get(), blocked) :
+                this.unidirectional(source, blocked);
+        if (null == vertices)
+            return EmptyIterator.instance();
+        Path path = prefix.clone();
+        for (final Vertex vertex : vertices) {
+            path = path.extend(vertex, Collections.emptySet());
+        }
+        return IteratorUtils.of(path);
+    }
+
+    /**
+     * Resolves the target vertices by their ids. If the targets can not all be resolved (e.g. the id test is not an
+     * equality test or an id is of a type the graph does not look up), the search falls back to being unidirectional.
+     */
+    private Optional<Set<Vertex>> resolveTargets(final Vertex source, final Set<Object> blocked) {
+        final Set<Object> ids = new HashSet<>();
+        for (final HasContainer hasContainer : this.targetContainers) {
+            final Object value = hasContainer.getPredicate().getValue();
+            if (value instanceof Collection)
+                ids.addAll((Collection<?>) value);
+            else
+                ids.add(value);
+        }
+        // an empty within() can never match, so there is nothing to search for (and graph.vertices() would return all)
+        if (ids.isEmpty())
+            return Optional.of(Collections.emptySet());
+        final Set<Vertex> targets = new HashSet<>();
+        this.getTraversal().getGraph().ifPresent(graph -> graph.vertices(ids.toArray()).forEachRemaining(targets::add));
+        if (targets.size() != ids.size())
+            return Optional.empty();
+        for (final Vertex target : targets) {
+            if (!HasContainer.testAll(target, this.targetContainers))
+                return Optional.empty();
+        }
+        targets.remove(source);
+        targets.removeAll(blocked);
+        return Optional.of(targets);
+    }
+
+    private List<Vertex> bidirectional(final Vertex source, final Set<Vertex> targets, final Set<Object> blocked) {
+        if (targets.isEmpty())
+            return null;
+        final Map<Vertex, Vertex> forward = new HashMap<>();
+        final Map<Vertex, Vertex> backward = new HashMap<>();
+        List<Vertex> forwardFrontier = new ArrayList<>();
+        List<Vertex> backwardFrontier = new ArrayList<>(targets);
+        forward.put(source, null);
+        forwardFrontier.add(source);
+        targets.forEach(target -> backward.put(target, null));
+        while (!forwardFrontier.isEmpty() && !backwardFrontier.isEmpty()) {
+            final boolean forwards = forwardFrontier.size() <= backwardFrontier.size();
+            final Map<Vertex, Vertex> visited = forwards ? forward : backward;
+            final Map<Vertex, Vertex> other = forwards ? backward : forward;
+            final List<Vertex> next = new ArrayList<>();
+            for (final Vertex vertex : forwards ? forwardFrontier : backwardFrontier) {
+                final Iterator<Vertex> adjacents = vertex.vertices(forwards ? this.direction : this.direction.opposite(), this.edgeLabels);
+                while (adjacents.hasNext()) {
+                    final Vertex adjacent = adjacents.next();
+                    if (blocked.contains(adjacent) || visited.containsKey(adjacent))
+                        continue;
+                    visited.put(adjacent, vertex);
+                    if (other.containsKey(adjacent))
+                        return ShortestPathStep.join(adjacent, forward, backward);
+                    next.add(adjacent);
+                }
+            }
+            if (forwards)
+                forwardFrontier = next;
+            else
+                backwardFrontier = next;
+        }
+        return null;
+    }
+
+    private List<Vertex> unidirectional(final Vertex source, final Set<Object> blocked) {
+        final Map<Vertex, Vertex> forward = new HashMap<>();
+        forward.put(source, null);
+        List<Vertex> frontier = Collections.singletonList(source);
+        while (!frontier.isEmpty()) {
+            final List<Vertex> next = new ArrayList<>();
+            for (final Vertex vertex : frontier) {
+                final Iterator<Vertex> adjacents = vertex.vertices(this.direction, this.edgeLabels);
+                while (adjacents.hasNext()) {
+                    final Vertex adjacent = adjacents.next();
+                    if (blocked.contains(adjacent) || forward.containsKey(adjacent))
+                        continue;
+                    forward.put(adjacent, vertex);
+                    if (HasContainer.testAll(adjacent, this.targetContainers))
+                        return ShortestPathStep.join(adjacent, forward, Collections.emptyMap());
+                    next.add(adjacent);
+                }
+            }
+            frontier = next;
+        }
+        return null;
+    }
+
+    /**
+     * Joins the forward chain (excluding the source) and the backward chain at the meeting vertex.
+     */
+    private static List<Vertex> join(final Vertex meeting, final Map<Vertex, Vertex> forward, final Map<Vertex, Vertex> backward) {
+        final LinkedList<Vertex> vertices = new LinkedList<>();
+        Vertex vertex = meeting;
+        while (null != forward.get(vertex)) {
+            vertices.addFirst(vertex);
+            vertex = forward.get(vertex);
+        }
+        vertex = backward.get(meeting);
+        while (null != vertex) {
+            vertices.addLast(vertex);
+            vertex = backward.get(vertex);
+        }
+        return vertices;
+    }
+
+    public Direction getDirection() {
+        return this.direction;
+    }
+
+    public String[] getEdgeLabels() {
+        return this.edgeLabels;
+    }
+
+    public List<HasContainer> getTargetContainers() {
+        return Collections.unmodifiableList(this.targetContainers);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return Collections.singleton(TraverserRequirement.PATH);
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.direction, Arrays.asList(this.edgeLabels), this.targetContainers);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = super.hashCode() ^ this.direction.hashCode() ^ this.targetContainers.hashCode();
+        for (final String edgeLabel : this.edgeLabels) {
+            result ^= edgeLabel.hashCode();
+        }
+        return result;
+    }
+}
@@ -43,6 +43,10 @@ public final class TailLocalStep<S> extends MapStep<S, S> {
         this.limit = limit;
     }
 
+    public long getLimit() {
+        return this.limit;
+    }
+
     @Override
     protected S map(final Traverser.Admin<S> traverser) {
         // We may consider optimizing the iteration of these containers using subtype-specific interfaces.  For
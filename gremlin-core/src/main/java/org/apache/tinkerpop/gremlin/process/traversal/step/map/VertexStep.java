@@ -21,15 +21,20 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.BatchAdjacencyProvider;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -55,6 +60,44 @@ public class VertexStep<E extends Element> extends FlatMapStep<Vertex, E> {
                 (Iterator<E>) traverser.get().edges(this.direction, this.edgeLabels);
     }
 
+    /**
+     * Only this class is batched as its batch loop does not call {@code flatMap()} and would thus bypass the overrides of a
+     * provider subclass.
+     */
+    @Override
+    public boolean supportsBatching() {
+        return VertexStep.class == this.getClass();
+    }
+
+    @Override
+    public void processNextBatch(final TraverserSet<Vertex> in, final TraverserSet<E> out) {
+        final Graph graph = (Graph) this.traversal.getGraph().orElse(null);
+        if (graph instanceof BatchAdjacencyProvider) {
+            final List<Traverser.Admin<Vertex>> traversers = new ArrayList<>(in);
+            final List<Vertex> vertices = new ArrayList<>(traversers.size());
+            for (final Traverser.Admin<Vertex> traverser : traversers) {
+                vertices.add(traverser.get());
+            }
+            final List<Iterator<E>> adjacent = ((BatchAdjacencyProvider) graph).adjacent(vertices, this.returnClass, this.direction, this.edgeLabels);
+            for (int i = 0; i < traversers.size(); i++) {
+                final Iterator<E> iterator = adjacent.get(i);
+                while (iterator.hasNext()) {
+                    this.addToBatch(out, traversers.get(i).split(iterator.next(), this));
+                }
+            }
+            return;
+        }
+        final boolean returnsVertex = Vertex.class.isAssignableFrom(this.returnClass);
+        for (final Traverser.Admin<Vertex> traverser : in) {
+            final Iterator<? extends Element> iterator = returnsVertex ?
+                    traverser.get().vertices(this.direction, this.edgeLabels) :
+                    traverser.get().edges(this.direction, this.edgeLabels);
+            while (iterator.hasNext()) {
+                this.addToBatch(out, traverser.split((E) iterator.next(), this));
+            }
+        }
+    }
+
     public Direction getDirection() {
         return this.direction;
     }
@@ -21,7 +21,11 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserRecycler;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.EmptyTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
@@ -43,6 +47,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     protected ExpandableStepIterator<S> starts;
     protected Traverser.Admin<E> nextEnd = null;
     protected boolean traverserStepIdAndLabelsSetByChild = false;
+    protected int batchSize = 0;
+    protected TraverserSet<E> batchEnds = null;
 
     protected Step<?, S> previousStep = EmptyStep.instance();
     protected Step<E, ?> nextStep = EmptyStep.instance();
@@ -82,6 +88,8 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
     public void reset() {
         this.starts.clear();
         this.nextEnd = null;
+        if (null != this.batchEnds)
+            this.batchEnds.clear();
     }
 
     @Override
@@ -125,7 +133,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
         } else {
             while (true) {
                 if (Thread.interrupted()) throw new TraversalInterruptedException();
-                final Traverser.Admin<E> traverser = this.processNextStart();
+                final Traverser.Admin<E> traverser = this.processNextEnd();
                 if (null != traverser.get() && 0 != traverser.bulk())
                     return this.prepareTraversalForNextStep(traverser);
             }
@@ -140,7 +148,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             try {
                 while (true) {
                     if (Thread.interrupted()) throw new TraversalInterruptedException();
-                    this.nextEnd = this.processNextStart();
+                    this.nextEnd = this.processNextEnd();
                     if (null != this.nextEnd.get() && 0 != this.nextEnd.bulk())
                         return true;
                     else
@@ -164,6 +172,52 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     protected abstract Traverser.Admin<E> processNextStart() throws NoSuchElementException;
 
+    /**
+     * Set the maximum number of traversers a {@link Batching} step processes at once ({@code 0} to disable).
+     */
+    public void setBatchSize(final int batchSize) {
+        if (batchSize > 0 && !(this instanceof Batching))
+            throw new IllegalStateException("The step does not support batch processing: " + this);
+        this.batchSize = batchSize;
+        this.batchEnds = batchSize > 0 ? new TraverserSet<>() : null;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Returns a traverser that is no longer referenced to its {@link TraverserRecycler}. Only the traversers of the
+     * root traversal are recycled as the parent step of a nested traversal may still reference its starts.
+     */
+    protected void recycle(final Traverser.Admin<?> traverser) {
+        if (this.traversal.getParent() instanceof EmptyStep)
+            TraverserRecycler.recycle(traverser);
+    }
+
+    /**
+     * Adds the traverser to the batch and recycles it if it was merged into an equal traverser of the batch.
+     */
+    protected <T> void addToBatch(final TraverserSet<T> batch, final Traverser.Admin<T> traverser) {
+        if (!batch.add(traverser))
+            this.recycle(traverser);
+    }
+
+    private Traverser.Admin<E> processNextEnd() throws NoSuchElementException {
+        if (0 == this.batchSize)
+            return this.processNextStart();
+        while (this.batchEnds.isEmpty()) {
+            final TraverserSet<S> batch = new TraverserSet<>();
+            while (batch.size() < this.batchSize && this.starts.hasNext()) {
+                this.addToBatch(batch, this.starts.next());
+            }
+            if (batch.isEmpty())
+                throw FastNoSuchElementException.instance();
+            ((Batching<S, E>) this).processNextBatch(batch, this.batchEnds);
+        }
+        return this.batchEnds.remove();
+    }
+
     @Override
     public String toString() {
         return StringFactory.stepString(this);
@@ -178,6 +232,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
             clone.previousStep = EmptyStep.instance();
             clone.nextStep = EmptyStep.instance();
             clone.nextEnd = null;
+            clone.batchEnds = this.batchSize > 0 ? new TraverserSet<>() : null;
             clone.traversal = EmptyTraversal.instance();
             clone.labels = new LinkedHashSet<>(this.labels);
             clone.reset();
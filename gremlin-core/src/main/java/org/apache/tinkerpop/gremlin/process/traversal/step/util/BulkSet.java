@@ -18,6 +18,11 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.step.util;
 
+import com.carrotsearch.hppc.LongArrayList;
+import com.carrotsearch.hppc.LongIntHashMap;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.ArrayList;
@@ -27,20 +32,32 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
 
 /**
  * BulkSet is a weighted set (i.e. a multi-set). Objects are added along with a bulk counter the denotes how many times the object was added to the set.
  * Given that count-based compression (vs. enumeration) can yield large sets, methods exist that are long-based (2^64).
+ * <p/>
+ * If the first object added to an empty BulkSet is a {@link org.apache.tinkerpop.gremlin.structure.Vertex} or
+ * {@link org.apache.tinkerpop.gremlin.structure.Edge} with a {@code Long} or {@code Integer} id, the set is backed by
+ * primitive id-to-slot and bulk structures instead of a {@code LinkedHashMap<S, Long>}. As soon as an object of
+ * another kind is added (or an object is removed), the set reverts to the map representation. Insertion order is
+ * preserved in both representations.
  *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializable {
-    private final Map<S, Long> map = new LinkedHashMap<>();
+    private Map<S, Long> map = new LinkedHashMap<>();
+
+    // element id representation -- only used while map is empty
+    private transient NumericIdKind kind = null;
+    private transient LongIntHashMap slots = null;
+    private transient List<S> objects = null;
+    private transient LongArrayList bulks = null;
 
     @Override
     public int size() {
@@ -48,21 +65,33 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     }
 
     public int uniqueSize() {
-        return this.map.size();
+        return null == this.kind ? this.map.size() : this.objects.size();
     }
 
     public long longSize() {
-        return this.map.values().stream().collect(Collectors.summingLong(Long::longValue));
+        long size = 0l;
+        if (null == this.kind) {
+            for (final Long bulk : this.map.values()) {
+                size = size + bulk;
+            }
+        } else {
+            for (int i = 0; i < this.bulks.size(); i++) {
+                size = size + this.bulks.get(i);
+            }
+        }
+        return size;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return null == this.kind ? this.map.isEmpty() : this.objects.isEmpty();
     }
 
     @Override
     public boolean contains(final Object s) {
-        return this.map.containsKey(s);
+        if (null == this.kind)
+            return this.map.containsKey(s);
+        return this.kind.matches(s) && this.slots.containsKey(this.kind.id(s));
     }
 
     @Override
@@ -73,7 +102,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     @Override
     public boolean addAll(final Collection<? extends S> collection) {
         if (collection instanceof BulkSet) {
-            ((BulkSet<S>) collection).map.forEach(this::add);
+            ((BulkSet<S>) collection).forEach((BiConsumer<S, Long>) this::add);
         } else {
             collection.iterator().forEachRemaining(this::add);
         }
@@ -81,14 +110,39 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     }
 
     public void forEach(final BiConsumer<S, Long> consumer) {
-        this.map.forEach(consumer);
+        if (null == this.kind)
+            this.map.forEach(consumer);
+        else {
+            for (int i = 0; i < this.objects.size(); i++) {
+                consumer.accept(this.objects.get(i), this.bulks.get(i));
+            }
+        }
     }
 
     public Map<S, Long> asBulk() {
-        return Collections.unmodifiableMap(map);
+        return Collections.unmodifiableMap(null == this.kind ? this.map : this.toMap());
     }
 
     public boolean add(final S s, final long bulk) {
+        if (null == this.kind && this.map.isEmpty())
+            this.useElementIds(s);
+        if (null != this.kind) {
+            if (this.kind.matches(s)) {
+                final long id = this.kind.id(s);
+                final int slot = this.slots.indexOf(id);
+                if (this.slots.indexExists(slot)) {
+                    final int index = this.slots.indexGet(slot);
+                    this.bulks.set(index, this.bulks.get(index) + bulk);
+                    return false;
+                } else {
+                    this.slots.indexInsert(slot, id, this.objects.size());
+                    this.objects.add(s);
+                    this.bulks.add(bulk);
+                    return true;
+                }
+            }
+            this.useMap();
+        }
         final Long current = this.map.get(s);
         if (current != null) {
             this.map.put(s, current + bulk);
@@ -100,6 +154,11 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     }
 
     public long get(final S s) {
+        if (null != this.kind) {
+            if (!this.kind.matches(s)) return 0;
+            final int slot = this.slots.indexOf(this.kind.id(s));
+            return this.slots.indexExists(slot) ? this.bulks.get(this.slots.indexGet(slot)) : 0;
+        }
         final Long bulk = this.map.get(s);
         return null == bulk ? 0 : bulk;
     }
@@ -111,12 +170,17 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
 
     @Override
     public boolean remove(final Object s) {
+        this.useMap();
         return this.map.remove(s) != null;
     }
 
     @Override
     public void clear() {
         this.map.clear();
+        this.kind = null;
+        this.slots = null;
+        this.objects = null;
+        this.bulks = null;
     }
 
     @Override
@@ -127,6 +191,7 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
     @Override
     public boolean removeAll(final Collection<?> collection) {
         Objects.requireNonNull(collection);
+        this.useMap();
         boolean modified = false;
         for (final Object object : collection) {
             if (null != this.map.remove(object))
@@ -137,22 +202,25 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
 
     @Override
     public int hashCode() {
-        return this.map.hashCode();
+        return (null == this.kind ? this.map : this.toMap()).hashCode();
     }
 
     @Override
     public boolean equals(final Object object) {
-        return object instanceof BulkSet && this.map.equals(((BulkSet) object).map);
+        if (!(object instanceof BulkSet))
+            return false;
+        final BulkSet<?> other = (BulkSet<?>) object;
+        return (null == this.kind ? this.map : this.toMap()).equals(null == other.kind ? other.map : other.toMap());
     }
 
     @Override
     public String toString() {
-        return this.map.toString();
+        return (null == this.kind ? this.map : this.toMap()).toString();
     }
 
     private List<S> toList() {
         final List<S> list = new ArrayList<>();
-        this.map.forEach((k, v) -> {
+        this.forEach((k, v) -> {
             for (long i = 0; i < v; i++) {
                 list.add(k);
             }
@@ -160,8 +228,60 @@ public final class BulkSet<S> extends AbstractSet<S> implements Set<S>, Serializ
         return list;
     }
 
+    private Map<S, Long> toMap() {
+        final Map<S, Long> map = new LinkedHashMap<>();
+        this.forEach(map::put);
+        return map;
+    }
+
+    private void useElementIds(final S s) {
+        this.kind = NumericIdKind.of(s);
+        if (null != this.kind) {
+            this.slots = new LongIntHashMap();
+            this.objects = new ArrayList<>();
+            this.bulks = new LongArrayList();
+        }
+    }
+
+    private void useMap() {
+        if (null != this.kind) {
+            this.map = this.toMap();
+            this.kind = null;
+            this.slots = null;
+            this.objects = null;
+            this.bulks = null;
+        }
+    }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        this.useMap();
+        outputStream.defaultWriteObject();
+    }
+
     @Override
     public Iterator<S> iterator() {
+        if (null != this.kind) {
+            return new Iterator<S>() {
+                int index = 0;
+                long lastCount = 0l;
+
+                public boolean hasNext() {
+                    return this.lastCount > 0l || this.index < objects.size();
+                }
+
+                @Override
+                public S next() {
+                    if (this.lastCount > 0l) {
+                        this.lastCount--;
+                        return objects.get(this.index - 1);
+                    }
+                    if (this.index >= objects.size())
+                        throw new NoSuchElementException();
+                    this.lastCount = bulks.get(this.index) - 1;
+                    return objects.get(this.index++);
+                }
+            };
+        }
         return new Iterator<S>() {
             final Iterator<Map.Entry<S, Long>> entryIterator = map.entrySet().iterator();
             S lastObject = null;
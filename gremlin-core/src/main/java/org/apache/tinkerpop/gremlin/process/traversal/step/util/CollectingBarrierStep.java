@@ -53,6 +53,13 @@ public abstract class CollectingBarrierStep<S> extends AbstractStep<S, S> implem
 
     public abstract void barrierConsumer(final TraverserSet<S> traverserSet);
 
+    /**
+     * Gets the traversers currently held by the barrier.
+     */
+    protected TraverserSet<S> getTraverserSet() {
+        return this.traverserSet;
+    }
+
     @Override
     public Set<TraverserRequirement> getRequirements() {
         return Collections.singleton(TraverserRequirement.BULK);
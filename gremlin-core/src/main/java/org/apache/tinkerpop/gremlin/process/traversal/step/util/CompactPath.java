@@ -0,0 +1,436 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Pop;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code CompactPath} is an immutable {@link Path} whose segments do not carry their own label collections. Step
+ * labels are interned into small integer ids and every segment stores its labels as a bitset, so extending the path
+ * allocates a single object, segments without labels share the empty set, and label lookups are bit tests that do
+ * not build intermediate lists. Labels are only materialized as sets when {@link #labels()} is called.
+ * <p/>
+ * Label ids are held by a label table that is created by {@link #make()} and shared by every path extended from that
+ * empty path, so the paths of a traversal should all be extended from the same empty path (the traverser generators
+ * of a traversal hold one). The first {@link #MAX_LABEL_IDS} distinct labels of a table receive ids; labels beyond
+ * that (or labels whose insertion order does not match their id order) are kept in an ordered array on the segment.
+ */
+public final class CompactPath implements Path, Serializable {
+
+    public static final int MAX_LABEL_IDS = 64;
+
+    private final LabelTable table;
+    private final CompactPath previous;
+    private final Object object;
+    private final long bits;
+    private final String[] orderedLabels;
+    private final int size;
+
+    private CompactPath(final LabelTable table, final CompactPath previous, final Object object, final long bits, final String[] orderedLabels) {
+        this.table = table;
+        this.previous = previous;
+        this.object = object;
+        this.bits = bits;
+        this.orderedLabels = orderedLabels;
+        this.size = null == previous ? 0 : previous.size + 1;
+    }
+
+    /**
+     * Creates an empty path with a new label table.
+     */
+    public static Path make() {
+        return new CompactPath(new LabelTable(), null, null, 0l, null);
+    }
+
+    /**
+     * Creates an empty path that shares the label table of the provided path if it is a {@code CompactPath} or that
+     * has a new label table otherwise.
+     */
+    public static Path make(final Path path) {
+        return path instanceof CompactPath ?
+                new CompactPath(((CompactPath) path).table, null, null, 0l, null) :
+                CompactPath.make();
+    }
+
+    @SuppressWarnings("CloneDoesntCallSuperClone,CloneDoesntDeclareCloneNotSupportedException")
+    @Override
+    public CompactPath clone() {
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Path extend(final Object object, final Set<String> labels) {
+        return CompactPath.segment(this, object, labels);
+    }
+
+    @Override
+    public Path extend(final Set<String> labels) {
+        if (labels.isEmpty())
+            return this;
+        if (0 == this.size)
+            throw new UnsupportedOperationException("A head path can not have labels added to it");
+        final Set<String> temp = new LinkedHashSet<>(this.segmentLabels());
+        temp.addAll(labels);
+        return CompactPath.segment(this.previous, this.object, temp);
+    }
+
+    @Override
+    public Path retract(final Set<String> labels) {
+        if (labels.isEmpty() || 0 == this.size)
+            return this;
+        long mask = 0l;
+        for (final String label : labels) {
+            final int id = this.table.idOf(label);
+            if (id >= 0)
+                mask = mask | (1l << id);
+        }
+        // like the other paths, a retraction drops every segment that is left without labels (including those that had
+        // none to begin with) -- so find the oldest segment that loses a label or that has no labels as everything
+        // before it is shared with the retracted path
+        int oldest = -1;
+        CompactPath current = this;
+        for (int i = this.size - 1; i >= 0; i--) {
+            if ((0l == current.bits && null == current.orderedLabels) ||
+                    0 != (current.bits & mask) ||
+                    (null != current.orderedLabels && current.containsAny(labels)))
+                oldest = i;
+            current = current.previous;
+        }
+        if (-1 == oldest)
+            return this;
+        // only the segments from the oldest one on are rebuilt
+        final CompactPath[] segments = new CompactPath[this.size - oldest];
+        current = this;
+        for (int i = segments.length - 1; i >= 0; i--) {
+            segments[i] = current;
+            current = current.previous;
+        }
+        CompactPath newPath = segments[0].previous;
+        for (final CompactPath segment : segments) {
+            if (null == segment.orderedLabels) {
+                final long remaining = segment.bits & ~mask;
+                if (0l != remaining)
+                    newPath = new CompactPath(this.table, newPath, segment.object, remaining, null);
+            } else {
+                final Set<String> temp = new LinkedHashSet<>(Arrays.asList(segment.orderedLabels));
+                temp.removeAll(labels);
+                if (!temp.isEmpty())
+                    newPath = CompactPath.segment(newPath, segment.object, temp);
+            }
+        }
+        return newPath;
+    }
+
+    @Override
+    public <A> A get(final int index) {
+        if (index < 0 || index >= this.size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        CompactPath current = this;
+        for (int i = this.size - 1; i > index; i--) {
+            current = current.previous;
+        }
+        return (A) current.object;
+    }
+
+    @Override
+    public <A> A get(final String label) {
+        final int id = this.table.idOf(label);
+        final int count = this.count(label, id);
+        if (0 == count)
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        return 1 == count ? (A) this.getSingleHead(label, id).object : (A) this.getAll(label, id, count);
+    }
+
+    @Override
+    public <A> A get(final Pop pop, final String label) {
+        final int id = this.table.idOf(label);
+        if (Pop.all == pop)
+            return (A) this.getAll(label, id, this.count(label, id));
+        final CompactPath segment = Pop.first == pop ? this.getSingleTail(label, id) : this.getSingleHead(label, id);
+        if (null == segment)
+            throw Path.Exceptions.stepWithProvidedLabelDoesNotExist(label);
+        return (A) segment.object;
+    }
+
+    @Override
+    public boolean hasLabel(final String label) {
+        return null != this.getSingleHead(label, this.table.idOf(label));
+    }
+
+    @Override
+    public List<Object> objects() {
+        final Object[] objects = new Object[this.size];
+        CompactPath current = this;
+        for (int i = this.size - 1; i >= 0; i--) {
+            objects[i] = current.object;
+            current = current.previous;
+        }
+        return Collections.unmodifiableList(Arrays.asList(objects));
+    }
+
+    @Override
+    public List<Set<String>> labels() {
+        final Set[] labels = new Set[this.size];
+        CompactPath current = this;
+        for (int i = this.size - 1; i >= 0; i--) {
+            labels[i] = current.segmentLabels();
+            current = current.previous;
+        }
+        return Collections.unmodifiableList(Arrays.<Set<String>>asList(labels));
+    }
+
+    @Override
+    public boolean isSimple() {
+        if (this.size > 16) {
+            final Set<Object> objects = new HashSet<>(this.size * 2);
+            for (CompactPath current = this; current.size > 0; current = current.previous) {
+                if (!objects.add(current.object))
+                    return false;
+            }
+            return true;
+        }
+        for (CompactPath current = this; current.size > 1; current = current.previous) {
+            for (CompactPath other = current.previous; other.size > 0; other = other.previous) {
+                if (current.object.equals(other.object))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return this.objects().toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return this.objects().hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (!(other instanceof Path))
+            return false;
+        final Path otherPath = (Path) other;
+        if (otherPath.size() != this.size)
+            return false;
+        if (this.size > 0) {
+            final List<Object> otherObjects = otherPath.objects();
+            final List<Set<String>> otherLabels = otherPath.labels();
+            CompactPath current = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                if (!current.object.equals(otherObjects.get(i)))
+                    return false;
+                if (!current.segmentLabels().equals(otherLabels.get(i)))
+                    return false;
+                current = current.previous;
+            }
+        }
+        return true;
+    }
+
+    ////////////////
+
+    private boolean hasSegmentLabel(final String label, final int id) {
+        return id >= 0 ?
+                0 != (this.bits & (1l << id)) :
+                null != this.orderedLabels && Arrays.asList(this.orderedLabels).contains(label);
+    }
+
+    private boolean containsAny(final Set<String> labels) {
+        for (final String label : this.orderedLabels) {
+            if (labels.contains(label))
+                return true;
+        }
+        return false;
+    }
+
+    private Set<String> segmentLabels() {
+        if (null != this.orderedLabels)
+            return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(this.orderedLabels)));
+        if (0l == this.bits)
+            return Collections.emptySet();
+        final LabelNames names = this.table.names;
+        if (0l == (this.bits & (this.bits - 1)))
+            return names.singletons[Long.numberOfTrailingZeros(this.bits)];
+        final Set<String> labels = new LinkedHashSet<>();
+        long remaining = this.bits;
+        while (0l != remaining) {
+            final int id = Long.numberOfTrailingZeros(remaining);
+            labels.add(names.names[id]);
+            remaining = remaining & (remaining - 1);
+        }
+        return Collections.unmodifiableSet(labels);
+    }
+
+    private int count(final String label, final int id) {
+        int count = 0;
+        for (CompactPath current = this; current.size > 0; current = current.previous) {
+            if (current.hasSegmentLabel(label, id))
+                count++;
+        }
+        return count;
+    }
+
+    private CompactPath getSingleHead(final String label, final int id) {
+        for (CompactPath current = this; current.size > 0; current = current.previous) {
+            if (current.hasSegmentLabel(label, id))
+                return current;
+        }
+        return null;
+    }
+
+    private CompactPath getSingleTail(final String label, final int id) {
+        CompactPath single = null;
+        for (CompactPath current = this; current.size > 0; current = current.previous) {
+            if (current.hasSegmentLabel(label, id))
+                single = current;
+        }
+        return single;
+    }
+
+    private List<Object> getAll(final String label, final int id, final int count) {
+        final Object[] objects = new Object[count];
+        int index = count;
+        for (CompactPath current = this; index > 0; current = current.previous) {
+            if (current.hasSegmentLabel(label, id))
+                objects[--index] = current.object;
+        }
+        return new ArrayList<>(Arrays.asList(objects));
+    }
+
+    private Object writeReplace() {
+        return new SerializedPath(this.objects(), this.labels());
+    }
+
+    ////////////////
+
+    private static CompactPath segment(final CompactPath previous, final Object object, final Set<String> labels) {
+        if (labels.isEmpty())
+            return new CompactPath(previous.table, previous, object, 0l, null);
+        long bits = 0l;
+        int lastId = -1;
+        boolean ordered = true;
+        for (final String label : labels) {
+            final int id = previous.table.intern(label);
+            if (id < 0)
+                ordered = false;
+            else {
+                if (id < lastId)
+                    ordered = false;
+                bits = bits | (1l << id);
+                lastId = id;
+            }
+        }
+        return new CompactPath(previous.table, previous, object, bits, ordered ? null : labels.toArray(new String[labels.size()]));
+    }
+
+    /**
+     * The label ids shared by the paths extended from the same empty path. Ids are only ever added, and the names are
+     * published as a new immutable {@link LabelNames} so that paths can be read by other threads.
+     */
+    private static final class LabelTable {
+        private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        private volatile LabelNames names = LabelNames.EMPTY;
+
+        /**
+         * Gets the id of an interned label or {@code -1} if the label has not been interned.
+         */
+        private int idOf(final String label) {
+            final Integer id = this.ids.get(label);
+            return null == id ? -1 : id;
+        }
+
+        private int intern(final String label) {
+            final Integer id = this.ids.get(label);
+            return null == id ? this.assign(label) : id;
+        }
+
+        private synchronized int assign(final String label) {
+            final Integer existing = this.ids.get(label);
+            if (null != existing)
+                return existing;
+            final String[] names = this.names.names;
+            if (names.length == MAX_LABEL_IDS)
+                return -1;
+            final String[] newNames = Arrays.copyOf(names, names.length + 1);
+            newNames[names.length] = label;
+            this.names = new LabelNames(newNames);
+            this.ids.put(label, names.length);
+            return names.length;
+        }
+    }
+
+    private static final class LabelNames {
+        private static final LabelNames EMPTY = new LabelNames(new String[0]);
+
+        private final String[] names;
+        private final Set<String>[] singletons;
+
+        private LabelNames(final String[] names) {
+            this.names = names;
+            this.singletons = new Set[names.length];
+            for (int i = 0; i < names.length; i++) {
+                this.singletons[i] = Collections.singleton(names[i]);
+            }
+        }
+    }
+
+    /**
+     * Label ids are local to a label table so a {@code CompactPath} is serialized by its objects and label names.
+     */
+    private static final class SerializedPath implements Serializable {
+        private final List<Object> objects;
+        private final List<Set<String>> labels;
+
+        private SerializedPath(final List<Object> objects, final List<Set<String>> labels) {
+            this.objects = new ArrayList<>(objects);
+            this.labels = new ArrayList<>();
+            for (final Set<String> segmentLabels : labels) {
+                this.labels.add(new LinkedHashSet<>(segmentLabels));
+            }
+        }
+
+        private Object readResolve() {
+            Path path = CompactPath.make();
+            for (int i = 0; i < this.objects.size(); i++) {
+                path = path.extend(this.objects.get(i), this.labels.get(i));
+            }
+            return path;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import com.carrotsearch.hppc.LongHashSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DedupSet tracks the objects that have already been seen by a de-duplicating step. If the first object added is a
+ * {@link org.apache.tinkerpop.gremlin.structure.Vertex} or {@link org.apache.tinkerpop.gremlin.structure.Edge} with a
+ * {@code Long} or {@code Integer} id, then all elements of that kind are tracked by their id in a primitive
+ * {@code long} hash set. Any other object is tracked in a standard {@link HashSet}.
+ */
+public final class DedupSet {
+
+    private final LongHashSet ids = new LongHashSet();
+    private final Set<Object> objects = new HashSet<>();
+    private NumericIdKind kind = null;
+    private boolean decided = false;
+
+    /**
+     * Adds the object to the set.
+     *
+     * @return {@code true} if the object was not already in the set
+     */
+    public boolean add(final Object object) {
+        if (!this.decided) {
+            this.kind = NumericIdKind.of(object);
+            this.decided = true;
+        }
+        return null != this.kind && this.kind.matches(object) ?
+                this.ids.add(this.kind.id(object)) :
+                this.objects.add(object);
+    }
+
+    public boolean contains(final Object object) {
+        return null != this.kind && this.kind.matches(object) ?
+                this.ids.contains(this.kind.id(object)) :
+                this.objects.contains(object);
+    }
+
+    public int size() {
+        return this.ids.size() + this.objects.size();
+    }
+
+    public boolean isEmpty() {
+        return this.ids.isEmpty() && this.objects.isEmpty();
+    }
+
+    public void clear() {
+        this.ids.clear();
+        this.objects.clear();
+        this.kind = null;
+        this.decided = false;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+/**
+ * Describes a family of {@link Element} objects whose equality is fully determined by a numeric identifier (see
+ * {@link org.apache.tinkerpop.gremlin.structure.util.ElementHelper#areEqual(Element, Object)}). Two objects of the
+ * same kind are equal if and only if their ids, widened to a {@code long}, are equal. This allows collections to
+ * track such elements in primitive structures rather than boxing and hashing the elements themselves.
+ */
+final class NumericIdKind {
+
+    private final Class<? extends Element> elementClass;
+    private final Class<?> idClass;
+
+    private NumericIdKind(final Class<? extends Element> elementClass, final Class<?> idClass) {
+        this.elementClass = elementClass;
+        this.idClass = idClass;
+    }
+
+    /**
+     * Determines the kind of the provided object or returns {@code null} if the object is not a {@link Vertex} or
+     * {@link Edge} with a {@link Long} or {@link Integer} id.
+     */
+    public static NumericIdKind of(final Object object) {
+        final Class<? extends Element> elementClass;
+        if (object instanceof Vertex)
+            elementClass = Vertex.class;
+        else if (object instanceof Edge)
+            elementClass = Edge.class;
+        else
+            return null;
+        final Object id = ((Element) object).id();
+        return id instanceof Long || id instanceof Integer ? new NumericIdKind(elementClass, id.getClass()) : null;
+    }
+
+    /**
+     * Determines if the provided object belongs to this kind and can thus be represented by {@link #id(Object)}.
+     */
+    public boolean matches(final Object object) {
+        return this.elementClass.isInstance(object) && this.idClass.isInstance(((Element) object).id());
+    }
+
+    /**
+     * Gets the id of an object for which {@link #matches(Object)} returned {@code true}.
+     */
+    public long id(final Object object) {
+        return ((Number) ((Element) object).id()).longValue();
+    }
+}
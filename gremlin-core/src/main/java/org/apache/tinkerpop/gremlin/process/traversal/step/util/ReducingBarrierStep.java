@@ -80,8 +80,16 @@ public abstract class ReducingBarrierStep<S, E> extends AbstractStep<S, E> imple
             return;
         this.hasProcessedOnce = true;
         if (this.seed == null) this.seed = this.seedSupplier.get();
+        this.seed = this.reduceStarts(this.seed);
+    }
+
+    /**
+     * Reduces the remaining starts into the seed and returns the result, which becomes the new seed.
+     */
+    protected E reduceStarts(E seed) {
         while (this.starts.hasNext())
-            this.seed = this.reducingBiOperator.apply(this.seed, this.projectTraverser(this.starts.next()));
+            seed = this.reducingBiOperator.apply(seed, this.projectTraverser(this.starts.next()));
+        return seed;
     }
 
     @Override
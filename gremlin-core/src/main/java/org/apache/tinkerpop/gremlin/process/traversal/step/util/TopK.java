@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BinaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * TopK retains only the objects that a stable sort would place within the first (or, for a tail, the last)
+ * {@code limit} positions. Objects are weighted by a bulk function and the bounded priority queue keeps the minimum
+ * number of objects whose bulk covers the limit. Objects that compare equal retain their insertion order, so
+ * {@link #toList()} is exactly the prefix (or suffix) of the fully sorted list.
+ * <p/>
+ * If a merge function is provided, objects that are {@code equal()} to an object already retained are merged into
+ * it (e.g. {@link org.apache.tinkerpop.gremlin.process.traversal.Traverser.Admin#merge}) rather than added.
+ */
+public final class TopK<T> {
+
+    private final Comparator<Entry<T>> order;
+    private final Comparator<Entry<T>> worstFirst;
+    private final long limit;
+    private final ToLongFunction<T> bulker;
+    private final BinaryOperator<T> merger;
+    private final PriorityQueue<Entry<T>> queue;
+    private final Map<T, Entry<T>> entries;
+    private long bulk = 0l;
+    private long counter = 0l;
+
+    public TopK(final Comparator<? super T> comparator, final long limit, final boolean tail) {
+        this(comparator, limit, tail, object -> 1l, null);
+    }
+
+    public TopK(final Comparator<? super T> comparator, final long limit, final boolean tail,
+                final ToLongFunction<T> bulker, final BinaryOperator<T> merger) {
+        this.order = (a, b) -> {
+            final int c = comparator.compare(a.object, b.object);
+            return 0 == c ? Long.compare(a.position, b.position) : c;
+        };
+        this.worstFirst = tail ? this.order : this.order.reversed();
+        this.limit = limit;
+        this.bulker = bulker;
+        this.merger = merger;
+        this.queue = new PriorityQueue<>(11, this.worstFirst);
+        this.entries = null == merger ? null : new HashMap<>();
+    }
+
+    public void add(final T object) {
+        if (this.limit <= 0)
+            return;
+        if (null != this.entries) {
+            final Entry<T> existing = this.entries.get(object);
+            if (null != existing) {
+                this.bulk = this.bulk + this.bulker.applyAsLong(object);
+                this.merger.apply(existing.object, object);
+                this.trim();
+                return;
+            }
+        }
+        final Entry<T> entry = new Entry<>(object, this.counter++);
+        if (this.bulk >= this.limit && this.worstFirst.compare(entry, this.queue.peek()) < 0)
+            return;
+        this.queue.add(entry);
+        if (null != this.entries)
+            this.entries.put(object, entry);
+        this.bulk = this.bulk + this.bulker.applyAsLong(object);
+        this.trim();
+    }
+
+    public boolean isEmpty() {
+        return this.queue.isEmpty();
+    }
+
+    /**
+     * Gets the retained objects in sorted order.
+     */
+    public List<T> toList() {
+        final List<Entry<T>> sorted = new ArrayList<>(this.queue);
+        Collections.sort(sorted, this.order);
+        final List<T> list = new ArrayList<>(sorted.size());
+        for (final Entry<T> entry : sorted) {
+            list.add(entry.object);
+        }
+        return list;
+    }
+
+    private void trim() {
+        while (this.queue.size() > 1) {
+            final long worst = this.bulker.applyAsLong(this.queue.peek().object);
+            if (this.bulk - worst < this.limit)
+                break;
+            final Entry<T> entry = this.queue.poll();
+            if (null != this.entries)
+                this.entries.remove(entry.object);
+            this.bulk = this.bulk - worst;
+        }
+    }
+
+    private static final class Entry<T> {
+        private final T object;
+        private final long position;
+
+        private Entry(final T object, final long position) {
+            this.object = object;
+            this.position = position;
+        }
+    }
+}
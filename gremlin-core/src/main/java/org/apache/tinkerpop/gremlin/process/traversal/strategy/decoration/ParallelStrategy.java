@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.decoration.VertexProgramStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.PathProcessor;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStepV3d0;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.ParallelScanProvider;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * {@code ParallelStrategy} traverses the elements of a start {@link GraphStep} concurrently when the graph is a
+ * {@link ParallelScanProvider}. The linear prefix of the traversal, from the {@link GraphStep} up to and including
+ * its first reducing barrier (e.g. {@code count()}, {@code fold()}, {@code group()}) or {@code order()}, is wrapped
+ * in a {@link ParallelStep} which processes a clone of the prefix per split in a
+ * {@link java.util.concurrent.ForkJoinPool} and merges the partial barriers. Prefixes that mutate the graph, write
+ * side-effects, evaluate lambdas, process paths or are range limited are left as is. The strategy has no effect on
+ * {@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} traversals.
+ * <p/>
+ * <pre>
+ * g.withParallelism(8).V().out().groupCount().by(label)
+ * </pre>
+ */
+public final class ParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy> implements TraversalStrategy.DecorationStrategy {
+
+    private static final Set<Class<? extends DecorationStrategy>> PRIORS = new HashSet<>(Arrays.asList(
+            ConnectiveStrategy.class, ElementIdStrategy.class, PartitionStrategy.class, SubgraphStrategy.class));
+
+    private final int parallelism;
+
+    private ParallelStrategy(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (!(traversal.getParent() instanceof EmptyStep) ||
+                TraversalHelper.onGraphComputer(traversal) ||
+                traversal.getStrategies().toList().stream().anyMatch(strategy -> strategy instanceof VertexProgramStrategy) ||
+                !traversal.getGraph().flatMap(ParallelScanProvider::of).isPresent() ||
+                traversal.getSteps().isEmpty() ||
+                !GraphStep.isStartStep(traversal.getStartStep()))
+            return;
+
+        int barrierIndex = -1;
+        for (int i = 0; i < traversal.getSteps().size(); i++) {
+            final Step<?, ?> step = traversal.getSteps().get(i);
+            if (!isParallelizable(step) || (step instanceof Barrier && !(step instanceof NoOpBarrierStep) && !isMergeable(step)))
+                return;
+            if (isMergeable(step)) {
+                barrierIndex = i;
+                break;
+            }
+            if (!step.getLabels().isEmpty())
+                return;
+        }
+        if (-1 == barrierIndex)
+            return;
+
+        final Traversal.Admin<?, ?> parallelTraversal = new DefaultTraversal<>();
+        final Step<?, ?> barrier = traversal.getSteps().get(barrierIndex);
+        final ParallelStep<?, ?> parallelStep = new ParallelStep<>(traversal, parallelTraversal, this.parallelism);
+        barrier.getLabels().forEach(parallelStep::addLabel);
+        barrier.getLabels().forEach(barrier::removeLabel);
+        for (int i = 0; i <= barrierIndex; i++) {
+            final Step<?, ?> step = traversal.getStartStep();
+            traversal.removeStep(step);
+            parallelTraversal.addStep(step);
+        }
+        traversal.addStep(0, parallelStep);
+    }
+
+    private static boolean isMergeable(final Step<?, ?> step) {
+        return (step instanceof ReducingBarrierStep && !(step instanceof GroupStepV3d0)) || step instanceof OrderGlobalStep;
+    }
+
+    private static boolean isParallelizable(final Step<?, ?> step) {
+        if (step instanceof Mutating ||
+                step instanceof SideEffectCapable ||
+                step instanceof LambdaHolder ||
+                step instanceof PathProcessor ||
+                step instanceof Ranging ||
+                step.getRequirements().contains(TraverserRequirement.PATH) ||
+                step.getRequirements().contains(TraverserRequirement.LABELED_PATH))
+            return false;
+        if (step instanceof TraversalParent) {
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                if (!child.getSteps().stream().allMatch(ParallelStrategy::isParallelizable))
+                    return false;
+            }
+            for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                if (!child.getSteps().stream().allMatch(ParallelStrategy::isParallelizable))
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    @Override
+    public Set<Class<? extends DecorationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    @Override
+    public Set<Class<? extends DecorationStrategy>> applyPost() {
+        return Collections.singleton(VertexProgramStrategy.class);
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private Builder() {
+        }
+
+        /**
+         * The number of splits the elements of the start step are traversed in. Defaults to the number of processors.
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1)
+                throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public ParallelStrategy create() {
+            return new ParallelStrategy(this.parallelism);
+        }
+    }
+}
@@ -22,17 +22,27 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Barrier;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.BatchAdjacencyProvider;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -47,6 +57,7 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
     private static final int REQUIRED_DEPTH = 2;
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 10000;
+    private static final Collection<Class> BATCH_BLOCKING_STEPS = Arrays.asList(Mutating.class, Ranging.class);
 
     static {
         POSTS.add(ProfileStrategy.class);
@@ -88,7 +99,59 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
                 else if ('e' == foundVertexStep && step instanceof EdgeVertexStep)
                     foundVertexStep = 'v';
             }
+            // let the barriers feed the adjacency and property lookups of a batching graph
+            final BatchAdjacencyProvider provider = traversal.getGraph().flatMap(BatchAdjacencyProvider::of).orElse(null);
+            if (null != provider) {
+                for (final NoOpBarrierStep<?> barrier : TraversalHelper.getStepsOfClass(NoOpBarrierStep.class, traversal)) {
+                    final Step<?, ?> next = barrier.getNextStep();
+                    if ((next instanceof VertexStep || next instanceof PropertiesStep) && ((Batching) next).supportsBatching())
+                        ((Batching) next).setBatchSize(provider.getBatchSize());
+                }
+            }
+        }
+
+        // batching merges equal traversers and thus, requires bulking
+        if (traversal.getParent() instanceof EmptyStep && !traversal.getTraverserRequirements().contains(TraverserRequirement.ONE_BULK))
+            LazyBarrierStrategy.enableBatching(traversal);
+    }
+
+    /**
+     * Turns on batch mode for every run of at least two consecutive steps that support batching. Like the lazy barriers,
+     * batches process traversers ahead of demand and merge equal traversers, so only the steps after the last step that
+     * mutates the graph or ranges over the traversers (including those of child traversals) are batched.
+     */
+    private static void enableBatching(final Traversal.Admin<?, ?> traversal) {
+        final List<Step> steps = traversal.getSteps();
+        int start = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            final Step<?, ?> step = steps.get(i);
+            if (step instanceof Mutating || step instanceof Ranging ||
+                    (step instanceof TraversalParent && hasChildStepOf(BATCH_BLOCKING_STEPS, (TraversalParent) step)))
+                start = i + 1;
+        }
+        for (int i = start; i <= steps.size(); i++) {
+            if (i < steps.size() && steps.get(i) instanceof Batching && ((Batching) steps.get(i)).supportsBatching())
+                continue;
+            if (i - start > 1) {
+                for (int j = start; j < i; j++) {
+                    if (0 == ((Batching) steps.get(j)).getBatchSize())
+                        ((Batching) steps.get(j)).setBatchSize(Batching.DEFAULT_BATCH_SIZE);
+                }
+            }
+            start = i + 1;
+        }
+    }
+
+    private static boolean hasChildStepOf(final Collection<Class> stepClasses, final TraversalParent parent) {
+        for (final Traversal.Admin<?, ?> child : parent.getLocalChildren()) {
+            if (TraversalHelper.hasStepOfAssignableClassRecursively(stepClasses, child))
+                return true;
+        }
+        for (final Traversal.Admin<?, ?> child : parent.getGlobalChildren()) {
+            if (TraversalHelper.hasStepOfAssignableClassRecursively(stepClasses, child))
+                return true;
         }
+        return false;
     }
 
 
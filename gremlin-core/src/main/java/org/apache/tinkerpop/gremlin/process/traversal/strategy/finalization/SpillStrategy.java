@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GroupStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.io.File;
+
+/**
+ * {@code SpillStrategy} bounds the number of traversers that the OLTP {@code order()} and {@code group()} barriers
+ * hold in memory. The threshold is a count of traversers, not a memory size, so it should be chosen with the size of
+ * the traversers of the traversal in mind. Once the threshold is reached, {@code order()} sorts its traversers and
+ * spills them to a temporary file and the sorted runs are merged when the barrier is emptied, while {@code group()}
+ * hashes the remaining traversers by key into temporary partition files and reduces one partition at a time.
+ * <p/>
+ * The strategy has limits that should be kept in mind:
+ * <ul>
+ *     <li>The threshold counts traversers and does not measure memory, so large traversers may still exhaust the
+ *     heap before it is reached.</li>
+ *     <li>{@code group()} hashes into 16 partitions and reducing a partition holds all of its groups in memory, so
+ *     about 1/16 of the traversers beyond the threshold are reduced in memory at once.</li>
+ *     <li>{@code dedup()} is not spilled as it streams its traversers and holds every key it has seen in memory.</li>
+ *     <li>{@link org.apache.tinkerpop.gremlin.process.computer.GraphComputer} traversals and traversals that track
+ *     paths are not spilled.</li>
+ * </ul>
+ * <p/>
+ * <pre>
+ * g.withStrategies(SpillStrategy.build().threshold(100000).create()).V().order().by("ts")
+ * g.withStrategies(SpillStrategy.build().threshold(100000).create()).V().group().by("country").by(count())
+ * </pre>
+ */
+public final class SpillStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+    private final long threshold;
+    private final File directory;
+
+    private SpillStrategy(final long threshold, final File directory) {
+        this.threshold = threshold;
+        this.directory = directory;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof OrderGlobalStep) {
+                ((OrderGlobalStep) step).setSpill(this.threshold, this.directory);
+            } else if (step instanceof GroupStep) {
+                ((GroupStep) step).setSpill(this.threshold, this.directory);
+            }
+        }
+    }
+
+    public long getThreshold() {
+        return this.threshold;
+    }
+
+    public File getDirectory() {
+        return this.directory;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.traversalStrategyString(this);
+    }
+
+    public final static class Builder {
+
+        private long threshold = 100000l;
+        private File directory = new File(System.getProperty("java.io.tmpdir"));
+
+        private Builder() {
+        }
+
+        /**
+         * The number of traversers a barrier may hold in memory before spilling them to disk. This is a count of
+         * traversers and not a size in bytes.
+         */
+        public Builder threshold(final long threshold) {
+            if (threshold <= 0)
+                throw new IllegalArgumentException("The spill threshold must be greater than zero: " + threshold);
+            this.threshold = threshold;
+            return this;
+        }
+
+        /**
+         * The directory in which spilled traversers are written. Defaults to {@code java.io.tmpdir}.
+         */
+        public Builder directory(final String directory) {
+            this.directory = new File(directory);
+            return this;
+        }
+
+        public SpillStrategy create() {
+            return new SpillStrategy(this.threshold, this.directory);
+        }
+    }
+}
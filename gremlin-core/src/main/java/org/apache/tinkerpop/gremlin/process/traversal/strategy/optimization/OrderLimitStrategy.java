@@ -23,13 +23,17 @@ import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.IdStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.LabelStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.PathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.RangeLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SackStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectOneStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.SelectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.TailLocalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.TreeStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
@@ -40,7 +44,17 @@ import java.util.List;
 import java.util.Set;
 
 /**
+ * {@code OrderLimitStrategy} informs an {@link OrderGlobalStep} of the number of traversers that a subsequent
+ * {@link RangeGlobalStep} or {@link TailGlobalStep} will take, so that only that many are retained while ordering
+ * (in both OLTP and OLAP). Likewise, an {@link OrderLocalStep} directly followed by a {@link RangeLocalStep} or
+ * {@link TailLocalStep} only selects the entries that are required.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
+ * @example <pre>
+ * __.order().by("age").limit(10)               // the order() step keeps 10 traversers
+ * __.order().by("age").select("a").tail(5)     // the order() step keeps the last 5 traversers
+ * __.fold().order(local).limit(local, 2)       // the order(local) step selects 2 entries
+ * </pre>
  */
 public final class OrderLimitStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
 
@@ -60,24 +74,34 @@ public final class OrderLimitStrategy extends AbstractTraversalStrategy<Traversa
 
     @Override
     public void apply(final Traversal.Admin<?, ?> traversal) {
-        if (!TraversalHelper.onGraphComputer(traversal))
-            return;
-
         final List<OrderGlobalStep> orders = TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal);
         for (final OrderGlobalStep order : orders) {
-            RangeGlobalStep range = null;
             Step<?, ?> currentStep = order.getNextStep();
             while (true) {
                 if (currentStep instanceof RangeGlobalStep) {
-                    range = (RangeGlobalStep) currentStep;
+                    final long high = ((RangeGlobalStep) currentStep).getHighRange();
+                    if (-1 != high)
+                        order.setLimit(high, false);
+                    break;
+                } else if (currentStep instanceof TailGlobalStep) {
+                    order.setLimit(((TailGlobalStep) currentStep).getLimit(), true);
                     break;
                 } else if (!LEGAL_STEPS.contains(currentStep.getClass()))
                     break;
                 else
                     currentStep = currentStep.getNextStep();
             }
-            if (null != range)
-                order.setLimit(range.getHighRange());
+        }
+
+        final List<OrderLocalStep> localOrders = TraversalHelper.getStepsOfClass(OrderLocalStep.class, traversal);
+        for (final OrderLocalStep order : localOrders) {
+            final Step<?, ?> nextStep = order.getNextStep();
+            if (nextStep instanceof RangeLocalStep) {
+                final long high = ((RangeLocalStep) nextStep).getHighRange();
+                if (-1 != high)
+                    order.setLimit(high, false);
+            } else if (nextStep instanceof TailLocalStep)
+                order.setLimit(((TailLocalStep) nextStep).getLimit(), true);
         }
     }
 
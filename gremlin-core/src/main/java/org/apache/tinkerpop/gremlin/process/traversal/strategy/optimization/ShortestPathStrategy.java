@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SimplePathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.T;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code ShortestPathStrategy} replaces the common shortest path pattern
+ * {@code repeat(out().simplePath()).until(hasId(x)).limit(1).path()} with a {@link ShortestPathStep} which performs a
+ * (bidirectional) breadth-first search that visits every vertex at most once instead of enumerating all simple paths.
+ * The path found is a shortest path, but when there are several shortest paths it may not be the one that the
+ * unmodified traversal would return first, so the strategy is not registered by default and must be added with
+ * {@code g.withStrategies(ShortestPathStrategy.instance())}. As the search is done per start vertex, a traversal
+ * with several start vertices returns the shortest path of the first start that reaches a target rather than the
+ * shortest path over all of them. The strategy only applies to OLTP traversals and won't
+ * modify the traversal if:
+ * <ul>
+ * <li>the repeat has an {@code emit()}, a {@code times()} or an {@code until()} that is not a single id test</li>
+ * <li>the repeated traversal is not an adjacent vertex step followed by {@code simplePath()}</li>
+ * <li>any of the steps involved is labeled or {@code path()} is {@code by()}-modulated</li>
+ * <li>the range is not {@code limit(1)}</li>
+ * </ul>
+ * <p/>
+ * @example <pre>
+ * __.repeat(out().simplePath()).until(hasId(5)).limit(1).path()          // is replaced by a ShortestPathStep and limit(1)
+ * __.repeat(both("knows").simplePath()).until(hasId(5)).path().limit(1) // is replaced by a ShortestPathStep and limit(1)
+ * __.repeat(out().simplePath()).until(hasId(5)).limit(2).path()          // will not be modified
+ * __.repeat(out().simplePath()).emit().until(hasId(5)).path()            // will not be modified
+ * </pre>
+ */
+public final class ShortestPathStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy>
+        implements TraversalStrategy.OptimizationStrategy {
+
+    private static final ShortestPathStrategy INSTANCE = new ShortestPathStrategy();
+
+    private ShortestPathStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal))
+            return;
+        for (final RepeatStep<?> repeatStep : TraversalHelper.getStepsOfClass(RepeatStep.class, traversal)) {
+            if (!isOptimizable(repeatStep))
+                continue;
+            final Step<?, ?> next = repeatStep.getNextStep();
+            final Step<?, ?> pathStep = next instanceof PathStep ? next : next.getNextStep();
+            final VertexStep<?> vertexStep = (VertexStep<?>) repeatStep.getGlobalChildren().get(0).getStartStep();
+            final HasStep<?> hasStep = (HasStep<?>) repeatStep.getUntilTraversal().getStartStep();
+            final List<HasContainer> targetContainers = new ArrayList<>();
+            hasStep.getHasContainers().forEach(hasContainer -> targetContainers.add(hasContainer.clone()));
+            final ShortestPathStep shortestPathStep = new ShortestPathStep(traversal, vertexStep.getDirection(), vertexStep.getEdgeLabels(), targetContainers);
+            traversal.removeStep(pathStep);
+            TraversalHelper.replaceStep((Step) repeatStep, shortestPathStep, traversal);
+        }
+    }
+
+    private static boolean isOptimizable(final RepeatStep<?> repeatStep) {
+        if (!repeatStep.getLabels().isEmpty() || null != repeatStep.getEmitTraversal() || repeatStep.untilFirst)
+            return false;
+        // repeat(out().simplePath())
+        final List<Step> repeatSteps = repeatStep.getGlobalChildren().get(0).getSteps();
+        if (repeatSteps.size() != 3 ||
+                !(repeatSteps.get(0) instanceof VertexStep) ||
+                !((VertexStep) repeatSteps.get(0)).returnsVertex() ||
+                !(repeatSteps.get(1) instanceof SimplePathStep) ||
+                !(repeatSteps.get(2) instanceof RepeatStep.RepeatEndStep) ||
+                !repeatSteps.get(0).getLabels().isEmpty() ||
+                !repeatSteps.get(1).getLabels().isEmpty())
+            return false;
+        // until(hasId(x))
+        final Traversal.Admin<?, ?> untilTraversal = repeatStep.getUntilTraversal();
+        if (null == untilTraversal || untilTraversal.getSteps().size() != 1 || !(untilTraversal.getStartStep() instanceof HasStep))
+            return false;
+        final List<HasContainer> hasContainers = ((HasStep<?>) untilTraversal.getStartStep()).getHasContainers();
+        if (hasContainers.size() != 1 || !hasContainers.get(0).getKey().equals(T.id.getAccessor()) ||
+                !(hasContainers.get(0).getBiPredicate() == Compare.eq || hasContainers.get(0).getBiPredicate() == Contains.within))
+            return false;
+        // limit(1).path() or path().limit(1)
+        final Step<?, ?> first = repeatStep.getNextStep();
+        final Step<?, ?> second = first.getNextStep();
+        return (isLimitOne(first) && isPath(second)) || (isPath(first) && isLimitOne(second));
+    }
+
+    private static boolean isLimitOne(final Step<?, ?> step) {
+        return step instanceof RangeGlobalStep && step.getLabels().isEmpty() &&
+                0 == ((RangeGlobalStep) step).getLowRange() && 1 == ((RangeGlobalStep) step).getHighRange();
+    }
+
+    private static boolean isPath(final Step<?, ?> step) {
+        return step instanceof PathStep && step.getLabels().isEmpty() && ((PathStep<?>) step).getLocalChildren().isEmpty();
+    }
+
+    public static ShortestPathStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPost() {
+        return Collections.singleton(PathRetractionStrategy.class);
+    }
+}
@@ -21,8 +21,9 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
-import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactPath;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractTraverser;
 
 import java.util.Set;
 
@@ -37,8 +38,15 @@ public class B_LP_O_P_S_SE_SL_Traverser<T> extends B_O_S_SE_SL_Traverser<T> {
     }
 
     public B_LP_O_P_S_SE_SL_Traverser(final T t, final Step<T, ?> step, final long initialBulk) {
+        this(t, step, initialBulk, CompactPath.make());
+    }
+
+    /**
+     * Creates a traverser whose path is extended from the provided empty path.
+     */
+    public B_LP_O_P_S_SE_SL_Traverser(final T t, final Step<T, ?> step, final long initialBulk, final Path emptyPath) {
         super(t, step, initialBulk);
-        this.path = ImmutablePath.make().extend(t, step.getLabels());
+        this.path = emptyPath.extend(t, step.getLabels());
     }
 
     /////////////////
@@ -59,6 +67,12 @@ public class B_LP_O_P_S_SE_SL_Traverser<T> extends B_O_S_SE_SL_Traverser<T> {
 
     /////////////////
 
+    @Override
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        super.copyFrom(other);
+        this.path = ((B_LP_O_P_S_SE_SL_Traverser<?>) other).path;
+    }
+
     @Override
     public <R> Traverser.Admin<R> split(final R r, final Step<T, R> step) {
         final B_LP_O_P_S_SE_SL_Traverser<R> clone = (B_LP_O_P_S_SE_SL_Traverser<R>) super.split(r, step);
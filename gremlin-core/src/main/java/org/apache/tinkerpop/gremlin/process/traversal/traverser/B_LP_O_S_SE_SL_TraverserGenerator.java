@@ -18,9 +18,11 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
-import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactPath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractLabeledPathTraverserGenerator;
 
 import java.util.EnumSet;
 import java.util.Set;
@@ -28,9 +30,9 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class B_LP_O_S_SE_SL_TraverserGenerator implements TraverserGenerator {
+public final class B_LP_O_S_SE_SL_TraverserGenerator extends AbstractLabeledPathTraverserGenerator {
 
-    private static final B_LP_O_S_SE_SL_TraverserGenerator INSTANCE = new B_LP_O_S_SE_SL_TraverserGenerator();
+    private static final B_LP_O_S_SE_SL_TraverserGenerator INSTANCE = new B_LP_O_S_SE_SL_TraverserGenerator(null);
     private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(
             TraverserRequirement.BULK,
             TraverserRequirement.LABELED_PATH,
@@ -39,12 +41,13 @@ public final class B_LP_O_S_SE_SL_TraverserGenerator implements TraverserGenerat
             TraverserRequirement.SIDE_EFFECTS,
             TraverserRequirement.SINGLE_LOOP);
 
-    private B_LP_O_S_SE_SL_TraverserGenerator() {
+    private B_LP_O_S_SE_SL_TraverserGenerator(final Path emptyPath) {
+        super(emptyPath);
     }
 
     @Override
-    public <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk) {
-        return new B_LP_O_S_SE_SL_Traverser<>(start, startStep, initialBulk);
+    protected <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk, final Path emptyPath) {
+        return new B_LP_O_S_SE_SL_Traverser<>(start, startStep, initialBulk, emptyPath);
     }
 
     @Override
@@ -55,4 +58,12 @@ public final class B_LP_O_S_SE_SL_TraverserGenerator implements TraverserGenerat
     public static B_LP_O_S_SE_SL_TraverserGenerator instance() {
         return INSTANCE;
     }
+
+    /**
+     * Creates a generator whose traversers share a common empty path. The traversers of {@link #instance()} each have
+     * their own.
+     */
+    public static B_LP_O_S_SE_SL_TraverserGenerator create() {
+        return new B_LP_O_S_SE_SL_TraverserGenerator(CompactPath.make());
+    }
 }
\ No newline at end of file
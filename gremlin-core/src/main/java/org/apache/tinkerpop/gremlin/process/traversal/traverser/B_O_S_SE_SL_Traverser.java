@@ -22,6 +22,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractTraverser;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -86,6 +87,14 @@ public class B_O_S_SE_SL_Traverser<T> extends B_O_Traverser<T> {
 
     /////////////////
 
+    @Override
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        super.copyFrom(other);
+        this.sack = ((B_O_S_SE_SL_Traverser<?>) other).sack;
+        this.loops = ((B_O_S_SE_SL_Traverser<?>) other).loops;
+        this.sideEffects = ((B_O_S_SE_SL_Traverser<?>) other).sideEffects;
+    }
+
     @Override
     public <R> Traverser.Admin<R> split(final R r, final Step<T, R> step) {
         final B_O_S_SE_SL_Traverser<R> clone = (B_O_S_SE_SL_Traverser<R>) super.split(r, step);
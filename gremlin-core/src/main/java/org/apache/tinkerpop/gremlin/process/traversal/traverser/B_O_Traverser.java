@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractTraverser;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,6 +47,13 @@ public class B_O_Traverser<T> extends O_Traverser<T> {
         return this.bulk;
     }
 
+    @Override
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        super.copyFrom(other);
+        this.bulk = ((B_O_Traverser<?>) other).bulk;
+        this.future = ((B_O_Traverser<?>) other).future;
+    }
+
     @Override
     public void merge(final Traverser.Admin<?> other) {
         super.merge(other);
@@ -19,9 +19,11 @@
 
 package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
-import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactPath;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractLabeledPathTraverserGenerator;
 
 import java.util.EnumSet;
 import java.util.Set;
@@ -29,7 +31,7 @@ import java.util.Set;
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
-public final class LP_O_OB_P_S_SE_SL_TraverserGenerator implements TraverserGenerator {
+public final class LP_O_OB_P_S_SE_SL_TraverserGenerator extends AbstractLabeledPathTraverserGenerator {
 
     private static final Set<TraverserRequirement> REQUIREMENTS = EnumSet.of(
             TraverserRequirement.LABELED_PATH,
@@ -41,14 +43,15 @@ public final class LP_O_OB_P_S_SE_SL_TraverserGenerator implements TraverserGene
             TraverserRequirement.SINGLE_LOOP);
 
 
-    private static final LP_O_OB_P_S_SE_SL_TraverserGenerator INSTANCE = new LP_O_OB_P_S_SE_SL_TraverserGenerator();
+    private static final LP_O_OB_P_S_SE_SL_TraverserGenerator INSTANCE = new LP_O_OB_P_S_SE_SL_TraverserGenerator(null);
 
-    private LP_O_OB_P_S_SE_SL_TraverserGenerator() {
+    private LP_O_OB_P_S_SE_SL_TraverserGenerator(final Path emptyPath) {
+        super(emptyPath);
     }
 
     @Override
-    public <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk) {
-        return new LP_O_OB_P_S_SE_SL_Traverser<>(start, startStep);
+    protected <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk, final Path emptyPath) {
+        return new LP_O_OB_P_S_SE_SL_Traverser<>(start, startStep, emptyPath);
     }
 
     @Override
@@ -59,4 +62,12 @@ public final class LP_O_OB_P_S_SE_SL_TraverserGenerator implements TraverserGene
     public static LP_O_OB_P_S_SE_SL_TraverserGenerator instance() {
         return INSTANCE;
     }
+
+    /**
+     * Creates a generator whose traversers share a common empty path. The traversers of {@link #instance()} each have
+     * their own.
+     */
+    public static LP_O_OB_P_S_SE_SL_TraverserGenerator create() {
+        return new LP_O_OB_P_S_SE_SL_TraverserGenerator(CompactPath.make());
+    }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.AbstractTraverser;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -99,6 +100,15 @@ public class O_OB_S_SE_SL_Traverser<T> extends O_Traverser<T> {
 
     /////////////////
 
+    @Override
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        super.copyFrom(other);
+        this.sack = ((O_OB_S_SE_SL_Traverser<?>) other).sack;
+        this.loops = ((O_OB_S_SE_SL_Traverser<?>) other).loops;
+        this.sideEffects = ((O_OB_S_SE_SL_Traverser<?>) other).sideEffects;
+        this.future = ((O_OB_S_SE_SL_Traverser<?>) other).future;
+    }
+
     @Override
     public <R> Traverser.Admin<R> split(final R r, final Step<T, R> step) {
         final O_OB_S_SE_SL_Traverser<R> clone = (O_OB_S_SE_SL_Traverser<R>) super.split(r, step);
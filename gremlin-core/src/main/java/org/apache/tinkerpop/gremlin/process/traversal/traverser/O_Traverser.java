@@ -45,6 +45,12 @@ public abstract class O_Traverser<T> extends AbstractTraverser<T> {
         return this.tags;
     }
 
+    @Override
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        super.copyFrom(other);
+        this.tags = ((O_Traverser<?>) other).tags;
+    }
+
     @Override
     public <R> Admin<R> split(final R r, final Step<T, R> step) {
         final O_Traverser<R> clone = (O_Traverser<R>) super.split(r, step);
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.InputShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.KryoShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.OutputShim;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.kryoshim.SerializerShim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serializes the {@link Traverser} implementations of this package in a compact form that suits the traverser
+ * messages and the halted traversers of {@link org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram}.
+ * It is only registered by a {@link org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper} built with
+ * {@code compactTraversers(true)}.
+ * A traverser is written as a flags byte, its (typically detached) object, a variable-length bulk and its step id.
+ * The tags, the sack, the loops and the path follow only if the flags mark them as present.
+ */
+public final class TraverserSerializer implements SerializerShim<Traverser.Admin> {
+
+    /**
+     * The traverser classes that this serializer reads and writes. The abstract {@link O_Traverser} is not among them
+     * as it has no instances of its own.
+     */
+    public static final List<Class<? extends Traverser.Admin>> TRAVERSER_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            B_O_Traverser.class, B_O_S_SE_SL_Traverser.class, B_LP_O_S_SE_SL_Traverser.class,
+            B_LP_O_P_S_SE_SL_Traverser.class, O_OB_S_SE_SL_Traverser.class, LP_O_OB_S_SE_SL_Traverser.class,
+            LP_O_OB_P_S_SE_SL_Traverser.class));
+
+    private static final byte TAGS = 1;
+    private static final byte SACK = 2;
+    private static final byte LOOPS = 4;
+    private static final byte PATH = 8;
+
+    @Override
+    public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final Traverser.Admin traverser) {
+        final Set<String> tags = traverser.getTags();
+        final Object sack = getSack(traverser);
+        final int loops = getLoops(traverser);
+        final Path path = getPath(traverser);
+        byte flags = 0;
+        if (!tags.isEmpty()) flags |= TAGS;
+        if (null != sack) flags |= SACK;
+        if (loops > 0) flags |= LOOPS;
+        if (null != path) flags |= PATH;
+        output.writeByte(flags);
+        kryo.writeClassAndObject(output, traverser.get());
+        writeVarLong(output, traverser.bulk());
+        output.writeString(traverser.getStepId());
+        if ((flags & TAGS) != 0) {
+            writeVarLong(output, tags.size());
+            for (final String tag : tags) {
+                output.writeString(tag);
+            }
+        }
+        if ((flags & SACK) != 0)
+            kryo.writeClassAndObject(output, sack);
+        if ((flags & LOOPS) != 0)
+            writeVarLong(output, loops);
+        if ((flags & PATH) != 0)
+            kryo.writeClassAndObject(output, path);
+    }
+
+    @Override
+    public <I extends InputShim> Traverser.Admin read(final KryoShim<I, ?> kryo, final I input, final Class<Traverser.Admin> clazz) {
+        final Traverser.Admin traverser = create(clazz);
+        final byte flags = input.readByte();
+        traverser.set(kryo.readClassAndObject(input));
+        traverser.setBulk(readVarLong(input));
+        traverser.setStepId(input.readString());
+        if ((flags & TAGS) != 0) {
+            final Set<String> tags = traverser.getTags();
+            for (long i = readVarLong(input); i > 0; i--) {
+                tags.add(input.readString());
+            }
+        }
+        if ((flags & SACK) != 0)
+            traverser.sack(kryo.readClassAndObject(input));
+        if ((flags & LOOPS) != 0)
+            setLoops(traverser, (short) readVarLong(input));
+        if ((flags & PATH) != 0)
+            setPath(traverser, (Path) kryo.readClassAndObject(input));
+        return traverser;
+    }
+
+    private static Traverser.Admin create(final Class<?> clazz) {
+        if (B_O_Traverser.class == clazz)
+            return new B_O_Traverser<>();
+        else if (B_O_S_SE_SL_Traverser.class == clazz)
+            return new B_O_S_SE_SL_Traverser<>();
+        else if (B_LP_O_S_SE_SL_Traverser.class == clazz)
+            return new B_LP_O_S_SE_SL_Traverser<>();
+        else if (B_LP_O_P_S_SE_SL_Traverser.class == clazz)
+            return new B_LP_O_P_S_SE_SL_Traverser<>();
+        else if (O_OB_S_SE_SL_Traverser.class == clazz)
+            return new O_OB_S_SE_SL_Traverser<>();
+        else if (LP_O_OB_S_SE_SL_Traverser.class == clazz)
+            return new LP_O_OB_S_SE_SL_Traverser<>();
+        else if (LP_O_OB_P_S_SE_SL_Traverser.class == clazz)
+            return new LP_O_OB_P_S_SE_SL_Traverser<>();
+        else
+            throw new IllegalStateException("The traverser class is not supported by this serializer: " + clazz.getName());
+    }
+
+    private static Path getPath(final Traverser.Admin traverser) {
+        if (traverser instanceof B_LP_O_P_S_SE_SL_Traverser)
+            return ((B_LP_O_P_S_SE_SL_Traverser) traverser).path;
+        else if (traverser instanceof B_LP_O_S_SE_SL_Traverser)
+            return ((B_LP_O_S_SE_SL_Traverser) traverser).path;
+        else if (traverser instanceof LP_O_OB_P_S_SE_SL_Traverser)
+            return ((LP_O_OB_P_S_SE_SL_Traverser) traverser).path;
+        else if (traverser instanceof LP_O_OB_S_SE_SL_Traverser)
+            return ((LP_O_OB_S_SE_SL_Traverser) traverser).path;
+        else
+            return null;
+    }
+
+    private static void setPath(final Traverser.Admin traverser, final Path path) {
+        if (traverser instanceof B_LP_O_P_S_SE_SL_Traverser)
+            ((B_LP_O_P_S_SE_SL_Traverser) traverser).path = path;
+        else if (traverser instanceof B_LP_O_S_SE_SL_Traverser)
+            ((B_LP_O_S_SE_SL_Traverser) traverser).path = path;
+        else if (traverser instanceof LP_O_OB_P_S_SE_SL_Traverser)
+            ((LP_O_OB_P_S_SE_SL_Traverser) traverser).path = path;
+        else if (traverser instanceof LP_O_OB_S_SE_SL_Traverser)
+            ((LP_O_OB_S_SE_SL_Traverser) traverser).path = path;
+    }
+
+    private static Object getSack(final Traverser.Admin traverser) {
+        if (traverser instanceof B_O_S_SE_SL_Traverser)
+            return ((B_O_S_SE_SL_Traverser) traverser).sack;
+        else if (traverser instanceof O_OB_S_SE_SL_Traverser)
+            return ((O_OB_S_SE_SL_Traverser) traverser).sack;
+        else
+            return null;
+    }
+
+    private static int getLoops(final Traverser.Admin traverser) {
+        if (traverser instanceof B_O_S_SE_SL_Traverser)
+            return ((B_O_S_SE_SL_Traverser) traverser).loops;
+        else if (traverser instanceof O_OB_S_SE_SL_Traverser)
+            return ((O_OB_S_SE_SL_Traverser) traverser).loops;
+        else
+            return 0;
+    }
+
+    private static void setLoops(final Traverser.Admin traverser, final short loops) {
+        if (traverser instanceof B_O_S_SE_SL_Traverser)
+            ((B_O_S_SE_SL_Traverser) traverser).loops = loops;
+        else if (traverser instanceof O_OB_S_SE_SL_Traverser)
+            ((O_OB_S_SE_SL_Traverser) traverser).loops = loops;
+    }
+
+    private static void writeVarLong(final OutputShim output, long value) {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((byte) value);
+    }
+
+    private static long readVarLong(final InputShim input) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
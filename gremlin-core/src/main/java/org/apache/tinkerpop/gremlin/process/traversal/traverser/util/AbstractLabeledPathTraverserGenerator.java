@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactPath;
+
+/**
+ * A {@link TraverserGenerator} of traversers with labeled paths. If the generator has an empty path, its traversers
+ * extend their paths from that path and thus share its label ids, e.g. for the traversers of a single traversal.
+ * Otherwise each traverser starts from its own {@link CompactPath}.
+ */
+public abstract class AbstractLabeledPathTraverserGenerator implements TraverserGenerator {
+
+    private final Path emptyPath;
+
+    protected AbstractLabeledPathTraverserGenerator(final Path emptyPath) {
+        this.emptyPath = emptyPath;
+    }
+
+    @Override
+    public <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk) {
+        return this.generate(start, startStep, initialBulk, null == this.emptyPath ? CompactPath.make() : this.emptyPath);
+    }
+
+    /**
+     * Generates a traverser whose path is extended from the provided empty path.
+     */
+    protected abstract <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk, final Path emptyPath);
+}
@@ -36,6 +36,7 @@ import java.util.function.Function;
 public abstract class AbstractTraverser<T> implements Traverser<T>, Traverser.Admin<T> {
 
     protected T t;
+    protected transient TraverserRecycler recycler = null;
 
     protected AbstractTraverser() {
 
@@ -54,24 +55,57 @@ public abstract class AbstractTraverser<T> implements Traverser<T>, Traverser.Ad
 
     @Override
     public <R> Admin<R> split(final R r, final Step<T, R> step) {
-        try {
-            final AbstractTraverser<R> clone = (AbstractTraverser<R>) super.clone();
-            clone.t = r;
-            return clone;
-        } catch (final CloneNotSupportedException e) {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+        final AbstractTraverser<R> clone = this.splitTraverser();
+        clone.t = r;
+        return clone;
     }
 
     @Override
     public Admin<T> split() {
+        return this.splitTraverser();
+    }
+
+    /**
+     * Copies this traverser into a recycled traverser if one is available, else clones it.
+     */
+    private <R> AbstractTraverser<R> splitTraverser() {
+        if (null != this.recycler) {
+            final AbstractTraverser<R> recycled = this.recycler.poll(this.getClass());
+            if (null != recycled) {
+                recycled.copyFrom(this);
+                return recycled;
+            }
+        }
         try {
-            return (AbstractTraverser<T>) super.clone();
+            return (AbstractTraverser<R>) super.clone();
         } catch (final CloneNotSupportedException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
+    /**
+     * Copies the state of the provided traverser (of the same class) into this traverser. Only traverser classes that
+     * declare this method are recycled by a {@link TraverserRecycler} and an override must copy every field so that
+     * recycled traversers are equivalent to clones.
+     */
+    protected void copyFrom(final AbstractTraverser<?> other) {
+        this.t = (T) other.t;
+        this.recycler = other.recycler;
+    }
+
+    public void setRecycler(final TraverserRecycler recycler) {
+        this.recycler = recycler;
+    }
+
+    /**
+     * Returns this traverser to its {@link TraverserRecycler} (if it has one). This must only be called by the holder
+     * of the only reference to the traverser.
+     */
+    public void recycle() {
+        if (null != this.recycler)
+            this.recycler.recycle(this);
+    }
+
     @Override
     public void addLabels(final Set<String> labels) {
 
@@ -47,6 +47,10 @@ public class DefaultTraverserGeneratorFactory implements TraverserGeneratorFacto
     private DefaultTraverserGeneratorFactory() {
     }
 
+    /**
+     * Gets a generator for the requirements. Path generators are created anew on every call so that the label ids of
+     * the paths of a traversal are not shared with other traversals.
+     */
     @Override
     public TraverserGenerator getTraverserGenerator(final Set<TraverserRequirement> requirements) {
         if (requirements.contains(TraverserRequirement.ONE_BULK)) {
@@ -54,10 +58,10 @@ public class DefaultTraverserGeneratorFactory implements TraverserGeneratorFacto
                 return O_OB_S_SE_SL_TraverserGenerator.instance();
 
             if (LP_O_OB_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
-                return LP_O_OB_S_SE_SL_TraverserGenerator.instance();
+                return LP_O_OB_S_SE_SL_TraverserGenerator.create();
 
             if (LP_O_OB_P_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
-                return LP_O_OB_P_S_SE_SL_TraverserGenerator.instance();
+                return LP_O_OB_P_S_SE_SL_TraverserGenerator.create();
         } else {
             if (B_O_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
                 return B_O_TraverserGenerator.instance();
@@ -66,10 +70,10 @@ public class DefaultTraverserGeneratorFactory implements TraverserGeneratorFacto
                 return B_O_S_SE_SL_TraverserGenerator.instance();
 
             if (B_LP_O_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
-                return B_LP_O_S_SE_SL_TraverserGenerator.instance();
+                return B_LP_O_S_SE_SL_TraverserGenerator.create();
 
             if (B_LP_O_P_S_SE_SL_TraverserGenerator.instance().getProvidedRequirements().containsAll(requirements))
-                return B_LP_O_P_S_SE_SL_TraverserGenerator.instance();
+                return B_LP_O_P_S_SE_SL_TraverserGenerator.create();
         }
 
         throw new IllegalStateException("The provided traverser generator factory does not support the requirements of the traversal: " + this.getClass().getCanonicalName() + requirements);
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@code TraverserPartitions} writes traversers to a fixed number of temporary partition files so that a barrier
+ * which groups its traversers by some key (e.g. {@code group()}) can process one partition at a time. The caller
+ * chooses the partition of each traverser, typically from the hash of its key, so that all the traversers of a key
+ * end up in the same partition. Traversers are detached and written with Gryo. A partition file is unlinked as soon as
+ * it is opened for reading.
+ */
+public final class TraverserPartitions<S> implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final Kryo kryo;
+    private final File directory;
+    private final Consumer<Traverser.Admin<S>> onRead;
+    private final File[] files;
+    private final Output[] outputs;
+    private Input input = null;
+
+    /**
+     * @param mapper         the mapper used to serialize traversers
+     * @param directory      the directory in which partition files are created
+     * @param partitionCount the number of partitions
+     * @param onRead         a function applied to each traverser read back from a partition (e.g. to re-attach it)
+     */
+    public TraverserPartitions(final GryoMapper mapper, final File directory, final int partitionCount, final Consumer<Traverser.Admin<S>> onRead) {
+        if (partitionCount <= 0)
+            throw new IllegalArgumentException("The number of partitions must be greater than zero: " + partitionCount);
+        this.kryo = mapper.createMapper();
+        this.directory = directory;
+        this.onRead = onRead;
+        this.files = new File[partitionCount];
+        this.outputs = new Output[partitionCount];
+    }
+
+    public int getPartitionCount() {
+        return this.files.length;
+    }
+
+    /**
+     * Returns the partition for the provided key.
+     */
+    public int partitionOf(final Object key) {
+        return Math.floorMod(null == key ? 0 : key.hashCode(), this.files.length);
+    }
+
+    /**
+     * Detaches the traverser and appends it to the partition.
+     */
+    public void add(final int partition, final Traverser.Admin<S> traverser) {
+        if (null == this.outputs[partition]) {
+            try {
+                this.files[partition] = File.createTempFile("gremlin-partition-", ".kryo", this.directory);
+                this.files[partition].deleteOnExit();
+                this.outputs[partition] = new Output(new FileOutputStream(this.files[partition]), BUFFER_SIZE);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Unable to spill traversers to " + this.directory + ": " + e.getMessage(), e);
+            }
+        }
+        this.outputs[partition].writeBoolean(true);
+        this.kryo.writeClassAndObject(this.outputs[partition], traverser.detach());
+    }
+
+    /**
+     * Returns the traversers of the partition. No more traversers may be added to the partition once it is read and
+     * only one partition may be read at a time.
+     */
+    public Iterator<Traverser.Admin<S>> read(final int partition) {
+        this.closeInput();
+        if (null == this.outputs[partition])
+            return Collections.emptyIterator();
+        final File file = this.files[partition];
+        this.outputs[partition].writeBoolean(false);
+        this.outputs[partition].close();
+        this.outputs[partition] = null;
+        this.files[partition] = null;
+        try {
+            this.input = new Input(new FileInputStream(file), BUFFER_SIZE);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to read spilled traversers from " + file + ": " + e.getMessage(), e);
+        } finally {
+            file.delete();
+        }
+        final Input input = this.input;
+        return new Iterator<Traverser.Admin<S>>() {
+            private Traverser.Admin<S> next = null;
+            private boolean done = false;
+
+            @Override
+            public boolean hasNext() {
+                if (null == this.next && !this.done) {
+                    if (input.readBoolean()) {
+                        this.next = (Traverser.Admin<S>) kryo.readClassAndObject(input);
+                        onRead.accept(this.next);
+                    } else {
+                        this.done = true;
+                        input.close();
+                    }
+                }
+                return null != this.next;
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                if (!this.hasNext())
+                    throw FastNoSuchElementException.instance();
+                final Traverser.Admin<S> temp = this.next;
+                this.next = null;
+                return temp;
+            }
+        };
+    }
+
+    /**
+     * Closes all open partitions and deletes all partition files.
+     */
+    @Override
+    public void close() {
+        this.closeInput();
+        for (int i = 0; i < this.files.length; i++) {
+            if (null != this.outputs[i]) {
+                this.outputs[i].close();
+                this.outputs[i] = null;
+            }
+            if (null != this.files[i]) {
+                this.files[i].delete();
+                this.files[i] = null;
+            }
+        }
+    }
+
+    private void closeInput() {
+        if (null != this.input) {
+            this.input.close();
+            this.input = null;
+        }
+    }
+}
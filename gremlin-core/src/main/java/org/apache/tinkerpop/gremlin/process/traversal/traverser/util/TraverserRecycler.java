@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * A {@code TraverserRecycler} is a bounded pool of traversers that are no longer referenced (e.g. traversers filtered
+ * out by a {@link org.apache.tinkerpop.gremlin.process.traversal.step.filter.FilterStep}, merged into a barrier or
+ * fully consumed by {@link org.apache.tinkerpop.gremlin.process.traversal.Traversal#next()}). Every root traversal
+ * has its own recycler which is attached to the traversers it generates so that their splits reuse pooled instances
+ * instead of allocating new ones. The pool is confined to the thread that created it and is bypassed by any other
+ * thread. Recycling is off by default and is turned on with the {@code gremlin.traverser.recycle} system property.
+ * Only traverser classes that declare their own {@link AbstractTraverser#copyFrom(AbstractTraverser)} are recycled so
+ * that a subclass which adds state is always cloned. Traversals executed by a graph computer never recycle as their
+ * traversers move between threads and workers.
+ */
+public final class TraverserRecycler {
+
+    public static final String RECYCLE_TRAVERSERS = "gremlin.traverser.recycle";
+    public static final int MAX_POOL_SIZE = 256;
+
+    private final Deque<AbstractTraverser<?>> pool = new ArrayDeque<>();
+    private final Thread owner = Thread.currentThread();
+
+    private static final ClassValue<Boolean> DECLARES_COPY_FROM = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> traverserClass) {
+            try {
+                traverserClass.getDeclaredMethod("copyFrom", AbstractTraverser.class);
+                return true;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Whether traversers are recycled which is only the case if the {@code gremlin.traverser.recycle} system property
+     * is {@code true}.
+     */
+    public static boolean isEnabled() {
+        return Boolean.valueOf(System.getProperty(RECYCLE_TRAVERSERS, "false"));
+    }
+
+    /**
+     * Whether traversers of the provided class can be recycled which requires the class to declare its own
+     * {@link AbstractTraverser#copyFrom(AbstractTraverser)}.
+     */
+    public static boolean supportsRecycling(final Class<?> traverserClass) {
+        return AbstractTraverser.class.isAssignableFrom(traverserClass) && DECLARES_COPY_FROM.get(traverserClass);
+    }
+
+    /**
+     * Gets the generator wrapped by {@link #wrap(TraverserGenerator)} or the provided generator if it is not wrapped.
+     */
+    public static TraverserGenerator unwrap(final TraverserGenerator generator) {
+        return generator instanceof RecyclingGenerator ? ((RecyclingGenerator) generator).generator : generator;
+    }
+
+    /**
+     * Returns the traverser to the recycler of the traverser (if it has one). The caller must hold the only reference
+     * to the traverser.
+     */
+    public static void recycle(final Traverser.Admin<?> traverser) {
+        if (traverser instanceof AbstractTraverser)
+            ((AbstractTraverser<?>) traverser).recycle();
+    }
+
+    /**
+     * Wraps the provided generator so that the generated traversers draw their splits from this recycler.
+     */
+    public TraverserGenerator wrap(final TraverserGenerator generator) {
+        return new RecyclingGenerator(generator, this);
+    }
+
+    /**
+     * Gets a pooled traverser of the provided class or {@code null} if there is none.
+     */
+    <T> AbstractTraverser<T> poll(final Class<?> traverserClass) {
+        if (!this.owned())
+            return null;
+        final AbstractTraverser<?> traverser = this.pool.peekLast();
+        if (null == traverser || traverser.getClass() != traverserClass)
+            return null;
+        return (AbstractTraverser<T>) this.pool.pollLast();
+    }
+
+    void recycle(final AbstractTraverser<?> traverser) {
+        if (this.pool.size() < MAX_POOL_SIZE && this.owned()) {
+            traverser.t = null;
+            this.pool.addLast(traverser);
+        }
+    }
+
+    public int size() {
+        return this.pool.size();
+    }
+
+    private boolean owned() {
+        return this.owner == Thread.currentThread();
+    }
+
+    private static final class RecyclingGenerator implements TraverserGenerator {
+
+        private final TraverserGenerator generator;
+        private final TraverserRecycler recycler;
+
+        private RecyclingGenerator(final TraverserGenerator generator, final TraverserRecycler recycler) {
+            this.generator = generator;
+            this.recycler = recycler;
+        }
+
+        @Override
+        public <S> Traverser.Admin<S> generate(final S start, final Step<S, ?> startStep, final long initialBulk) {
+            final Traverser.Admin<S> traverser = this.generator.generate(start, startStep, initialBulk);
+            if (supportsRecycling(traverser.getClass()))
+                ((AbstractTraverser<S>) traverser).setRecycler(this.recycler);
+            return traverser;
+        }
+
+        @Override
+        public Set<TraverserRequirement> getProvidedRequirements() {
+            return this.generator.getProvidedRequirements();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@code TraverserSpill} writes sorted runs of traversers to temporary files so that a barrier does not have to
+ * hold every traverser in memory. Traversers are detached and written with Gryo. Once all runs are written,
+ * {@link #merge(TraverserSet, Comparator)} lazily merges the runs (and a final in-memory run) back into a single
+ * sorted stream. Run files are unlinked as soon as they are opened for merging so that a merge which is never fully
+ * consumed (e.g. because of a subsequent {@code limit()}) does not leave them behind.
+ */
+public final class TraverserSpill<S> implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Kryo kryo;
+    private final File directory;
+    private final Consumer<Traverser.Admin<S>> onRead;
+    private final List<File> runs = new ArrayList<>();
+    private final List<Input> inputs = new ArrayList<>();
+
+    /**
+     * @param mapper    the mapper used to serialize traversers
+     * @param directory the directory in which run files are created
+     * @param onRead    a function applied to each traverser read back from a run (e.g. to re-attach it)
+     */
+    public TraverserSpill(final GryoMapper mapper, final File directory, final Consumer<Traverser.Admin<S>> onRead) {
+        this.kryo = mapper.createMapper();
+        this.directory = directory;
+        this.onRead = onRead;
+    }
+
+    /**
+     * Writes the sorted {@link TraverserSet} as a new run and clears it.
+     */
+    public void spill(final TraverserSet<S> traverserSet) {
+        try {
+            final File run = File.createTempFile("gremlin-spill-", ".kryo", this.directory);
+            run.deleteOnExit();
+            this.runs.add(run);
+            try (final Output output = new Output(new FileOutputStream(run), BUFFER_SIZE)) {
+                for (final Traverser.Admin<S> traverser : traverserSet) {
+                    output.writeBoolean(true);
+                    this.kryo.writeClassAndObject(output, traverser.detach());
+                }
+                output.writeBoolean(false);
+            }
+            traverserSet.clear();
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to spill traversers to " + this.directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    public int getRunCount() {
+        return this.runs.size();
+    }
+
+    /**
+     * Merges all the spilled runs with the provided sorted in-memory run. The in-memory run is drained as the
+     * returned iterator is consumed. On ties, traversers of earlier runs are returned first.
+     */
+    public Iterator<Traverser.Admin<S>> merge(final TraverserSet<S> traverserSet, final Comparator<Traverser<S>> comparator) {
+        final PriorityQueue<Head<S>> heads = new PriorityQueue<>((a, b) -> {
+            final int c = comparator.compare(a.traverser, b.traverser);
+            return 0 == c ? Integer.compare(a.run, b.run) : c;
+        });
+        for (int i = 0; i < this.runs.size(); i++) {
+            final Input input = this.openRun(i);
+            this.inputs.add(input);
+            this.runs.get(i).delete();
+            final Traverser.Admin<S> traverser = this.read(input);
+            if (null != traverser)
+                heads.add(new Head<>(traverser, i));
+        }
+        final int memoryRun = this.runs.size();
+        if (!traverserSet.isEmpty())
+            heads.add(new Head<>(traverserSet.remove(), memoryRun));
+
+        return new Iterator<Traverser.Admin<S>>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Traverser.Admin<S> next() {
+                final Head<S> head = heads.poll();
+                if (null == head)
+                    throw FastNoSuchElementException.instance();
+                final Traverser.Admin<S> next;
+                if (memoryRun == head.run)
+                    next = traverserSet.isEmpty() ? null : traverserSet.remove();
+                else
+                    next = read(inputs.get(head.run));
+                if (null != next)
+                    heads.add(new Head<>(next, head.run));
+                return head.traverser;
+            }
+        };
+    }
+
+    /**
+     * Closes any open run and deletes all run files.
+     */
+    @Override
+    public void close() {
+        this.inputs.forEach(Input::close);
+        this.inputs.clear();
+        this.runs.forEach(File::delete);
+        this.runs.clear();
+    }
+
+    /**
+     * Determines if the traversers of the traversal can be spilled. Paths are not re-attached when traversers are
+     * read back, so a traversal that requires them can not spill.
+     */
+    public static boolean canSpill(final Traversal.Admin<?, ?> traversal) {
+        final Set<TraverserRequirement> requirements = TraversalHelper.getRootTraversal(traversal).getTraverserRequirements();
+        return !requirements.contains(TraverserRequirement.PATH) && !requirements.contains(TraverserRequirement.LABELED_PATH);
+    }
+
+    /**
+     * Gets the mapper of the graph of the traversal or a default mapper if the traversal has no graph.
+     */
+    public static GryoMapper getMapper(final Traversal.Admin<?, ?> traversal) {
+        return traversal.getGraph().
+                map(graph -> graph.io(GryoIo.build()).mapper().create()).
+                orElseGet(() -> GryoMapper.build().create());
+    }
+
+    /**
+     * Re-attaches a traverser that was read back to the side-effects and the graph of the traversal.
+     */
+    public static <S> void reattach(final Traversal.Admin<?, ?> traversal, final Traverser.Admin<S> traverser) {
+        traverser.setSideEffects(traversal.getSideEffects());
+        final Graph graph = traversal.getGraph().orElse(null);
+        if (null != graph)
+            traverser.attach(Attachable.Method.get(graph));
+    }
+
+    private Input openRun(final int run) {
+        try {
+            return new Input(new FileInputStream(this.runs.get(run)), BUFFER_SIZE);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Unable to read spilled traversers from " + this.runs.get(run) + ": " + e.getMessage(), e);
+        }
+    }
+
+    private Traverser.Admin<S> read(final Input input) {
+        if (!input.readBoolean()) {
+            input.close();
+            return null;
+        }
+        final Traverser.Admin<S> traverser = (Traverser.Admin<S>) this.kryo.readClassAndObject(input);
+        this.onRead.accept(traverser);
+        return traverser;
+    }
+
+    private static final class Head<S> {
+        private final Traverser.Admin<S> traverser;
+        private final int run;
+
+        private Head(final Traverser.Admin<S> traverser, final int run) {
+            this.traverser = traverser;
+            this.run = run;
+        }
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.VertexComputing;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
@@ -31,6 +32,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.DefaultTraverserGeneratorFactory;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserRecycler;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
@@ -99,10 +101,19 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
 
     @Override
     public TraverserGenerator getTraverserGenerator() {
-        if (null == this.generator)
-            this.generator = (this.parent instanceof EmptyStep) ?
-                    DefaultTraverserGeneratorFactory.instance().getTraverserGenerator(this.getTraverserRequirements()) :
-                    TraversalHelper.getRootTraversal(this).getTraverserGenerator();
+        if (null == this.generator) {
+            if (this.parent instanceof EmptyStep) {
+                final TraverserGenerator generator = DefaultTraverserGeneratorFactory.instance().getTraverserGenerator(this.getTraverserRequirements());
+                // graph computers move traversers between threads so an OLAP traversal never recycles
+                this.generator = TraverserRecycler.isEnabled() && !TraversalHelper.hasStepOfAssignableClass(VertexComputing.class, this) ?
+                        new TraverserRecycler().wrap(generator) :
+                        generator;
+            } else {
+                final TraverserGenerator generator = TraversalHelper.getRootTraversal(this).getTraverserGenerator();
+                // the worker traversal of a TraversalVertexProgram must not recycle either
+                this.generator = TraversalHelper.onGraphComputer(this) ? TraverserRecycler.unwrap(generator) : generator;
+            }
+        }
         return this.generator;
     }
 
@@ -182,8 +193,14 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public E next() {
         if (!this.locked) this.applyStrategies();
-        if (this.lastTraverser.bulk() == 0L)
+        if (this.lastTraverser.bulk() == 0L) {
+            if (this.parent instanceof EmptyStep) {
+                final Traverser.Admin<E> consumed = this.lastTraverser;
+                this.lastTraverser = EmptyTraverser.instance();
+                TraverserRecycler.recycle(consumed);
+            }
             this.lastTraverser = this.finalEndStep.next();
+        }
         this.lastTraverser.setBulk(this.lastTraverser.bulk() - 1L);
         return this.lastTraverser.get();
     }
@@ -229,6 +246,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
             clone.unmodifiableSteps = Collections.unmodifiableList(clone.steps);
             clone.sideEffects = this.sideEffects.clone();
             clone.strategies = this.strategies;
+            clone.generator = null;
             for (final Step<?, ?> step : this.steps) {
                 final Step<?, ?> clonedStep = step.clone();
                 clonedStep.setTraversal(clone);
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * {@code GraphStatistics} are cardinality estimates that a graph provider can supply to cost-based traversal
+ * optimizations such as {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep.CostMatchAlgorithm}.
+ * A provider exposes them by having its {@link Graph} implement {@link Provider}. Estimates need not be exact, but
+ * they should be cheap to compute as they are consulted every time a traversal is prepared.
+ */
+public interface GraphStatistics {
+
+    /**
+     * Gets the (estimated) number of elements of the provided class with any of the provided labels. If no labels
+     * are provided, all elements of the class are counted.
+     */
+    public long count(final Class<? extends Element> elementClass, final String... labels);
+
+    /**
+     * Gets the (estimated) average number of incident edges with any of the provided labels in the provided direction.
+     */
+    public default double averageDegree(final Direction direction, final String... edgeLabels) {
+        final long vertices = this.count(Vertex.class);
+        if (0 == vertices)
+            return 0.0d;
+        final double degree = (double) this.count(Edge.class, edgeLabels) / (double) vertices;
+        return Direction.BOTH == direction ? 2.0d * degree : degree;
+    }
+
+    /**
+     * Gets the (estimated) fraction of the elements of the provided class that pass the {@link HasContainer}. By
+     * default, only label and id tests are estimated and all other tests are assumed to pass every element.
+     */
+    public default double selectivity(final Class<? extends Element> elementClass, final HasContainer hasContainer) {
+        final long total = this.count(elementClass);
+        if (0 == total)
+            return 0.0d;
+        final boolean eq = hasContainer.getBiPredicate() == Compare.eq;
+        if (!eq && hasContainer.getBiPredicate() != Contains.within)
+            return 1.0d;
+        final Collection<?> values = eq ? Collections.singleton(hasContainer.getValue()) : (Collection<?>) hasContainer.getValue();
+        if (hasContainer.getKey().equals(T.id.getAccessor()))
+            return Math.min(1.0d, (double) values.size() / (double) total);
+        else if (hasContainer.getKey().equals(T.label.getAccessor()))
+            return Math.min(1.0d, (double) this.count(elementClass, values.stream().map(Object::toString).toArray(String[]::new)) / (double) total);
+        return 1.0d;
+    }
+
+    /**
+     * Gets the statistics of the provided graph if the graph provides them.
+     */
+    public static Optional<GraphStatistics> of(final Graph graph) {
+        return graph instanceof Provider ? Optional.ofNullable(((Provider) graph).statistics()) : Optional.empty();
+    }
+
+    /**
+     * A {@link Graph} that provides {@link GraphStatistics}.
+     */
+    public interface Provider {
+        public GraphStatistics statistics();
+    }
+}
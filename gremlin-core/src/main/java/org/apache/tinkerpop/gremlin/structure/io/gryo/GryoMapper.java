@@ -46,6 +46,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_P_S_SE_S
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_OB_S_SE_SL_Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserSerializer;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalMetrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.ImmutableMetrics;
@@ -375,6 +376,7 @@ public final class GryoMapper implements Mapper<Kryo> {
 
         private boolean registrationRequired = true;
         private boolean referenceTracking = true;
+        private boolean compactTraversers = false;
         private Supplier<ClassResolver> classResolver = GryoClassResolver::new;
 
         private Builder() {
@@ -484,10 +486,32 @@ public final class GryoMapper implements Mapper<Kryo> {
             return this;
         }
 
+        /**
+         * When set to {@code true}, the traverser implementations and {@link TraverserSet} are serialized with the
+         * compact {@link TraverserSerializer} and {@link GryoSerializers.TraverserSetSerializer} which suit the
+         * messages and halted traversers of a {@code TraversalVertexProgram}. The compact format is written under the
+         * same registration ids as the default one, so the writer and the reader must use the same setting. By default
+         * this value is {@code false}. A {@link GryoPool} that is configured from a {@code Configuration} enables it
+         * with {@link GryoPool#CONFIG_IO_GRYO_COMPACT_TRAVERSERS}.
+         *
+         * @param compactTraversers set to {@code true} to enable and {@code false} otherwise
+         */
+        public Builder compactTraversers(final boolean compactTraversers) {
+            this.compactTraversers = compactTraversers;
+            return this;
+        }
+
         /**
          * Creates a {@code GryoMapper}.
          */
         public GryoMapper create() {
+            if (compactTraversers) {
+                for (final Class traverserClass : TraverserSerializer.TRAVERSER_CLASSES) {
+                    addCustom(traverserClass, new TraverserSerializer());
+                }
+                addCustom(TraverserSet.class, new GryoSerializers.TraverserSetSerializer());
+            }
+
             // consult the registry if provided and inject registry entries as custom classes.
             registries.forEach(registry -> {
                 final List<Pair<Class, Object>> serializers = registry.find(GryoIo.class);
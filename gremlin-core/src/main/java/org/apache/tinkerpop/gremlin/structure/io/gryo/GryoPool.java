@@ -42,6 +42,12 @@ public final class GryoPool {
     public static final String CONFIG_IO_GRYO_POOL_SIZE = "gremlin.io.gryo.poolSize";
     public static final int CONFIG_IO_GRYO_POOL_SIZE_DEFAULT = 256;
 
+    /**
+     * Whether the pool serializes traversers with the compact format of {@link GryoMapper.Builder#compactTraversers}.
+     */
+    public static final String CONFIG_IO_GRYO_COMPACT_TRAVERSERS = "gremlin.io.gryo.compactTraversers";
+    public static final boolean CONFIG_IO_GRYO_COMPACT_TRAVERSERS_DEFAULT = false;
+
     public enum Type {READER, WRITER, READER_WRITER}
 
     private Queue<GryoReader> gryoReaders;
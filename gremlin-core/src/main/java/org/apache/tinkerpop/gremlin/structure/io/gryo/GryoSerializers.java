@@ -21,6 +21,8 @@ package org.apache.tinkerpop.gremlin.structure.io.gryo;
 import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -158,4 +160,27 @@ public final class GryoSerializers {
             return new DefaultRemoteTraverser<>(o, input.readLong());
         }
     }
+
+    /**
+     * Serializes a {@link TraverserSet} as its size followed by its traversers. The backing map of the set holds
+     * every traverser as both key and value and thus only one of the two is written.
+     */
+    public final static class TraverserSetSerializer implements SerializerShim<TraverserSet> {
+        @Override
+        public <O extends OutputShim> void write(final KryoShim<?, O> kryo, final O output, final TraverserSet traverserSet) {
+            output.writeInt(traverserSet.size());
+            for (final Object traverser : traverserSet) {
+                kryo.writeClassAndObject(output, traverser);
+            }
+        }
+
+        @Override
+        public <I extends InputShim> TraverserSet read(final KryoShim<I, ?> kryo, final I input, final Class<TraverserSet> traverserSetClass) {
+            final TraverserSet<Object> traverserSet = new TraverserSet<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                traverserSet.add((Traverser.Admin<Object>) kryo.readClassAndObject(input));
+            }
+            return traverserSet;
+        }
+    }
 }
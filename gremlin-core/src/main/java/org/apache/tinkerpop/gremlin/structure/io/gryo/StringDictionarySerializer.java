@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io.gryo;
+
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.Serializer;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link String} serializer that writes each distinct string only once per top-level object and then refers to it
+ * by its position in a dictionary. Labels and property keys repeat for nearly every element of a result, so a batch of
+ * elements (or a {@link org.apache.tinkerpop.gremlin.structure.util.star.StarGraph}) shrinks considerably. The
+ * dictionary is held in the graph context of the {@link Kryo} instance, which is cleared after each top-level object,
+ * so no state is carried between objects and the reader rebuilds the same dictionary as it goes.
+ * <p/>
+ * Register it with {@code GryoMapper.Builder.addCustom(String.class, new StringDictionarySerializer())}. The format
+ * is not compatible with the standard {@link String} serialization, so both sides must register it.
+ */
+public final class StringDictionarySerializer extends Serializer<String> {
+
+    private static final int NULL = 0;
+    private static final int NEW = 1;
+    private static final int REFERENCE_OFFSET = 2;
+
+    private final Object writeDictionaryKey = new Object();
+    private final Object readDictionaryKey = new Object();
+
+    public StringDictionarySerializer() {
+        setImmutable(true);
+        setAcceptsNull(true);
+    }
+
+    @Override
+    public void write(final Kryo kryo, final Output output, final String string) {
+        if (null == string) {
+            output.writeVarInt(NULL, true);
+            return;
+        }
+
+        Map<String, Integer> dictionary = (Map<String, Integer>) kryo.getGraphContext().get(writeDictionaryKey);
+        if (null == dictionary) {
+            dictionary = new HashMap<>();
+            kryo.getGraphContext().put(writeDictionaryKey, dictionary);
+        }
+
+        final Integer index = dictionary.get(string);
+        if (null == index) {
+            dictionary.put(string, dictionary.size());
+            output.writeVarInt(NEW, true);
+            output.writeString(string);
+        } else {
+            output.writeVarInt(index + REFERENCE_OFFSET, true);
+        }
+    }
+
+    @Override
+    public String read(final Kryo kryo, final Input input, final Class<String> stringClass) {
+        final int tag = input.readVarInt(true);
+        if (NULL == tag)
+            return null;
+
+        List<String> dictionary = (List<String>) kryo.getGraphContext().get(readDictionaryKey);
+        if (null == dictionary) {
+            dictionary = new ArrayList<>();
+            kryo.getGraphContext().put(readDictionaryKey, dictionary);
+        }
+
+        if (NEW == tag) {
+            final String string = input.readString();
+            dictionary.add(string);
+            return string;
+        } else {
+            return dictionary.get(tag - REFERENCE_OFFSET);
+        }
+    }
+}
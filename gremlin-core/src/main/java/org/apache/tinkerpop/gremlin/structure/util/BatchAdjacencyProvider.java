@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link Graph} that implements {@code BatchAdjacencyProvider} can resolve the adjacency and the properties of many
+ * elements with a single call. Graphs backed by remote storage can use this to replace one round-trip per element with
+ * one round-trip per batch. {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep} and
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep} use the provider whenever they
+ * process traversers in batches (see {@link Batching}).
+ */
+public interface BatchAdjacencyProvider {
+
+    /**
+     * Gets the adjacent vertices (or incident edges) of each of the provided vertices. The returned list is aligned
+     * with the provided list and each iterator yields the same elements as {@link Vertex#vertices(Direction, String...)}
+     * (or {@link Vertex#edges(Direction, String...)}) would have for the respective vertex.
+     */
+    public <E extends Element> List<Iterator<E>> adjacent(final List<Vertex> vertices, final Class<E> returnClass, final Direction direction, final String... edgeLabels);
+
+    /**
+     * Gets the property values (or properties) of each of the provided elements. The returned list is aligned with the
+     * provided list and each iterator yields the same objects as {@link Element#values(String...)} (or
+     * {@link Element#properties(String...)}) would have for the respective element.
+     */
+    public List<Iterator<?>> properties(final List<Element> elements, final PropertyType returnType, final String... propertyKeys);
+
+    /**
+     * The number of elements the provider prefers to resolve per call.
+     */
+    public default int getBatchSize() {
+        return Batching.DEFAULT_BATCH_SIZE;
+    }
+
+    /**
+     * Gets the batch adjacency provider of the graph if the graph is one.
+     */
+    public static Optional<BatchAdjacencyProvider> of(final Graph graph) {
+        return graph instanceof BatchAdjacencyProvider ? Optional.of((BatchAdjacencyProvider) graph) : Optional.empty();
+    }
+}
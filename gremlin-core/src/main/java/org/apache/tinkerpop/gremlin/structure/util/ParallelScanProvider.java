@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link Graph} that implements {@code ParallelScanProvider} can split the elements of a start
+ * {@link GraphStep} into disjoint ranges which
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.ParallelStrategy} traverses concurrently.
+ * By implementing this interface, the graph declares that its elements can be read from multiple threads at once
+ * (e.g. it is not bound to a thread-local transaction).
+ */
+public interface ParallelScanProvider {
+
+    /**
+     * Splits the elements the provided start step yields into at most {@code splits} iterators. Together, the
+     * iterators must yield the same elements as the step would have and, when read in list order, in the same order.
+     */
+    public <E extends Element> List<Iterator<E>> split(final GraphStep<?, E> graphStep, final int splits);
+
+    /**
+     * Gets the parallel scan provider of the graph if the graph is one.
+     */
+    public static Optional<ParallelScanProvider> of(final Graph graph) {
+        return graph instanceof ParallelScanProvider ? Optional.of((ParallelScanProvider) graph) : Optional.empty();
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.util;
+
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MemoryComputeKey;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class WorkerMemoryTest {
+
+    @Test
+    public void shouldAddLocallyReducedValuesOnComplete() {
+        final Map<String, MemoryComputeKey> memoryComputeKeys = new HashMap<>();
+        memoryComputeKeys.put("count", MemoryComputeKey.of("count", Operator.sumLong, false, false));
+        memoryComputeKeys.put("max", MemoryComputeKey.of("max", Operator.max, false, false));
+        memoryComputeKeys.put("list", MemoryComputeKey.of("list", Operator.addAll, false, false));
+        final CountingMemory baseMemory = new CountingMemory(memoryComputeKeys);
+        final WorkerMemory workerMemory = new WorkerMemory(baseMemory, memoryComputeKeys);
+        for (int i = 0; i < 100; i++) {
+            workerMemory.add("count", 1L);
+            workerMemory.add("max", i);
+            workerMemory.add("list", new ArrayList<>(Arrays.asList(i)));
+        }
+        assertFalse(baseMemory.exists("count"));
+        workerMemory.complete();
+        assertEquals(3, baseMemory.adds);
+        assertEquals(100L, (long) baseMemory.get("count"));
+        assertEquals(99, (int) baseMemory.get("max"));
+        assertEquals(100, baseMemory.<List>get("list").size());
+        workerMemory.add("count", 1L);
+        workerMemory.complete();
+        assertEquals(4, baseMemory.adds);
+        assertEquals(101L, (long) baseMemory.get("count"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowAddsToUnknownKeys() {
+        final WorkerMemory workerMemory = new WorkerMemory(new CountingMemory(new HashMap<>()), new HashMap<>());
+        workerMemory.add("count", 1L);
+    }
+
+    private static class CountingMemory implements Memory {
+
+        private final Map<String, MemoryComputeKey> memoryComputeKeys;
+        private final Map<String, Object> memory = new HashMap<>();
+        private int adds = 0;
+
+        private CountingMemory(final Map<String, MemoryComputeKey> memoryComputeKeys) {
+            this.memoryComputeKeys = memoryComputeKeys;
+        }
+
+        @Override
+        public Set<String> keys() {
+            return this.memory.keySet();
+        }
+
+        @Override
+        public <R> R get(final String key) {
+            return (R) this.memory.get(key);
+        }
+
+        @Override
+        public void set(final String key, final Object value) {
+            this.memory.put(key, value);
+        }
+
+        @Override
+        public void add(final String key, final Object value) {
+            this.adds++;
+            this.memory.merge(key, value, this.memoryComputeKeys.get(key).getReducer());
+        }
+
+        @Override
+        public int getIteration() {
+            return 0;
+        }
+
+        @Override
+        public long getRuntime() {
+            return 0;
+        }
+    }
+}
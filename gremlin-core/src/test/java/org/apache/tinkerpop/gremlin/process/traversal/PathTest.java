@@ -18,12 +18,14 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal;
 
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactPath;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferencePath;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -41,7 +43,7 @@ import static org.junit.Assert.*;
 public class PathTest {
 
     private final static List<Supplier<Path>> PATH_SUPPLIERS =
-            Arrays.asList(MutablePath::make, ImmutablePath::make, DetachedPath::make, ReferencePath::make);
+            Arrays.asList(MutablePath::make, ImmutablePath::make, CompactPath::make, DetachedPath::make, ReferencePath::make);
 
     @Test
     public void shouldHaveStandardSemanticsImplementedCorrectly() {
@@ -357,4 +359,51 @@ public class PathTest {
             }
         }
     }
+
+    @Test
+    public void shouldRetractUnlabeledSegments() {
+        Arrays.<Supplier<Path>>asList(MutablePath::make, ImmutablePath::make, CompactPath::make).forEach(supplier -> {
+            Path path = supplier.get();
+            path = path.extend(1, Collections.emptySet());
+            path = path.extend(2, Collections.singleton("a"));
+            path = path.extend(3, Collections.emptySet());
+            path = path.extend(4, Collections.singleton("b"));
+            path = path.extend(5, Collections.singleton("c"));
+            Path retracted = path.clone().retract(Collections.singleton("c"));
+            assertEquals(Arrays.asList(2, 4), retracted.objects());
+            assertEquals(Arrays.asList(Collections.singleton("a"), Collections.singleton("b")), retracted.labels());
+            retracted = path.clone().retract(Collections.singleton("x"));
+            assertEquals(Arrays.asList(2, 4, 5), retracted.objects());
+            assertEquals(Integer.valueOf(2), retracted.get("a"));
+            assertEquals(Integer.valueOf(5), retracted.get("c"));
+        });
+    }
+
+    @Test
+    public void shouldKeepLabelsBeyondTheInternedLabelIds() {
+        // every empty CompactPath has its own label table so this does not affect the label ids of other paths
+        Path path = CompactPath.make();
+        for (int i = 0; i < CompactPath.MAX_LABEL_IDS + 10; i++) {
+            path = path.extend(i, new LinkedHashSet<>(Arrays.asList("x" + i, "y")));
+        }
+        assertEquals(CompactPath.MAX_LABEL_IDS + 10, path.size());
+        assertEquals(CompactPath.MAX_LABEL_IDS + 5, (int) path.get("x" + (CompactPath.MAX_LABEL_IDS + 5)));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("x" + (CompactPath.MAX_LABEL_IDS + 9), "y")), path.labels().get(CompactPath.MAX_LABEL_IDS + 9));
+        assertEquals(0, (int) path.get(Pop.first, "y"));
+        assertEquals(CompactPath.MAX_LABEL_IDS + 9, (int) path.get(Pop.last, "y"));
+        assertEquals(CompactPath.MAX_LABEL_IDS + 10, path.<List>get(Pop.all, "y").size());
+        path = path.retract(new HashSet<>(Arrays.asList("y", "x" + (CompactPath.MAX_LABEL_IDS + 2))));
+        assertEquals(CompactPath.MAX_LABEL_IDS + 9, path.size());
+        assertFalse(path.hasLabel("y"));
+        assertTrue(path.hasLabel("x" + (CompactPath.MAX_LABEL_IDS + 3)));
+        assertEquals(Collections.singleton("x1"), path.labels().get(1));
+        // a new table starts with no ids and a table is shared by all the paths extended from the same empty path
+        final Path empty = CompactPath.make();
+        final Path pathA = empty.extend(1, Collections.singleton("z"));
+        final Path pathB = CompactPath.make(pathA).extend(2, new LinkedHashSet<>(Arrays.asList("w", "z")));
+        assertEquals(Integer.valueOf(1), pathA.get("z"));
+        assertEquals(Integer.valueOf(2), pathB.get("z"));
+        assertEquals(new LinkedHashSet<>(Arrays.asList("w", "z")), pathB.labels().get(0));
+        assertEquals(Arrays.asList("w", "z"), new ArrayList<>(pathB.labels().get(0)));
+    }
 }
@@ -31,7 +31,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.WhereTraversal
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_P_S_SE_SL_TraverserGenerator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.EmptyTraverser;
+import org.apache.tinkerpop.gremlin.process.traversal.util.GraphStatistics;
 import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -419,4 +421,24 @@ public class MatchStepTest extends StepTest {
         assertEquals("a", MatchStep.Helper.computeStartLabel(((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren()));
     }
 
+    @Test
+    public void shouldEstimatePatternMultiplicityFromStatistics() {
+        final GraphStatistics statistics = (elementClass, labels) -> {
+            if (Vertex.class.equals(elementClass))
+                return 0 == labels.length ? 100l : Arrays.asList(labels).contains("person") ? 10l : 0l;
+            long count = 0l;
+            for (final String label : 0 == labels.length ? new String[]{"knows", "created"} : labels) {
+                count = count + (label.equals("knows") ? 200l : label.equals("created") ? 50l : 0l);
+            }
+            return count;
+        };
+        final Traversal.Admin<?, ?> traversal = match(
+                as("a").out("knows").as("b"),
+                as("b").in("created").hasLabel("person").as("c"),
+                as("c").both().as("d")).asAdmin();
+        final List<Traversal.Admin<Object, Object>> patterns = ((MatchStep<?, ?>) traversal.getStartStep()).getGlobalChildren();
+        assertEquals(2.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(0), statistics), 0.0001d);
+        assertEquals(0.05d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(1), statistics), 0.0001d);
+        assertEquals(5.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(2), statistics), 0.0001d);
+    }
 }
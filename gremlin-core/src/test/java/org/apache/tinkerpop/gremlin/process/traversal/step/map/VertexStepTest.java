@@ -21,10 +21,16 @@ package org.apache.tinkerpop.gremlin.process.traversal.step.map;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.step.StepTest;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 /**
  * @author Daniel Kuppitz (http://gremlin.guru)
  */
@@ -41,4 +47,11 @@ public class VertexStepTest extends StepTest {
                 __.out("knows", "created")
         );
     }
+
+    @Test
+    public void shouldOnlyBatchVertexStepItself() {
+        assertTrue(new VertexStep<>(__.identity().asAdmin(), Vertex.class, Direction.OUT).supportsBatching());
+        assertFalse(new VertexStep<Vertex>(__.identity().asAdmin(), Vertex.class, Direction.OUT) {
+        }.supportsBatching());
+    }
 }
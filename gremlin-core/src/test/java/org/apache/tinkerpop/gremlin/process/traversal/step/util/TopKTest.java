@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TopKTest {
+
+    @Test
+    public void shouldMatchPrefixAndSuffixOfStableSort() {
+        final Random random = new Random(11);
+        final List<int[]> objects = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            objects.add(new int[]{random.nextInt(20), i});
+        }
+        final Comparator<int[]> comparator = (a, b) -> Integer.compare(a[0], b[0]);
+        final List<int[]> sorted = new ArrayList<>(objects);
+        Collections.sort(sorted, comparator);
+        for (final int limit : Arrays.asList(1, 7, 100, 500, 1000)) {
+            final TopK<int[]> first = new TopK<>(comparator, limit, false);
+            final TopK<int[]> last = new TopK<>(comparator, limit, true);
+            objects.forEach(first::add);
+            objects.forEach(last::add);
+            assertEquals(sorted.subList(0, Math.min(limit, sorted.size())), first.toList());
+            assertEquals(sorted.subList(Math.max(0, sorted.size() - limit), sorted.size()), last.toList());
+        }
+    }
+
+    @Test
+    public void shouldRetainEnoughBulk() {
+        final TopK<String> topK = new TopK<>(Order.incr, 5, false, s -> s.length(), null);
+        Arrays.asList("eeeee", "a", "ccc", "bb", "dddd").forEach(topK::add);
+        assertEquals(Arrays.asList("a", "bb", "ccc"), topK.toList());
+    }
+
+    @Test
+    public void shouldRetainNothingForZeroLimit() {
+        final TopK<String> topK = new TopK<>(Order.incr, 0, false);
+        Arrays.asList("a", "b").forEach(topK::add);
+        assertTrue(topK.isEmpty());
+    }
+}
@@ -47,6 +47,9 @@ public class OrderLimitStrategyTest {
     @Parameterized.Parameter(value = 1)
     public long limit;
 
+    @Parameterized.Parameter(value = 2)
+    public boolean tail;
+
     void applyOrderLimitStrategyStrategy(final Traversal traversal) {
         final TraversalStrategies strategies = new DefaultTraversalStrategies();
         strategies.addStrategies(OrderLimitStrategy.instance());
@@ -56,17 +59,26 @@ public class OrderLimitStrategyTest {
 
     @Test
     public void doTest() {
+        final Traversal.Admin<?, ?> standard = traversal.asAdmin().clone();
         traversal.asAdmin().setParent(new TraversalVertexProgramStep(EmptyTraversal.instance(), EmptyTraversal.instance())); // trick it
         applyOrderLimitStrategyStrategy(traversal);
         assertEquals(limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, traversal.asAdmin()).get().getLimit());
+        assertEquals(tail, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, traversal.asAdmin()).get().isTail());
+        applyOrderLimitStrategyStrategy(standard);
+        assertEquals(limit, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, standard).get().getLimit());
+        assertEquals(tail, TraversalHelper.getFirstStepOfAssignableClass(OrderGlobalStep.class, standard).get().isTail());
     }
 
     @Parameterized.Parameters(name = "{0}")
     public static Iterable<Object> generateTestParameters() {
         return Arrays.asList(new Object[][]{
-                {__.order().limit(1), 1l},
-                {__.out().order().range(7, 15), 15l},
-                {__.order().select("a").limit(7), 7l},
-                {__.order().out().limit(10), Long.MAX_VALUE}});
+                {__.order().limit(1), 1l, false},
+                {__.out().order().range(7, 15), 15l, false},
+                {__.order().select("a").limit(7), 7l, false},
+                {__.order().out().limit(10), Long.MAX_VALUE, false},
+                {__.out().order().range(7, -1), Long.MAX_VALUE, false},
+                {__.order().tail(3), 3l, true},
+                {__.order().select("a").tail(), 1l, true},
+                {__.order().out().tail(2), Long.MAX_VALUE, false}});
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.computer.traversal.step.map.TraversalVertexProgramStep;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_OB_S_SE_SL_Traverser;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TraverserRecyclerTest {
+
+    private static final GraphTraversalSource g = EmptyGraph.instance().traversal();
+
+    @Before
+    public void setUp() {
+        System.setProperty(TraverserRecycler.RECYCLE_TRAVERSERS, "true");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(TraverserRecycler.RECYCLE_TRAVERSERS);
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersByDefault() {
+        System.clearProperty(TraverserRecycler.RECYCLE_TRAVERSERS);
+        assertFalse(TraverserRecycler.isEnabled());
+        final Traversal.Admin<?, ?> traversal = g.inject(1).out().asAdmin();
+        traversal.applyStrategies();
+        final Traverser.Admin<Object> traverser = traversal.getTraverserGenerator().generate("a", (Step) traversal.getStartStep(), 1l);
+        assertNull(((AbstractTraverser<?>) traverser).recycler);
+    }
+
+    @Test
+    public void shouldOnlyRecycleTraverserClassesThatDeclareCopyFrom() {
+        assertTrue(TraverserRecycler.supportsRecycling(B_O_Traverser.class));
+        assertTrue(TraverserRecycler.supportsRecycling(O_OB_S_SE_SL_Traverser.class));
+        assertFalse(TraverserRecycler.supportsRecycling(ProviderTraverser.class));
+        assertFalse(TraverserRecycler.supportsRecycling(String.class));
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersOfAGraphComputerWorkerTraversal() {
+        final Traversal.Admin<?, ?> traversal = g.inject(1).asAdmin();
+        traversal.applyStrategies();
+        final Traversal.Admin<?, ?> workerTraversal = __.out().asAdmin();
+        workerTraversal.setParent(new TraversalVertexProgramStep(traversal, __.identity().asAdmin()));
+        final Traverser.Admin<Object> traverser = workerTraversal.getTraverserGenerator().generate("a", (Step) workerTraversal.getStartStep(), 1l);
+        assertNull(((AbstractTraverser<?>) traverser).recycler);
+    }
+
+    @Test
+    public void shouldReuseRecycledTraversersOnSplit() {
+        final Traversal.Admin<?, ?> traversal = g.inject(1).out().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getEndStep();
+        final Traverser.Admin<Object> traverser = traversal.getTraverserGenerator().generate("a", (Step) traversal.getStartStep(), 1l);
+        final Traverser.Admin<Object> split = traverser.split("b", step);
+        TraverserRecycler.recycle(split);
+        assertNull(split.get());
+        assertEquals(1, ((AbstractTraverser<?>) traverser).recycler.size());
+        final Traverser.Admin<Object> reused = traverser.split("c", step);
+        assertSame(split, reused);
+        assertEquals("c", reused.get());
+        assertEquals(traverser.getStepId(), reused.getStepId());
+        assertEquals(0, ((AbstractTraverser<?>) traverser).recycler.size());
+    }
+
+    @Test
+    public void shouldCopyTheStateOfTheSplitTraverser() {
+        final Traversal.Admin<?, ?> traversal = g.withSack(1).inject(1).as("x").out().path().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getEndStep();
+        final Traverser.Admin<Object> traverser = traversal.getTraverserGenerator().generate("a", (Step) traversal.getStartStep(), 1l);
+        traverser.addLabels(traversal.getStartStep().getLabels());
+        traverser.setBulk(3l);
+        traverser.incrLoops("loop");
+        TraverserRecycler.recycle(traverser.split("b", step));
+        final Traverser.Admin<Object> reused = traverser.split("c", step);
+        final Traverser.Admin<Object> cloned = traverser.split().split("c", step);
+        assertEquals(cloned.path(), reused.path());
+        assertEquals(cloned.bulk(), reused.bulk());
+        assertEquals(cloned.loops(), reused.loops());
+        assertEquals((Object) cloned.sack(), reused.sack());
+    }
+
+    @Test
+    public void shouldOnlyPoolTraversersOfTheOwningThread() throws Exception {
+        final Traversal.Admin<?, ?> traversal = g.inject(1).out().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getEndStep();
+        final Traverser.Admin<Object> traverser = traversal.getTraverserGenerator().generate("a", (Step) traversal.getStartStep(), 1l);
+        TraverserRecycler.recycle(traverser.split("b", step));
+        assertEquals(1, ((AbstractTraverser<?>) traverser).recycler.size());
+        final Thread thread = new Thread(() -> {
+            TraverserRecycler.recycle(traverser.split("c", step));
+            TraverserRecycler.recycle(traverser.split("d", step));
+        });
+        thread.start();
+        thread.join();
+        assertEquals(1, ((AbstractTraverser<?>) traverser).recycler.size());
+    }
+
+    @Test
+    public void shouldNotRecycleTraversersIfDisabled() {
+        System.setProperty(TraverserRecycler.RECYCLE_TRAVERSERS, "false");
+        try {
+            final Traversal.Admin<?, ?> traversal = g.inject(1).out().asAdmin();
+            traversal.applyStrategies();
+            final Step step = traversal.getEndStep();
+            final Traverser.Admin<Object> traverser = traversal.getTraverserGenerator().generate("a", (Step) traversal.getStartStep(), 1l);
+            assertNull(((AbstractTraverser<?>) traverser).recycler);
+            final Traverser.Admin<Object> split = traverser.split("b", step);
+            TraverserRecycler.recycle(split);
+            assertEquals("b", split.get());
+            assertNotSame(split, traverser.split("c", step));
+        } finally {
+            System.clearProperty(TraverserRecycler.RECYCLE_TRAVERSERS);
+        }
+    }
+
+    @Test
+    public void shouldYieldTheSameResultsWithAndWithoutRecycling() {
+        final List<Integer> expected = Arrays.asList(2, 4, 4, 6);
+        assertEquals(expected, g.inject(1, 2, 2, 3, 4).filter(t -> t.get() != 4).map(t -> t.get() * 2).barrier().toList());
+        assertEquals(expected, g.inject(1, 2, 2, 3, 4, 4).is(P.neq(4)).map(t -> t.get() * 2).barrier().toList());
+        System.setProperty(TraverserRecycler.RECYCLE_TRAVERSERS, "false");
+        try {
+            assertEquals(expected, g.inject(1, 2, 2, 3, 4).filter(t -> t.get() != 4).map(t -> t.get() * 2).barrier().toList());
+        } finally {
+            System.clearProperty(TraverserRecycler.RECYCLE_TRAVERSERS);
+        }
+    }
+
+    private static class ProviderTraverser<T> extends B_O_Traverser<T> {
+        private Object state;
+
+        private ProviderTraverser(final T t) {
+            super(t, 1l);
+        }
+    }
+}
@@ -20,17 +20,21 @@
 package org.apache.tinkerpop.gremlin.process.traversal.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSideEffects;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy;
 import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
 import org.apache.tinkerpop.gremlin.util.function.HashSetSupplier;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -104,6 +108,47 @@ public class DefaultTraversalTest {
         assertEquals(2, clone.getSideEffects().<Integer>get("m").intValue());
     }
 
+    @Test
+    public void shouldNotBatchByDefault() {
+        final Traversal.Admin<?, ?> traversal = __.out().out().values("name").asAdmin();
+        traversal.applyStrategies();
+        traversal.getSteps().forEach(step -> assertEquals(0, ((Batching) step).getBatchSize()));
+        // batching would group the equal traversers and thus, change the order of the results
+        assertEquals(Arrays.asList(1, 2, 1, 3, 1), __.inject(1, 2, 1, 3, 1).is(P.gt(0)).is(P.lt(4)).toList());
+    }
+
+    @Test
+    public void shouldBatchRunsOfBatchingStepsWithLazyBarrierStrategy() {
+        final Traversal.Admin<?, ?> traversal = withLazyBarriers(__.out().values("name").map(t -> t.get()).in().asAdmin());
+        traversal.applyStrategies();
+        final List<Step> steps = traversal.getSteps();
+        assertEquals(Batching.DEFAULT_BATCH_SIZE, ((Batching) steps.get(0)).getBatchSize());
+        assertEquals(Batching.DEFAULT_BATCH_SIZE, ((Batching) steps.get(1)).getBatchSize());
+        assertEquals(0, ((Batching) steps.get(2)).getBatchSize());
+        assertEquals(0, ((Batching) steps.get(3)).getBatchSize());
+
+        // nothing before a range or a mutation is batched
+        final Traversal.Admin<?, ?> limited = withLazyBarriers(__.out().values("name").limit(1).out().values("name").asAdmin());
+        limited.applyStrategies();
+        assertEquals(Arrays.asList(0, 0, 0, Batching.DEFAULT_BATCH_SIZE, Batching.DEFAULT_BATCH_SIZE),
+                limited.getSteps().stream().map(step -> step instanceof Batching ? ((Batching) step).getBatchSize() : 0).collect(Collectors.toList()));
+        final Traversal.Admin<?, ?> mutating = withLazyBarriers(__.out().values("name").local(__.addV()).asAdmin());
+        mutating.applyStrategies();
+        mutating.getSteps().forEach(step -> assertEquals(0, step instanceof Batching ? ((Batching) step).getBatchSize() : 0));
+
+        final Traversal.Admin<Integer, Integer> bulked = withLazyBarriers(__.inject(1, 2, 1, 3, 1).is(P.gt(0)).is(P.lt(4)).asAdmin());
+        bulked.applyStrategies();
+        assertEquals(Batching.DEFAULT_BATCH_SIZE, ((Batching) bulked.getSteps().get(1)).getBatchSize());
+        final List<Integer> results = new ArrayList<>();
+        bulked.forEachRemaining(results::add);
+        assertEquals(Arrays.asList(1, 1, 1, 2, 3), results);
+    }
+
+    private static <S, E> Traversal.Admin<S, E> withLazyBarriers(final Traversal.Admin<S, E> traversal) {
+        traversal.setStrategies(traversal.getStrategies().clone().addStrategies(LazyBarrierStrategy.instance()));
+        return traversal;
+    }
+
     @Test
     public void shouldBeTheSameSideEffectsThroughoutAllChildTraversals() {
         final DefaultTraversal.Admin<?, ?> traversal = (DefaultTraversal.Admin) __.out().repeat(__.in().groupCount("a").by(__.select("a"))).in();
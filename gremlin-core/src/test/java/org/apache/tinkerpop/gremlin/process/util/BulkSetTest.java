@@ -19,8 +19,13 @@
 package org.apache.tinkerpop.gremlin.process.util;
 
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.BulkSet;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Random;
 import java.util.Set;
@@ -89,4 +94,59 @@ public class BulkSetTest {
         }
         assertEquals(11, set.size());
     }
+
+    @Test
+    public void shouldHaveCorrectBulkCountsForNumericIdElements() {
+        final BulkSet<Vertex> set = new BulkSet<>();
+        set.add(vertex(3l), 2);
+        set.add(vertex(1l));
+        set.add(vertex(3l), 3);
+        assertEquals(2, set.uniqueSize());
+        assertEquals(6, set.size());
+        assertEquals(5, set.get(vertex(3l)));
+        assertEquals(1, set.get(vertex(1l)));
+        assertEquals(0, set.get(vertex(1)));
+        assertTrue(set.contains(vertex(1l)));
+        assertFalse(set.contains(vertex(1)));
+        assertEquals(Arrays.asList(vertex(3l), vertex(3l), vertex(3l), vertex(3l), vertex(3l), vertex(1l)), IteratorUtils.list(set.iterator()));
+    }
+
+    @Test
+    public void shouldPreserveOrderAndBulkWhenMixingElementsAndObjects() {
+        final BulkSet<Object> set = new BulkSet<>();
+        set.add(vertex(3l), 2);
+        set.add(vertex(1l));
+        set.add(vertex(1), 4);
+        set.add("marko");
+        set.add(vertex(3l));
+        assertEquals(4, set.uniqueSize());
+        assertEquals(9, set.size());
+        assertEquals(3, set.get(vertex(3l)));
+        assertEquals(4, set.get(vertex(1)));
+        assertEquals(Arrays.asList(vertex(3l), vertex(1l), vertex(1), "marko"), Arrays.asList(set.asBulk().keySet().toArray()));
+    }
+
+    @Test
+    public void shouldHaveProperHashAndEqualityForNumericIdElements() {
+        final BulkSet<Object> a = new BulkSet<>();
+        final BulkSet<Object> b = new BulkSet<>();
+        a.add(vertex(1l), 2);
+        a.add(vertex(2l));
+        b.add(vertex(1l), 2);
+        b.add(vertex(2l));
+        b.add("marko");
+        b.remove("marko");
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        a.clear();
+        assertTrue(a.isEmpty());
+        a.add("marko");
+        a.add(vertex(1l));
+        assertEquals(1, a.get("marko"));
+        assertEquals(1, a.get(vertex(1l)));
+    }
+
+    private static Vertex vertex(final Object id) {
+        return new DetachedVertex(id, Vertex.DEFAULT_LABEL, Collections.emptyMap());
+    }
 }
@@ -20,6 +20,21 @@ package org.apache.tinkerpop.gremlin.structure.io.gryo;
 
 import org.apache.tinkerpop.gremlin.process.remote.traversal.DefaultRemoteTraverser;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_P_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_LP_O_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_P_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.LP_O_OB_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_OB_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserSerializer;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalExplanation;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.io.IoX;
@@ -28,12 +43,14 @@ import org.apache.tinkerpop.gremlin.structure.io.IoY;
 import org.apache.tinkerpop.gremlin.structure.io.IoYIoRegistry;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONTokens;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
 import org.apache.tinkerpop.shaded.kryo.Kryo;
 import org.apache.tinkerpop.shaded.kryo.Registration;
 import org.apache.tinkerpop.shaded.kryo.Serializer;
 import org.apache.tinkerpop.shaded.kryo.io.Input;
 import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.apache.tinkerpop.shaded.kryo.serializers.FieldSerializer;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
@@ -54,14 +71,20 @@ import java.time.YearMonth;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.__;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNot.not;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotSame;
@@ -74,6 +97,7 @@ public class GryoMapperTest {
 
     private final GryoMapper sharedMapper = GryoMapper.build().create();
     private final Kryo sharedKryo = sharedMapper.createMapper();
+    private final Kryo compactKryo = GryoMapper.build().compactTraversers(true).create().createMapper();
 
     @Test
     public void shouldMakeNewInstance() {
@@ -248,6 +272,122 @@ public class GryoMapperTest {
         assertEquals(br.get(), inOut.get());
     }
 
+    @Test
+    public void shouldHandleTraverserSet() throws Exception {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().withSack(1.0d).inject(1).as("a").out().path().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getStartStep();
+        final TraverserSet<Object> traverserSet = new TraverserSet<>();
+        final Traverser.Admin<Object> a = traversal.getTraverserGenerator().generate("marko", step, 3l);
+        a.addLabels(step.getLabels());
+        a.incrLoops(step.getId());
+        a.sack(2.5d);
+        final Traverser.Admin<Object> b = a.split("josh", step);
+        b.setBulk(1000000l);
+        traverserSet.add(a);
+        traverserSet.add(b);
+
+        for (final Kryo kryo : Arrays.asList(sharedKryo, compactKryo)) {
+            final TraverserSet<Object> inOut = serializeDeserialize(kryo, traverserSet, TraverserSet.class);
+            assertEquals(2, inOut.size());
+            assertEquals(traverserSet.bulkSize(), inOut.bulkSize());
+            final Iterator<Traverser.Admin<Object>> others = inOut.iterator();
+            for (final Traverser.Admin<Object> traverser : traverserSet) {
+                final Traverser.Admin<Object> other = others.next();
+                assertEquals(traverser.get(), other.get());
+                assertEquals(traverser.bulk(), other.bulk());
+                assertEquals(traverser.getStepId(), other.getStepId());
+                assertEquals(traverser.getTags(), other.getTags());
+                assertEquals(traverser.loops(), other.loops());
+                assertEquals((Object) traverser.sack(), other.sack());
+                assertEquals(traverser.path(), other.path());
+            }
+        }
+    }
+
+    @Test
+    public void shouldHandleTraverserSetOfBulkedTraversersCompactly() throws Exception {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().inject(1).out().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getStartStep();
+        final TraverserSet<Object> traverserSet = new TraverserSet<>();
+        for (int i = 0; i < 100; i++) {
+            traverserSet.add(traversal.getTraverserGenerator().generate(i, step, 2l));
+        }
+        try (final ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            final Output out = new Output(stream);
+            compactKryo.writeObject(out, traverserSet);
+            out.flush();
+            // per traverser: class, flags, object, bulk and step id
+            assertThat(stream.size() < 100 * 12, is(true));
+        }
+        final TraverserSet<Object> inOut = serializeDeserialize(compactKryo, traverserSet, TraverserSet.class);
+        assertEquals(100, inOut.size());
+        assertEquals(200l, inOut.bulkSize());
+    }
+
+    @Test
+    public void shouldWriteRepeatedStringsOnceWithStringDictionarySerializer() throws Exception {
+        final Kryo dictionaryKryo = GryoMapper.build().addCustom(String.class, new StringDictionarySerializer()).create().createMapper();
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final Map<String, Object> row = new HashMap<>();
+            // new instances each time so that reference tracking does not already dedup them
+            row.put(new String("name"), new String("person"));
+            row.put(new String("age"), i);
+            row.put(new String("nickname"), null);
+            rows.add(row);
+        }
+
+        final byte[] standard = write(sharedKryo, rows);
+        final byte[] compact = write(dictionaryKryo, rows);
+        assertThat(compact.length < standard.length, is(true));
+
+        final Input input = new Input(compact);
+        assertEquals(rows, dictionaryKryo.readClassAndObject(input));
+        // the dictionary does not survive the top-level object
+        dictionaryKryo.writeClassAndObject(new Output(64), "person");
+        assertEquals(rows, dictionaryKryo.readClassAndObject(new Input(compact)));
+    }
+
+    @Test
+    public void shouldRoundTripEveryCompactTraverserClass() throws Exception {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().withSack(1.0d).inject(1).as("a").out().path().asAdmin();
+        traversal.applyStrategies();
+        final Step step = traversal.getStartStep();
+        final Set<Class> classes = new HashSet<>();
+        for (final TraverserGenerator generator : Arrays.asList(B_O_TraverserGenerator.instance(),
+                B_O_S_SE_SL_TraverserGenerator.instance(), B_LP_O_S_SE_SL_TraverserGenerator.instance(),
+                B_LP_O_P_S_SE_SL_TraverserGenerator.instance(), O_OB_S_SE_SL_TraverserGenerator.instance(),
+                LP_O_OB_S_SE_SL_TraverserGenerator.instance(), LP_O_OB_P_S_SE_SL_TraverserGenerator.instance())) {
+            final Traverser.Admin<Object> traverser = generator.generate("marko", step, 1l);
+            traverser.addLabels(step.getLabels());
+            final Class clazz = traverser.getClass();
+            final Traverser.Admin<Object> inOut = (Traverser.Admin<Object>) serializeDeserialize(compactKryo, traverser, clazz);
+            assertEquals(traverser.getClass(), inOut.getClass());
+            assertEquals(traverser.get(), inOut.get());
+            assertEquals(traverser.bulk(), inOut.bulk());
+            assertEquals(traverser.getStepId(), inOut.getStepId());
+            assertEquals(traverser.path(), inOut.path());
+            classes.add(traverser.getClass());
+        }
+        assertEquals(new HashSet<>(TraverserSerializer.TRAVERSER_CLASSES), classes);
+        assertThat(compactKryo.getRegistration(O_Traverser.class).getSerializer(), instanceOf(FieldSerializer.class));
+    }
+
+    @Test
+    public void shouldKeepDefaultTraverserSerializationUnlessCompactTraversersIsEnabled() {
+        for (final Class<?> clazz : Arrays.asList(B_O_Traverser.class, TraverserSet.class)) {
+            final Registration registration = sharedKryo.getRegistration(clazz);
+            final Registration compactRegistration = compactKryo.getRegistration(clazz);
+            assertEquals(registration.getId(), compactRegistration.getId());
+            assertThat(registration.getSerializer(), instanceOf(FieldSerializer.class));
+            assertThat(compactRegistration.getSerializer(), not(instanceOf(FieldSerializer.class)));
+        }
+        assertEquals(75, sharedKryo.getRegistration(B_O_Traverser.class).getId());
+        assertEquals(58, sharedKryo.getRegistration(TraverserSet.class).getId());
+    }
+
     @Test
     public void shouldHandleDuration() throws Exception  {
         final Duration o = Duration.ZERO;
@@ -338,15 +478,25 @@ public class GryoMapperTest {
         assertEquals(bytecode.toString(), serializeDeserialize(bytecode, Bytecode.class).toString());
     }
 
+    private static byte[] write(final Kryo kryo, final Object o) {
+        final Output out = new Output(4096, -1);
+        kryo.writeClassAndObject(out, o);
+        return out.toBytes();
+    }
+
     public <T> T serializeDeserialize(final Object o, final Class<T> clazz) throws Exception {
+        return serializeDeserialize(sharedKryo, o, clazz);
+    }
+
+    public <T> T serializeDeserialize(final Kryo kryo, final Object o, final Class<T> clazz) throws Exception {
         try (final ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             final Output out = new Output(stream);
-            sharedKryo.writeObject(out, o);
+            kryo.writeObject(out, o);
             out.flush();
 
             try (final InputStream inputStream = new ByteArrayInputStream(stream.toByteArray())) {
                 final Input input = new Input(inputStream);
-                return sharedKryo.readObject(input, clazz);
+                return kryo.readObject(input, clazz);
             }
         }
     }
@@ -82,6 +82,12 @@ public enum ResponseStatusCode {
      */
     SERVER_ERROR(500),
 
+    /**
+     * The server was temporarily unable to accept the request (e.g. because it was overloaded) and did not process
+     * it.  The request may be retried, preferably after a short delay.
+     */
+    SERVER_ERROR_TEMPORARY(596),
+
     /**
      * The script submitted for processing evaluated in the {@code ScriptEngine} with errors and could not be
      * processed.  Check the script submitted for syntax errors or other problems and then resubmit.
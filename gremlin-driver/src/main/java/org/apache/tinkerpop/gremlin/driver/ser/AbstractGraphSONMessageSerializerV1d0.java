@@ -27,6 +27,8 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONMapper;
 import groovy.json.JsonBuilder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
 import io.netty.util.ReferenceCountUtil;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONTokens;
 import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONUtil;
@@ -34,6 +36,7 @@ import org.apache.tinkerpop.shaded.jackson.core.JsonGenerationException;
 import org.apache.tinkerpop.shaded.jackson.core.JsonGenerator;
 import org.apache.tinkerpop.shaded.jackson.core.JsonProcessingException;
 import org.apache.tinkerpop.shaded.jackson.core.type.TypeReference;
+import org.apache.tinkerpop.shaded.jackson.databind.JavaType;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.jackson.databind.SerializerProvider;
 import org.apache.tinkerpop.shaded.jackson.databind.jsontype.TypeSerializer;
@@ -43,6 +46,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -57,6 +61,14 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
 
     public static final String TOKEN_USE_MAPPER_FROM_GRAPH = "useMapperFromGraph";
 
+    /**
+     * When set to {@code true}, messages are written to and read from the {@code ByteBuf} as a stream of JSON tokens
+     * rather than through an intermediate {@code byte[]} that holds the entire message.
+     */
+    public static final String TOKEN_STREAMING = "streaming";
+
+    protected boolean streaming = false;
+
     protected final TypeReference<Map<String, Object>> mapTypeReference = new TypeReference<Map<String, Object>>() {
     };
 
@@ -98,6 +110,7 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
 
         addIoRegistries(config, initialBuilder);
 
+        streaming = Boolean.parseBoolean(config.getOrDefault(TOKEN_STREAMING, "false").toString());
         mapper = configureBuilder(initialBuilder).create().createMapper();
     }
 
@@ -105,6 +118,15 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
     public ByteBuf serializeResponseAsBinary(final ResponseMessage responseMessage, final ByteBufAllocator allocator) throws SerializationException {
         ByteBuf encodedMessage = null;
         try {
+            if (streaming) {
+                encodedMessage = allocator.buffer();
+                try (final OutputStream out = new ByteBufOutputStream(encodedMessage)) {
+                    mapper.writeValue(out, responseMessage);
+                }
+
+                return encodedMessage;
+            }
+
             final byte[] payload = mapper.writeValueAsBytes(responseMessage);
             encodedMessage = allocator.buffer(payload.length);
             encodedMessage.writeBytes(payload);
@@ -123,6 +145,16 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
         ByteBuf encodedMessage = null;
         try {
             final byte[] header = obtainHeader();
+            if (streaming) {
+                encodedMessage = allocator.buffer();
+                encodedMessage.writeBytes(header);
+                try (final OutputStream out = new ByteBufOutputStream(encodedMessage)) {
+                    mapper.writeValue(out, requestMessage);
+                }
+
+                return encodedMessage;
+            }
+
             final byte[] payload = mapper.writeValueAsBytes(requestMessage);
 
             encodedMessage = allocator.buffer(header.length + payload.length);
@@ -141,6 +173,9 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
     @Override
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
         try {
+            if (streaming)
+                return readValue(msg, RequestMessage.class);
+
             final byte[] payload = new byte[msg.readableBytes()];
             msg.readBytes(payload);
             return mapper.readValue(payload, RequestMessage.class);
@@ -153,9 +188,15 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
     @Override
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
         try {
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            final Map<String, Object> responseData = mapper.readValue(payload, mapTypeReference);
+            final Map<String, Object> responseData;
+            if (streaming)
+                responseData = readValue(msg, mapper.getTypeFactory().constructType(mapTypeReference));
+            else {
+                final byte[] payload = new byte[msg.readableBytes()];
+                msg.readBytes(payload);
+                responseData = mapper.readValue(payload, mapTypeReference);
+            }
+
             final Map<String, Object> status = (Map<String, Object>) responseData.get(SerTokens.TOKEN_STATUS);
             final Map<String, Object> result = (Map<String, Object>) responseData.get(SerTokens.TOKEN_RESULT);
             return ResponseMessage.build(UUID.fromString(responseData.get(SerTokens.TOKEN_REQUEST).toString()))
@@ -171,6 +212,27 @@ public abstract class AbstractGraphSONMessageSerializerV1d0 extends AbstractMess
         }
     }
 
+    /**
+     * Parses the readable bytes of the {@code ByteBuf}. The backing array of a heap buffer is parsed in place while
+     * any other buffer is streamed to the parser in chunks.
+     */
+    private <T> T readValue(final ByteBuf msg, final Class<T> type) throws IOException {
+        return readValue(msg, mapper.getTypeFactory().constructType(type));
+    }
+
+    private <T> T readValue(final ByteBuf msg, final JavaType type) throws IOException {
+        final int length = msg.readableBytes();
+        if (msg.hasArray()) {
+            final T value = mapper.readValue(msg.array(), msg.arrayOffset() + msg.readerIndex(), length, type);
+            msg.skipBytes(length);
+            return value;
+        }
+
+        try (final ByteBufInputStream in = new ByteBufInputStream(msg, length)) {
+            return mapper.readValue(in, type);
+        }
+    }
+
     public final static class GremlinServerModule extends SimpleModule {
         public GremlinServerModule() {
             super("graphson-gremlin-server");
@@ -33,7 +33,6 @@ import org.apache.tinkerpop.shaded.kryo.Serializer;
 import org.apache.tinkerpop.shaded.kryo.io.Input;
 import org.apache.tinkerpop.shaded.kryo.io.Output;
 
-import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Method;
 import java.nio.charset.Charset;
 import java.util.Collection;
@@ -173,9 +172,7 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.capacity()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            try (final Input input = new ByteBufInput(msg, bufferSize)) {
                 final UUID requestId = kryo.readObjectOrNull(input, UUID.class);
                 final int status = input.readShort();
                 final String statusMsg = input.readString();
@@ -202,9 +199,8 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         ByteBuf encodedMessage = null;
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
-
+            encodedMessage = allocator.buffer(bufferSize);
+            try (final Output output = new ByteBufOutput(encodedMessage, bufferSize)) {
                 // request id - if present
                 kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
 
@@ -220,10 +216,6 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
                 final long size = output.total();
                 if (size > Integer.MAX_VALUE)
                     throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
             }
 
             return encodedMessage;
@@ -239,9 +231,7 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            try (final Input input = new ByteBufInput(msg, bufferSize)) {
                 // by the time the message gets here, the mime length/type have been already read, so this part just
                 // needs to process the payload.
                 final UUID id = kryo.readObject(input, UUID.class);
@@ -267,8 +257,8 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
         ByteBuf encodedMessage = null;
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos, bufferSize);
+            encodedMessage = allocator.buffer(bufferSize);
+            try (final Output output = new ByteBufOutput(encodedMessage, bufferSize)) {
                 final String mimeType = mimeTypesSupported()[0];
                 output.writeByte(mimeType.length());
                 output.write(mimeType.getBytes(UTF8));
@@ -281,10 +271,6 @@ public abstract class AbstractGryoMessageSerializerV1d0 extends AbstractMessageS
                 final long size = output.total();
                 if (size > Integer.MAX_VALUE)
                     throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                output.flush();
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(baos.toByteArray());
             }
 
             return encodedMessage;
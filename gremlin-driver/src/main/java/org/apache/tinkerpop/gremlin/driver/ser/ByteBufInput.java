@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+
+/**
+ * A Kryo {@link Input} that reads the readable bytes of a {@link ByteBuf}. The backing array of a heap buffer is read
+ * in place and a direct buffer is read in chunks of the given buffer size, so the message is never copied as a whole.
+ * The bytes are consumed from the {@link ByteBuf} as they are read.
+ */
+final class ByteBufInput extends Input {
+
+    private final ByteBuf byteBuf;
+
+    ByteBufInput(final ByteBuf byteBuf, final int bufferSize) {
+        this.byteBuf = byteBuf;
+        if (byteBuf.hasArray()) {
+            setBuffer(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), byteBuf.readableBytes());
+            byteBuf.skipBytes(byteBuf.readableBytes());
+        } else {
+            setBuffer(new byte[Math.max(1, Math.min(bufferSize, byteBuf.readableBytes()))], 0, 0);
+        }
+    }
+
+    @Override
+    protected int fill(final byte[] buffer, final int offset, final int count) {
+        final int length = Math.min(count, this.byteBuf.readableBytes());
+        if (0 == length)
+            return -1;
+        this.byteBuf.readBytes(buffer, offset, length);
+        return length;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+/**
+ * A Kryo {@link Output} that writes to a {@link ByteBuf}. Kryo encodes into a fixed chunk of the given buffer size
+ * which is written to the {@link ByteBuf} whenever it is full and on {@link #flush()}, so the message is never
+ * copied as a whole.
+ */
+final class ByteBufOutput extends Output {
+
+    private final ByteBuf byteBuf;
+
+    ByteBufOutput(final ByteBuf byteBuf, final int bufferSize) {
+        super(bufferSize);
+        this.byteBuf = byteBuf;
+    }
+
+    @Override
+    public void flush() {
+        this.byteBuf.writeBytes(this.buffer, 0, this.position);
+        this.total += this.position;
+        this.position = 0;
+    }
+}
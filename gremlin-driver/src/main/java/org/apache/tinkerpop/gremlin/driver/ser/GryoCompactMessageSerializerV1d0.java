@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.StringDictionarySerializer;
+
+import java.util.Map;
+
+/**
+ * A Gryo serializer that uses "detached" graph elements like {@link GryoMessageSerializerV1d0} but writes every
+ * {@code String} through a {@link StringDictionarySerializer}. Vertex labels, edge labels and property keys are
+ * therefore written once per result batch and referenced by their dictionary position afterwards, which considerably
+ * reduces the size of results such as those of {@code valueMap()}. Numeric identifiers are written as variable length
+ * integers as they are by the standard Gryo serializer.
+ *
+ * @see GryoMessageSerializerV1d0
+ */
+public final class GryoCompactMessageSerializerV1d0 extends AbstractGryoMessageSerializerV1d0 {
+
+    private static final String MIME_TYPE = SerTokens.MIME_GRYO_COMPACT_V1D0;
+    private static final String MIME_TYPE_STRINGD = SerTokens.MIME_GRYO_COMPACT_V1D0 + "-stringd";
+
+    /**
+     * Creates an instance with a standard {@link GryoMapper} instance. Note that this instance
+     * will be overridden by {@link #configure} is called.
+     */
+    public GryoCompactMessageSerializerV1d0() {
+        super(overrideWithCompact(GryoMapper.build()).create());
+    }
+
+    /**
+     * Creates an instance with a standard {@link GryoMapper} instance. Note that the instance created by the supplied
+     * builder will be overridden by {@link #configure} if it is called.
+     */
+    public GryoCompactMessageSerializerV1d0(final GryoMapper.Builder kryo) {
+        super(overrideWithCompact(kryo).create());
+    }
+
+    @Override
+    public String[] mimeTypesSupported() {
+        return new String[]{serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE};
+    }
+
+    @Override
+    GryoMapper.Builder configureBuilder(final GryoMapper.Builder builder, final Map<String, Object> config,
+                                        final Map<String, Graph> graphs) {
+        return overrideWithCompact(builder);
+    }
+
+    private static GryoMapper.Builder overrideWithCompact(final GryoMapper.Builder builder) {
+        return builder.addCustom(String.class, new StringDictionarySerializer());
+    }
+}
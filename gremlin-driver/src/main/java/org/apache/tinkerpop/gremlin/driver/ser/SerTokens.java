@@ -41,4 +41,5 @@ public final  class SerTokens {
     public static final String MIME_GRAPHSON_V2D0 = "application/vnd.gremlin-v2.0+json";
     public static final String MIME_GRYO_V1D0 = "application/vnd.gremlin-v1.0+gryo";
     public static final String MIME_GRYO_LITE_V1D0 = "application/vnd.gremlin-v1.0+gryo-lite";
+    public static final String MIME_GRYO_COMPACT_V1D0 = "application/vnd.gremlin-v1.0+gryo-compact";
 }
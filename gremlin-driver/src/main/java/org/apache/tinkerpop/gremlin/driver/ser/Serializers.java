@@ -30,7 +30,8 @@ public enum Serializers {
     GRAPHSON_V1D0(SerTokens.MIME_GRAPHSON_V1D0),
     GRAPHSON_V2D0(SerTokens.MIME_GRAPHSON_V2D0),
     GRYO_V1D0(SerTokens.MIME_GRYO_V1D0),
-    GRYO_LITE_V1D0(SerTokens.MIME_GRYO_LITE_V1D0);
+    GRYO_LITE_V1D0(SerTokens.MIME_GRYO_LITE_V1D0),
+    GRYO_COMPACT_V1D0(SerTokens.MIME_GRYO_COMPACT_V1D0);
 
     private String value;
 
@@ -68,6 +69,8 @@ public enum Serializers {
                 return new GryoMessageSerializerV1d0();
             case SerTokens.MIME_GRYO_LITE_V1D0:
                 return new GryoLiteMessageSerializerV1d0();
+            case SerTokens.MIME_GRYO_COMPACT_V1D0:
+                return new GryoCompactMessageSerializerV1d0();
             default:
                 throw new RuntimeException("Could not create a simple MessageSerializer instance of " + value);
         }
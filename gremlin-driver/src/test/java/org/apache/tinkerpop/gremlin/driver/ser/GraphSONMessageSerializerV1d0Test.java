@@ -18,6 +18,10 @@
  */
 package org.apache.tinkerpop.gremlin.driver.ser;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
@@ -51,6 +55,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -346,6 +351,52 @@ public class GraphSONMessageSerializerV1d0Test {
         assertEquals(1000, converted.get("1").asInt());
     }
 
+    @Test
+    public void shouldStreamResponseToByteBuf() throws Exception {
+        final GraphSONMessageSerializerV1d0 streamingSerializer = new GraphSONMessageSerializerV1d0();
+        streamingSerializer.configure(new HashMap<String, Object>() {{
+            put(AbstractGraphSONMessageSerializerV1d0.TOKEN_STREAMING, true);
+        }}, null);
+
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final List<Map<String, Object>> valueMaps = graph.traversal().V().valueMap().toList();
+        final ResponseMessage response = ResponseMessage.build(msg).result(valueMaps).create();
+
+        final ByteBuf expected = SERIALIZER.serializeResponseAsBinary(response, UnpooledByteBufAllocator.DEFAULT);
+        final ByteBuf streamed = streamingSerializer.serializeResponseAsBinary(response, PooledByteBufAllocator.DEFAULT);
+        assertEquals(ByteBufUtil.hexDump(expected), ByteBufUtil.hexDump(streamed));
+
+        final ByteBuf direct = new UnpooledByteBufAllocator(true).buffer().writeBytes(expected);
+        for (final ByteBuf buffer : Arrays.asList(streamed, direct)) {
+            final ResponseMessage deserialized = streamingSerializer.deserializeResponse(buffer);
+            assertEquals(msg.getRequestId(), deserialized.getRequestId());
+            assertEquals(ResponseStatusCode.SUCCESS, deserialized.getStatus().getCode());
+            assertEquals(6, ((List) deserialized.getResult().getData()).size());
+            assertEquals(0, buffer.readableBytes());
+            buffer.release();
+        }
+    }
+
+    @Test
+    public void shouldStreamRequestToByteBuf() throws Exception {
+        final GraphSONMessageSerializerV1d0 streamingSerializer = new GraphSONMessageSerializerV1d0();
+        streamingSerializer.configure(new HashMap<String, Object>() {{
+            put(AbstractGraphSONMessageSerializerV1d0.TOKEN_STREAMING, true);
+        }}, null);
+
+        final RequestMessage request = RequestMessage.build("eval").addArg("gremlin", "g.V()").create();
+        final ByteBuf expected = SERIALIZER.serializeRequestAsBinary(request, UnpooledByteBufAllocator.DEFAULT);
+        final ByteBuf streamed = streamingSerializer.serializeRequestAsBinary(request, PooledByteBufAllocator.DEFAULT);
+        assertEquals(ByteBufUtil.hexDump(expected), ByteBufUtil.hexDump(streamed));
+
+        streamed.skipBytes(streamed.readByte());
+        final RequestMessage deserialized = streamingSerializer.deserializeRequest(streamed);
+        assertEquals(request.getRequestId(), deserialized.getRequestId());
+        assertEquals("eval", deserialized.getOp());
+        assertEquals("g.V()", deserialized.getArgs().get("gremlin"));
+        streamed.release();
+    }
+
     @Test
     public void shouldDeserializeRequestNicelyWithNoArgs() throws Exception {
         final UUID request = UUID.fromString("011CFEE9-F640-4844-AC93-034448AC0E80");
@@ -20,6 +20,7 @@ package org.apache.tinkerpop.gremlin.driver.ser;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
@@ -76,9 +77,13 @@ public class GryoBaseMessageSerializerV1d0Test {
         final GryoMessageSerializerV1d0 v1d0LiteText = new GryoMessageSerializerV1d0();
         v1d0LiteText.configure(config, null);
 
+        final GryoCompactMessageSerializerV1d0 v1d0CompactText = new GryoCompactMessageSerializerV1d0();
+        v1d0CompactText.configure(config, null);
+
         return Arrays.asList(new Object[][]{
                 {"V1d0", new GryoMessageSerializerV1d0(), v1d0Text},
-                {"V1d0Lite", new GryoLiteMessageSerializerV1d0(), v1d0LiteText }});
+                {"V1d0Lite", new GryoLiteMessageSerializerV1d0(), v1d0LiteText },
+                {"V1d0Compact", new GryoCompactMessageSerializerV1d0(), v1d0CompactText }});
     }
 
     @Parameterized.Parameter(value = 0)
@@ -455,6 +460,83 @@ public class GryoBaseMessageSerializerV1d0Test {
         assertEquals(71, buf.readableBytes());
     }
 
+    @Test
+    public void shouldSerializeResponseLargerThanBufferSize() throws Exception {
+        final java.util.List<String> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add("result-" + i);
+        }
+
+        final ResponseMessage response = convertBinary(list);
+        assertCommon(response);
+        assertEquals(list, response.getResult().getData());
+    }
+
+    @Test
+    public void shouldSerializeResponseWithDirectBuffers() throws Exception {
+        final java.util.List<String> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add("result-" + i);
+        }
+
+        final ByteBufAllocator directAllocator = new UnpooledByteBufAllocator(true);
+        final ByteBuf bb = binarySerializer.serializeResponseAsBinary(responseMessageBuilder.result(list).create(), directAllocator);
+        assertTrue(bb.isDirect());
+        final ResponseMessage response = binarySerializer.deserializeResponse(bb);
+        assertCommon(response);
+        assertEquals(list, response.getResult().getData());
+        assertEquals(0, bb.readableBytes());
+        bb.release();
+    }
+
+    @Test
+    public void shouldSerializeRequestWithPooledBuffers() throws Exception {
+        final UUID id = UUID.randomUUID();
+        final java.util.List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        final RequestMessage request = RequestMessage.build("try")
+                .overrideRequestId(id)
+                .processor("pro")
+                .addArg("test", list)
+                .create();
+        final ByteBuf bb = binarySerializer.serializeRequestAsBinary(request, PooledByteBufAllocator.DEFAULT);
+        final int mimeLen = bb.readByte();
+        bb.readBytes(new byte[mimeLen]);
+        final RequestMessage deserialized = binarySerializer.deserializeRequest(bb);
+        bb.release();
+
+        assertEquals(id, deserialized.getRequestId());
+        assertEquals("pro", deserialized.getProcessor());
+        assertEquals("try", deserialized.getOp());
+        assertEquals(list, deserialized.getArgs().get("test"));
+    }
+
+    @Test
+    public void shouldSerializeValueMapsCompactly() throws Exception {
+        final java.util.List<Map<String, Object>> valueMaps = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final Map<String, Object> valueMap = new HashMap<>();
+            // distinct instances as read from storage so that reference tracking does not dedup the strings
+            valueMap.put(new String("name"), new ArrayList<>(Arrays.asList("name-" + i)));
+            valueMap.put(new String("department"), new ArrayList<>(Arrays.asList(new String("engineering"))));
+            valueMap.put(new String("location"), new ArrayList<>(Arrays.asList(new String("santa fe"))));
+            valueMaps.add(valueMap);
+        }
+
+        final MessageSerializer compactSerializer = new GryoCompactMessageSerializerV1d0();
+        final ResponseMessage response = responseMessageBuilder.result(valueMaps).create();
+        final ByteBuf standard = new GryoMessageSerializerV1d0().serializeResponseAsBinary(response, allocator);
+        final ByteBuf compact = compactSerializer.serializeResponseAsBinary(response, allocator);
+        assertTrue(compact.readableBytes() < standard.readableBytes() * 3 / 4);
+
+        final ResponseMessage deserialized = compactSerializer.deserializeResponse(compact);
+        assertCommon(deserialized);
+        assertEquals(valueMaps, deserialized.getResult().getData());
+    }
+
     private void assertCommon(final ResponseMessage response) {
         assertEquals(requestId, response.getRequestId());
         assertEquals(ResponseStatusCode.SUCCESS, response.getStatus().getCode());
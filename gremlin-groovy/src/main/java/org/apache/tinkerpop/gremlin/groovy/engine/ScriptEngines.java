@@ -288,6 +288,13 @@ public class ScriptEngines implements AutoCloseable {
         }
     }
 
+    /**
+     * Gets the {@code ScriptEngine} configured for the specified language.
+     */
+    public Optional<GremlinScriptEngine> getScriptEngine(final String language) {
+        return Optional.ofNullable(scriptEngines.get(language));
+    }
+
     /**
      * List dependencies for those {@code ScriptEngine} objects that implement the {@link DependencyManager} interface.
      */
@@ -18,6 +18,10 @@
  */
 package org.apache.tinkerpop.gremlin.groovy.jsr223;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 import groovy.grape.Grape;
 import groovy.lang.Binding;
 import groovy.lang.Closure;
@@ -27,13 +31,19 @@ import groovy.lang.MissingMethodException;
 import groovy.lang.MissingPropertyException;
 import groovy.lang.Script;
 import groovy.lang.Tuple;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.DefaultImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.EmptyImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.ImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.NoImportCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ClassCacheCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompilationExecutorCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompileStaticCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ConfigurationCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.InterpreterModeCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ScriptNormalizationCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.TypeCheckedCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.loaders.GremlinLoader;
 import org.apache.tinkerpop.gremlin.groovy.plugin.Artifact;
 import org.apache.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
@@ -56,6 +66,8 @@ import org.codehaus.groovy.runtime.MetaClassHelper;
 import org.codehaus.groovy.runtime.MethodClosure;
 import org.codehaus.groovy.syntax.SyntaxException;
 import org.codehaus.groovy.util.ReferenceBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.script.Bindings;
 import javax.script.CompiledScript;
@@ -75,8 +87,16 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -149,10 +169,42 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         }
     };
 
+    private static final Logger logger = LoggerFactory.getLogger(GremlinGroovyScriptEngine.class);
+
+    /**
+     * Script to generated Class cache which is bounded as configured by the {@link ClassCacheCustomizerProvider}.
+     */
+    private final Cache<String, Class> classMap;
+
+    /**
+     * Hits, misses and compilations are recorded by {@link #getScriptClass(String)} as compilations happen outside
+     * of the cache.
+     */
+    private final StatsCounter classCacheStats = new ConcurrentStatsCounter();
+
+    /**
+     * Script to pending compilation map so that concurrent requests for the same uncached script await the single
+     * compilation of the first request.
+     */
+    private final Map<String, CompletableFuture<Class>> compilations = new ConcurrentHashMap<>();
+
+    private final ClassCacheCustomizerProvider classCacheCustomizerProvider;
+
+    /**
+     * Compiles scripts on the dedicated threads configured by the {@link CompilationExecutorCustomizerProvider} and
+     * is {@code null} if scripts are compiled by the thread that requests them.
+     */
+    private final ThreadPoolExecutor compilationExecutor;
+
     /**
-     * Script to generated Class map.
+     * Lifts the literals of scripts into bindings as configured by the {@link ScriptNormalizationCustomizerProvider}
+     * and is {@code null} if scripts are compiled as they are given.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private final ScriptNormalizer scriptNormalizer;
+
+    private final AtomicLong normalizedScriptCount = new AtomicLong(0L);
+    private final AtomicLong liftedScriptCount = new AtomicLong(0L);
+    private final AtomicLong liftedLiteralCount = new AtomicLong(0L);
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -234,7 +286,13 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
 
         customizerProviders = Collections.emptyList();
 
+        classCacheCustomizerProvider = new ClassCacheCustomizerProvider();
+        classMap = createClassCache(classCacheCustomizerProvider, classCacheStats);
+        compilationExecutor = null;
+        scriptNormalizer = null;
+
         createClassLoader();
+        preloadScripts();
     }
 
     /**
@@ -254,13 +312,36 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         interpreterModeEnabled = providers.stream()
                 .anyMatch(p -> p.getClass().equals(InterpreterModeCustomizerProvider.class));
 
+        classCacheCustomizerProvider = providers.stream()
+                .filter(p -> p instanceof ClassCacheCustomizerProvider)
+                .map(p -> (ClassCacheCustomizerProvider) p)
+                .findFirst().orElseGet(ClassCacheCustomizerProvider::new);
+        classMap = createClassCache(classCacheCustomizerProvider, classCacheStats);
+
+        compilationExecutor = providers.stream()
+                .filter(p -> p instanceof CompilationExecutorCustomizerProvider)
+                .map(p -> createCompilationExecutor((CompilationExecutorCustomizerProvider) p))
+                .findFirst().orElse(null);
+
+        // a static type check does not convert a bound single character string to a char as it does a literal one
+        final boolean staticallyChecked = providers.stream()
+                .anyMatch(p -> p instanceof CompileStaticCustomizerProvider || p instanceof TypeCheckedCustomizerProvider);
+        scriptNormalizer = providers.stream()
+                .filter(p -> p instanceof ScriptNormalizationCustomizerProvider)
+                .map(p -> new ScriptNormalizer(((ScriptNormalizationCustomizerProvider) p).getMaximumSize(), !staticallyChecked))
+                .findFirst().orElse(null);
+
         // remove used providers as the rest will be applied directly
         customizerProviders = providers.stream()
                 .filter(p -> p != null &&
-                        !((p instanceof ImportCustomizerProvider)))
+                        !((p instanceof ImportCustomizerProvider)) &&
+                        !((p instanceof ClassCacheCustomizerProvider)) &&
+                        !((p instanceof CompilationExecutorCustomizerProvider)) &&
+                        !((p instanceof ScriptNormalizationCustomizerProvider)))
                 .collect(Collectors.toList());
 
         createClassLoader();
+        preloadScripts();
     }
 
     /**
@@ -383,6 +464,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
 
     @Override
     public void close() throws Exception {
+        if (compilationExecutor != null) compilationExecutor.shutdown();
     }
 
     /**
@@ -407,11 +489,14 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
 
         // must clear the local cache here because the the classloader has been reset.  therefore, classes previously
         // referenced before that might not have evaluated might cleanly evaluate now.
-        classMap.clear();
+        classMap.invalidateAll();
+        compilations.clear();
         globalClosures.clear();
 
         final Set<Artifact> toReuse = new HashSet<>(artifactsToUse);
         toReuse.forEach(this::use);
+
+        preloadScripts();
     }
 
     /**
@@ -443,10 +528,11 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         } catch (ClassCastException cce) { /*ignore.*/ }
 
         try {
-            registerBindingTypes(context);
-            final Class clazz = getScriptClass(script);
+            final ScriptNormalizer.NormalizedScript normalized = normalize(script);
+            registerBindingTypes(context, normalized.getLiterals());
+            final Class clazz = getScriptClass(normalized.getScript());
             if (null == clazz) throw new ScriptException("Script class is null");
-            return eval(clazz, context);
+            return eval(clazz, normalized.bindLiterals(context));
         } catch (SyntaxException e) {
             throw new ScriptException(e.getMessage(), e.getSourceLocator(), e.getLine());
         } catch (Exception e) {
@@ -526,16 +612,192 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
     }
 
     Class getScriptClass(final String script) throws SyntaxException, CompilationFailedException, IOException {
-        Class clazz = classMap.get(script);
-        if (clazz != null) return clazz;
+        // asMap() does not record statistics so that a request is counted once whichever path it takes
+        final Class cached = classMap.asMap().get(script);
+        if (cached != null) {
+            classCacheStats.recordHits(1);
+            return cached;
+        }
+
+        final CompletableFuture<Class> compilation = new CompletableFuture<>();
+        final CompletableFuture<Class> pending = compilations.putIfAbsent(script, compilation);
+        if (pending != null) {
+            classCacheStats.recordHits(1);
+            return awaitCompilation(pending);
+        }
 
-        clazz = loader.parseClass(script, generateScriptName());
-        classMap.put(script, clazz);
-        return clazz;
+        // another request may have completed its compilation between the two lookups
+        final Class compiled = classMap.asMap().get(script);
+        if (compiled != null) {
+            compilation.complete(compiled);
+            compilations.remove(script, compilation);
+            classCacheStats.recordHits(1);
+            return compiled;
+        }
+
+        classCacheStats.recordMisses(1);
+        final GremlinGroovyClassLoader compilingLoader = loader;
+        final Runnable compile = () -> {
+            final long start = System.nanoTime();
+            try {
+                final Class clazz = compilingLoader.parseClass(script, generateScriptName());
+                classCacheStats.recordLoadSuccess(System.nanoTime() - start);
+
+                // a reset while compiling replaces the class loader and the class is then stale
+                if (compilingLoader == loader) classMap.put(script, clazz);
+                compilation.complete(clazz);
+            } catch (Throwable t) {
+                classCacheStats.recordLoadFailure(System.nanoTime() - start);
+                compilation.completeExceptionally(t);
+            } finally {
+                compilations.remove(script, compilation);
+            }
+        };
+
+        if (null == compilationExecutor)
+            compile.run();
+        else {
+            // the sandbox extensions read the binding types from COMPILE_OPTIONS on the compiling thread, so they
+            // have to be handed over from the thread that registered them and removed once the class is parsed
+            final Map<String, ClassNode> variableTypes = copyVarTypes();
+            try {
+                compilationExecutor.execute(() -> {
+                    COMPILE_OPTIONS.get().put(COMPILE_OPTIONS_VAR_TYPES, variableTypes);
+                    try {
+                        compile.run();
+                    } finally {
+                        COMPILE_OPTIONS.get().remove(COMPILE_OPTIONS_VAR_TYPES);
+                    }
+                });
+            } catch (RejectedExecutionException ree) {
+                compilations.remove(script, compilation);
+                compilation.completeExceptionally(ree);
+            }
+        }
+
+        return awaitCompilation(compilation);
+    }
+
+    /**
+     * Normalizes the script if a {@link ScriptNormalizationCustomizerProvider} is configured and records how many
+     * literals were lifted out of it.
+     */
+    private ScriptNormalizer.NormalizedScript normalize(final String script) {
+        if (null == scriptNormalizer) return new ScriptNormalizer.NormalizedScript(script, Collections.emptyMap());
+
+        final ScriptNormalizer.NormalizedScript normalized = scriptNormalizer.normalize(script);
+        normalizedScriptCount.incrementAndGet();
+        if (!normalized.getLiterals().isEmpty()) {
+            liftedScriptCount.incrementAndGet();
+            liftedLiteralCount.addAndGet(normalized.getLiterals().size());
+        }
+        return normalized;
     }
 
     boolean isCached(final String script) {
-        return classMap.get(script) != null;
+        return classMap.asMap().containsKey(script);
+    }
+
+    /**
+     * Gets the number of scripts waiting for a thread of the {@link CompilationExecutorCustomizerProvider} to compile
+     * them which is always zero if that provider is not configured.
+     */
+    public int getCompilationBacklog() {
+        return null == compilationExecutor ? 0 : compilationExecutor.getQueue().size();
+    }
+
+    /**
+     * Gets the {@link ScriptNormalizer} that scripts are normalized with before they are compiled, which is only
+     * present if a {@link ScriptNormalizationCustomizerProvider} is configured.
+     */
+    public Optional<ScriptNormalizer> getScriptNormalizer() {
+        return Optional.ofNullable(scriptNormalizer);
+    }
+
+    /**
+     * Gets the number of evaluated scripts that went through the {@link ScriptNormalizationCustomizerProvider}
+     * normalization which is always zero if that provider is not configured.
+     */
+    public long getNormalizedScriptCount() {
+        return normalizedScriptCount.get();
+    }
+
+    /**
+     * Gets the number of evaluated scripts that had at least one literal lifted into a binding.
+     */
+    public long getLiftedScriptCount() {
+        return liftedScriptCount.get();
+    }
+
+    /**
+     * Gets the total number of literals lifted into bindings from evaluated scripts.
+     */
+    public long getLiftedLiteralCount() {
+        return liftedLiteralCount.get();
+    }
+
+    /**
+     * Gets the ratio of normalized scripts that had at least one literal lifted into a binding.
+     */
+    public double getLiftRate() {
+        final long normalized = normalizedScriptCount.get();
+        return 0 == normalized ? 0.0d : (double) liftedScriptCount.get() / normalized;
+    }
+
+    /**
+     * Gets the approximate number of compiled script classes in the cache.
+     */
+    public long getClassCacheEstimatedSize() {
+        return classMap.estimatedSize();
+    }
+
+    /**
+     * Gets the number of script evaluations that found their compiled class in the cache.
+     */
+    public long getClassCacheHitCount() {
+        return classMap.stats().hitCount();
+    }
+
+    /**
+     * Gets the number of script evaluations that had to compile their script.
+     */
+    public long getClassCacheMissCount() {
+        return classMap.stats().missCount();
+    }
+
+    /**
+     * Gets the ratio of script evaluations that found their compiled class in the cache.
+     */
+    public double getClassCacheHitRate() {
+        return classMap.stats().hitRate();
+    }
+
+    /**
+     * Gets the number of compiled script classes that were evicted from the cache because of its size limits.
+     */
+    public long getClassCacheEvictionCount() {
+        return classMap.stats().evictionCount();
+    }
+
+    /**
+     * Gets the number of scripts that failed to compile.
+     */
+    public long getClassCacheLoadFailureCount() {
+        return classMap.stats().loadFailureCount();
+    }
+
+    /**
+     * Gets the total time in nanoseconds spent compiling scripts.
+     */
+    public long getClassCacheTotalLoadTime() {
+        return classMap.stats().totalLoadTime();
+    }
+
+    /**
+     * Gets the average time in nanoseconds spent compiling a script.
+     */
+    public double getClassCacheAverageLoadPenalty() {
+        return classMap.stats().averageLoadPenalty();
     }
 
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
@@ -633,7 +895,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         }
     }
 
-    private void registerBindingTypes(final ScriptContext context) {
+    private void registerBindingTypes(final ScriptContext context, final Map<String, Object> literals) {
         final Map<String, ClassNode> variableTypes = new HashMap<>();
         clearVarTypes();
 
@@ -642,6 +904,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         // unknown and be "Object".  at least null is properly being accounted for now.
         context.getBindings(ScriptContext.ENGINE_SCOPE).forEach((k, v) ->
                 variableTypes.put(k, null == v ? null : ClassHelper.make(v.getClass())));
+        literals.forEach((k, v) -> variableTypes.put(k, ClassHelper.make(v.getClass())));
 
         COMPILE_OPTIONS.get().put(COMPILE_OPTIONS_VAR_TYPES, variableTypes);
     }
@@ -652,6 +915,11 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
             ((Map<String, ClassNode>) m.get(COMPILE_OPTIONS_VAR_TYPES)).clear();
     }
 
+    private static Map<String, ClassNode> copyVarTypes() {
+        final Map<String, ClassNode> variableTypes = (Map<String, ClassNode>) COMPILE_OPTIONS.get().get(COMPILE_OPTIONS_VAR_TYPES);
+        return null == variableTypes ? new HashMap<>() : new HashMap<>(variableTypes);
+    }
+
     private Object invokeImpl(final Object thiz, final String name, final Object args[]) throws ScriptException, NoSuchMethodException {
         if (name == null) {
             throw new NullPointerException("Method name can not be null");
@@ -668,6 +936,55 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl
         return callGlobal(name, args);
     }
 
+    private static Class awaitCompilation(final CompletableFuture<Class> compilation) {
+        try {
+            return compilation.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the script to compile", ie);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            else if (cause instanceof Error)
+                throw (Error) cause;
+            else
+                throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Cache<String, Class> createClassCache(final ClassCacheCustomizerProvider provider, final StatsCounter stats) {
+        final Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats(() -> stats);
+        if (provider.getMaximumWeight() > 0)
+            return builder.maximumWeight(provider.getMaximumWeight())
+                    .weigher((final String script, final Class clazz) -> script.length()).build();
+        else
+            return builder.maximumSize(provider.getMaximumSize()).build();
+    }
+
+    private static ThreadPoolExecutor createCompilationExecutor(final CompilationExecutorCustomizerProvider provider) {
+        final BasicThreadFactory threadFactory = new BasicThreadFactory.Builder()
+                .namingPattern("gremlin-compiler-%d").daemon(true).build();
+        return new ThreadPoolExecutor(provider.getThreads(), provider.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(provider.getMaxBacklog()), threadFactory,
+                provider.isRejectOnBacklog() ? new ThreadPoolExecutor.AbortPolicy() : (r, executor) -> r.run());
+    }
+
+    /**
+     * Compiles the scripts configured on the {@link ClassCacheCustomizerProvider} into the class cache. Scripts may
+     * legitimately fail to compile while imports and plugins are still being applied to the engine, so failures are
+     * only logged as the scripts are compiled again on the next reset of the class loader.
+     */
+    private void preloadScripts() {
+        for (final String script : classCacheCustomizerProvider.getPreloadScripts()) {
+            try {
+                getScriptClass(null == scriptNormalizer ? script : scriptNormalizer.normalize(script).getScript());
+            } catch (Exception ex) {
+                logger.debug("Could not preload script [{}] into the class cache - {}", script, ex.getMessage());
+            }
+        }
+    }
+
     private synchronized void createClassLoader() {
         final CompilerConfiguration conf = new CompilerConfiguration();
         conf.addCompilationCustomizers(this.importCustomizerProvider.create());
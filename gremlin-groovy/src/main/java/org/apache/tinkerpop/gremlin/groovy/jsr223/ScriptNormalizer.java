@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.ast.CodeVisitorSupport;
+import org.codehaus.groovy.ast.expr.AttributeExpression;
+import org.codehaus.groovy.ast.expr.ClosureExpression;
+import org.codehaus.groovy.ast.expr.ConstantExpression;
+import org.codehaus.groovy.ast.expr.DeclarationExpression;
+import org.codehaus.groovy.ast.expr.GStringExpression;
+import org.codehaus.groovy.ast.expr.MapEntryExpression;
+import org.codehaus.groovy.ast.expr.MethodCallExpression;
+import org.codehaus.groovy.ast.expr.MethodPointerExpression;
+import org.codehaus.groovy.ast.expr.PropertyExpression;
+import org.codehaus.groovy.ast.stmt.CaseStatement;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.ErrorCollector;
+import org.codehaus.groovy.control.SourceUnit;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Lifts the numeric and string literals of a script into bindings, so that scripts which only differ in their
+ * literals normalize to the same script and thus share a single compiled class. The script is parsed into its AST and
+ * only literals of the top-level statements of the script are lifted. Literals in closures, methods and classes that
+ * are declared by the script, in annotations, in {@code case} labels and in map keys or member names keep their
+ * meaning only as literals (or may be evaluated without the bindings of the script) and are therefore left in place.
+ * A literal is also left in place if its position in the AST does not exactly cover its source text. Scripts that do
+ * not parse are returned unchanged so that their compilation reports the error.
+ * <p/>
+ * A lifted literal is bound with the type of its value, so a single character string such as {@code 'a'} is bound as
+ * a {@code String}. Groovy only converts such a string to a {@code char} when it is a constant, which is why
+ * statically compiled or type checked scripts need a normalizer that leaves single character strings in place.
+ * <p/>
+ * The {@link GremlinGroovyScriptEngine} compiles and caches the classes of the normalized scripts when it is
+ * configured with a {@link org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ScriptNormalizationCustomizerProvider}.
+ * Others, such as Gremlin Server, may use the same normalizer to group scripts by their normalized form.
+ */
+public final class ScriptNormalizer {
+
+    /**
+     * Prefix of the names of the bindings that hold lifted literals, followed by the index of the literal in the
+     * script.
+     */
+    public static final String LITERAL_VARNAME_PREFIX = "gremlin_script_engine_literal_";
+
+    private static final Pattern NUMBER = Pattern.compile(
+            "-?(0[xX][0-9a-fA-F_]+|0[bB][01_]+|[0-9][0-9_]*(\\.[0-9][0-9_]*)?([eE][+-]?[0-9]+)?)[lLiIgGdDfF]?");
+
+    private static final int ANTLR_TAB_SIZE = 8;
+
+    private static final CompilerConfiguration PARSER_CONFIGURATION = new CompilerConfiguration();
+
+    private final Cache<String, NormalizedScript> normalizedScripts;
+    private final boolean liftCharacters;
+
+    private final GroovyClassLoader parserLoader = new GroovyClassLoader(
+            ScriptNormalizer.class.getClassLoader(), PARSER_CONFIGURATION);
+
+    /**
+     * Creates a normalizer which caches the normalized form of at most {@code maximumSize} scripts.
+     */
+    public ScriptNormalizer(final long maximumSize) {
+        this(maximumSize, true);
+    }
+
+    /**
+     * Creates a normalizer which caches the normalized form of at most {@code maximumSize} scripts and which only
+     * lifts single character strings if {@code liftCharacters} is {@code true}.
+     */
+    public ScriptNormalizer(final long maximumSize, final boolean liftCharacters) {
+        normalizedScripts = Caffeine.newBuilder().maximumSize(maximumSize).build();
+        this.liftCharacters = liftCharacters;
+    }
+
+    /**
+     * Gets the normalized form of the script which is the script itself with no literals if nothing could be lifted.
+     */
+    public NormalizedScript normalize(final String script) {
+        final NormalizedScript cached = normalizedScripts.getIfPresent(script);
+        if (cached != null) return cached;
+
+        // parsing within get() would hold the lock of the cache entry and block other scripts that hash alongside it,
+        // so two requests for a new script may both parse it and the first one to finish is kept
+        final NormalizedScript normalized = liftLiterals(script);
+        final NormalizedScript previous = normalizedScripts.asMap().putIfAbsent(script, normalized);
+        return null == previous ? normalized : previous;
+    }
+
+    private NormalizedScript liftLiterals(final String script) {
+        final List<ConstantExpression> constants;
+        try {
+            final SourceUnit sourceUnit = new SourceUnit("normalizer", script, PARSER_CONFIGURATION, parserLoader,
+                    new ErrorCollector(PARSER_CONFIGURATION));
+            sourceUnit.parse();
+            sourceUnit.completePhase();
+            sourceUnit.convert();
+
+            final LiteralCollector collector = new LiteralCollector(liftCharacters);
+            sourceUnit.getAST().getStatementBlock().visit(collector);
+            constants = collector.constants;
+        } catch (Exception ex) {
+            return new NormalizedScript(script, Collections.emptyMap());
+        }
+
+        if (constants.isEmpty()) return new NormalizedScript(script, Collections.emptyMap());
+
+        final int[] lineStarts = lineStarts(script);
+        final List<int[]> ranges = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        for (ConstantExpression constant : constants) {
+            final int[] range = sourceRange(script, lineStarts, constant);
+            if (range != null) {
+                ranges.add(new int[]{range[0], range[1], values.size()});
+                values.add(constant.getValue());
+            }
+        }
+
+        ranges.sort(Comparator.comparingInt(r -> r[0]));
+        final StringBuilder normalized = new StringBuilder(script.length());
+        final Map<String, Object> literals = new LinkedHashMap<>();
+        int position = 0;
+        for (int[] range : ranges) {
+            // overlapping positions mean that the AST is not what was expected and the literal is better left alone
+            if (range[0] < position) continue;
+
+            final String name = LITERAL_VARNAME_PREFIX + literals.size();
+            normalized.append(script, position, range[0]).append(name);
+            literals.put(name, values.get(range[2]));
+            position = range[1];
+        }
+
+        if (literals.isEmpty()) return new NormalizedScript(script, Collections.emptyMap());
+
+        normalized.append(script, position, script.length());
+        return new NormalizedScript(normalized.toString(), Collections.unmodifiableMap(literals));
+    }
+
+    /**
+     * Finds the start and end offset of the constant in the script. The parser counts columns with tab stops, so the
+     * columns are first read as plain character offsets and then as expanded tabs. A range is only returned if its
+     * text is the literal of the constant.
+     */
+    private static int[] sourceRange(final String script, final int[] lineStarts, final ConstantExpression constant) {
+        if (constant.getLineNumber() < 1 || constant.getLastLineNumber() < constant.getLineNumber() ||
+                constant.getLastLineNumber() > lineStarts.length)
+            return null;
+
+        for (int tabSize : new int[]{1, ANTLR_TAB_SIZE}) {
+            final int start = offset(script, lineStarts, constant.getLineNumber(), constant.getColumnNumber(), tabSize);
+            final int end = offset(script, lineStarts, constant.getLastLineNumber(), constant.getLastColumnNumber(), tabSize);
+            if (start >= 0 && end > start && isLiteral(script.substring(start, end), constant.getValue()))
+                return new int[]{start, end};
+        }
+
+        return null;
+    }
+
+    private static int offset(final String script, final int[] lineStarts, final int line, final int column, final int tabSize) {
+        final int lineStart = lineStarts[line - 1];
+        final int lineEnd = line < lineStarts.length ? lineStarts[line] : script.length();
+        int current = 1;
+        for (int ix = lineStart; ix <= lineEnd; ix++) {
+            if (current == column) return ix;
+            if (current > column || ix == lineEnd) return -1;
+            current = script.charAt(ix) == '\t' ? ((current - 1) / tabSize + 1) * tabSize + 1 : current + 1;
+        }
+        return -1;
+    }
+
+    private static int[] lineStarts(final String script) {
+        final List<Integer> starts = new ArrayList<>();
+        starts.add(0);
+        for (int ix = 0; ix < script.length(); ix++) {
+            final char c = script.charAt(ix);
+            if (c == '\n' || (c == '\r' && (ix + 1 == script.length() || script.charAt(ix + 1) != '\n')))
+                starts.add(ix + 1);
+        }
+        return starts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isLiteral(final String text, final Object value) {
+        if (value instanceof Number)
+            return NUMBER.matcher(text).matches();
+
+        for (String quote : new String[]{"'''", "\"\"\"", "'", "\""}) {
+            if (text.length() >= quote.length() * 2 && text.startsWith(quote) && text.endsWith(quote))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Collects the numeric and string constants that can be replaced by a variable without changing the meaning of
+     * the script.
+     */
+    private static class LiteralCollector extends CodeVisitorSupport {
+        private final List<ConstantExpression> constants = new ArrayList<>();
+        private final boolean liftCharacters;
+
+        private LiteralCollector(final boolean liftCharacters) {
+            this.liftCharacters = liftCharacters;
+        }
+
+        @Override
+        public void visitConstantExpression(final ConstantExpression expression) {
+            final Object value = expression.getValue();
+            if (value instanceof Number || (value instanceof String && (liftCharacters || ((String) value).length() != 1)))
+                constants.add(expression);
+        }
+
+        @Override
+        public void visitClosureExpression(final ClosureExpression expression) {
+            // closures may be serialized or evaluated away from the bindings of the script
+        }
+
+        @Override
+        public void visitGStringExpression(final GStringExpression expression) {
+            // the constant parts of a GString are not literals of their own
+        }
+
+        @Override
+        public void visitMethodCallExpression(final MethodCallExpression call) {
+            call.getObjectExpression().visit(this);
+            call.getArguments().visit(this);
+        }
+
+        @Override
+        public void visitPropertyExpression(final PropertyExpression expression) {
+            expression.getObjectExpression().visit(this);
+        }
+
+        @Override
+        public void visitAttributeExpression(final AttributeExpression expression) {
+            expression.getObjectExpression().visit(this);
+        }
+
+        @Override
+        public void visitMethodPointerExpression(final MethodPointerExpression expression) {
+            expression.getExpression().visit(this);
+        }
+
+        @Override
+        public void visitMapEntryExpression(final MapEntryExpression expression) {
+            expression.getValueExpression().visit(this);
+        }
+
+        @Override
+        public void visitDeclarationExpression(final DeclarationExpression expression) {
+            // annotated declarations such as @Field are initialized outside of the statements of the script
+            if (expression.getAnnotations().isEmpty())
+                super.visitDeclarationExpression(expression);
+        }
+
+        @Override
+        public void visitCaseStatement(final CaseStatement statement) {
+            statement.getCode().visit(this);
+        }
+    }
+
+    /**
+     * A script with its literals replaced by variables and the values of those variables.
+     */
+    public static final class NormalizedScript {
+        private final String script;
+        private final Map<String, Object> literals;
+
+        NormalizedScript(final String script, final Map<String, Object> literals) {
+            this.script = script;
+            this.literals = literals;
+        }
+
+        public String getScript() {
+            return script;
+        }
+
+        public Map<String, Object> getLiterals() {
+            return literals;
+        }
+
+        /**
+         * Gets a context which resolves the lifted literals and otherwise reads and writes the given context, so that
+         * the literals never become bindings of the caller (e.g. of a session).
+         */
+        ScriptContext bindLiterals(final ScriptContext context) {
+            return literals.isEmpty() ? context : new LiteralScriptContext(context, literals);
+        }
+    }
+
+    private static final class LiteralScriptContext implements ScriptContext {
+        private final ScriptContext context;
+        private final Map<String, Object> literals;
+
+        private LiteralScriptContext(final ScriptContext context, final Map<String, Object> literals) {
+            this.context = context;
+            this.literals = literals;
+        }
+
+        @Override
+        public void setBindings(final Bindings bindings, final int scope) {
+            context.setBindings(bindings, scope);
+        }
+
+        @Override
+        public Bindings getBindings(final int scope) {
+            return context.getBindings(scope);
+        }
+
+        @Override
+        public void setAttribute(final String name, final Object value, final int scope) {
+            context.setAttribute(name, value, scope);
+        }
+
+        @Override
+        public Object getAttribute(final String name, final int scope) {
+            return scope == ENGINE_SCOPE && literals.containsKey(name) ? literals.get(name) : context.getAttribute(name, scope);
+        }
+
+        @Override
+        public Object removeAttribute(final String name, final int scope) {
+            return context.removeAttribute(name, scope);
+        }
+
+        @Override
+        public Object getAttribute(final String name) {
+            return literals.containsKey(name) ? literals.get(name) : context.getAttribute(name);
+        }
+
+        @Override
+        public int getAttributesScope(final String name) {
+            return literals.containsKey(name) ? ENGINE_SCOPE : context.getAttributesScope(name);
+        }
+
+        @Override
+        public Writer getWriter() {
+            return context.getWriter();
+        }
+
+        @Override
+        public Writer getErrorWriter() {
+            return context.getErrorWriter();
+        }
+
+        @Override
+        public void setWriter(final Writer writer) {
+            context.setWriter(writer);
+        }
+
+        @Override
+        public void setErrorWriter(final Writer writer) {
+            context.setErrorWriter(writer);
+        }
+
+        @Override
+        public Reader getReader() {
+            return context.getReader();
+        }
+
+        @Override
+        public void setReader(final Reader reader) {
+            context.setReader(reader);
+        }
+
+        @Override
+        public List<Integer> getScopes() {
+            return context.getScopes();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223.customizer;
+
+import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configures the cache of compiled script classes of the
+ * {@link org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine}. The cache holds at most
+ * {@code maximumSize} classes or, if a {@code maximumWeight} greater than zero is given, classes of scripts with at
+ * most {@code maximumWeight} characters in total. The provided scripts are compiled into the cache whenever the
+ * engine (re)initializes its class loader, so that they are not compiled on their first request.
+ */
+public class ClassCacheCustomizerProvider implements CompilerCustomizerProvider {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final List<String> preloadScripts;
+
+    public ClassCacheCustomizerProvider() {
+        this(DEFAULT_MAXIMUM_SIZE, 0, Collections.emptyList());
+    }
+
+    public ClassCacheCustomizerProvider(final Integer maximumSize) {
+        this(maximumSize.longValue(), 0, Collections.emptyList());
+    }
+
+    public ClassCacheCustomizerProvider(final Integer maximumSize, final Integer maximumWeight) {
+        this(maximumSize.longValue(), maximumWeight.longValue(), Collections.emptyList());
+    }
+
+    public ClassCacheCustomizerProvider(final Integer maximumSize, final Integer maximumWeight, final List<String> preloadScripts) {
+        this(maximumSize.longValue(), maximumWeight.longValue(), preloadScripts);
+    }
+
+    public ClassCacheCustomizerProvider(final long maximumSize, final long maximumWeight, final List<String> preloadScripts) {
+        if (maximumSize <= 0 && maximumWeight <= 0)
+            throw new IllegalArgumentException("Either the maximumSize or the maximumWeight of the class cache must be greater than zero");
+
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.preloadScripts = Collections.unmodifiableList(preloadScripts);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public List<String> getPreloadScripts() {
+        return preloadScripts;
+    }
+
+    @Override
+    public CompilationCustomizer create() {
+        throw new UnsupportedOperationException("This is a marker implementation that does not create a CompilationCustomizer instance");
+    }
+}
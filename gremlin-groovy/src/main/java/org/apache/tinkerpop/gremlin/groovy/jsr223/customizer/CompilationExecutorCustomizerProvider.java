@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223.customizer;
+
+import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+
+/**
+ * Moves the compilation of scripts in the {@link org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine}
+ * to a dedicated pool of {@code threads}. Compilations wait in a queue of at most {@code maxBacklog} scripts. When
+ * that queue is full, the compilation is either rejected with a {@code RejectedExecutionException} (if
+ * {@code rejectOnBacklog} is {@code true}) or performed by the thread that requested it. Without this provider,
+ * scripts are compiled by the thread that evaluates them. In both cases, concurrent requests for the same script
+ * share a single compilation.
+ */
+public class CompilationExecutorCustomizerProvider implements CompilerCustomizerProvider {
+    public static final int DEFAULT_MAX_BACKLOG = 256;
+
+    private final int threads;
+    private final int maxBacklog;
+    private final boolean rejectOnBacklog;
+
+    public CompilationExecutorCustomizerProvider() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CompilationExecutorCustomizerProvider(final Integer threads) {
+        this(threads, DEFAULT_MAX_BACKLOG);
+    }
+
+    public CompilationExecutorCustomizerProvider(final Integer threads, final Integer maxBacklog) {
+        this(threads, maxBacklog, false);
+    }
+
+    public CompilationExecutorCustomizerProvider(final Integer threads, final Integer maxBacklog, final Boolean rejectOnBacklog) {
+        if (threads <= 0)
+            throw new IllegalArgumentException("The number of compilation threads must be greater than zero");
+        if (maxBacklog <= 0)
+            throw new IllegalArgumentException("The maximum compilation backlog must be greater than zero");
+
+        this.threads = threads;
+        this.maxBacklog = maxBacklog;
+        this.rejectOnBacklog = rejectOnBacklog;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    public boolean isRejectOnBacklog() {
+        return rejectOnBacklog;
+    }
+
+    @Override
+    public CompilationCustomizer create() {
+        throw new UnsupportedOperationException("This is a marker implementation that does not create a CompilationCustomizer instance");
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223.customizer;
+
+import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
+
+/**
+ * Enables the normalization of scripts in the {@link org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine}
+ * which lifts the numeric and string literals of a script into generated bindings before it is compiled, so that
+ * scripts which only differ in their literals (e.g. {@code g.V().has('id', 1)} and {@code g.V().has('id', 2)}) share
+ * a single compiled class. The normalized form of at most {@code maximumSize} scripts is cached so that a script
+ * that is sent repeatedly is only parsed for normalization once.
+ */
+public class ScriptNormalizationCustomizerProvider implements CompilerCustomizerProvider {
+    public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final long maximumSize;
+
+    public ScriptNormalizationCustomizerProvider() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public ScriptNormalizationCustomizerProvider(final Integer maximumSize) {
+        this(maximumSize.longValue());
+    }
+
+    public ScriptNormalizationCustomizerProvider(final long maximumSize) {
+        if (maximumSize < 0)
+            throw new IllegalArgumentException("The maximumSize of the normalized script cache must not be negative");
+
+        this.maximumSize = maximumSize;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    @Override
+    public CompilationCustomizer create() {
+        throw new UnsupportedOperationException("This is a marker implementation that does not create a CompilationCustomizer instance");
+    }
+}
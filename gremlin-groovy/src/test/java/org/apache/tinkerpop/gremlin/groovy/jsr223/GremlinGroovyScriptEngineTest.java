@@ -24,9 +24,17 @@ import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.tinkerpop.gremlin.groovy.CompilerCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.NoImportCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ClassCacheCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompilationExecutorCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.InterpreterModeCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ScriptNormalizationCustomizerProvider;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.classgen.GeneratorContext;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
 import org.javatuples.Pair;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -47,7 +55,9 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -86,6 +96,149 @@ public class GremlinGroovyScriptEngineTest {
         assertFalse(engine.isCached(script));
     }
 
+    @Test
+    public void shouldRecordClassCacheStatistics() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+        assertEquals(3, engine.eval("1+2"));
+        assertEquals(3, engine.eval("1+2"));
+        assertEquals(1, engine.getClassCacheMissCount());
+        assertEquals(1, engine.getClassCacheHitCount());
+        assertThat(engine.getClassCacheTotalLoadTime(), greaterThan(0L));
+
+        try {
+            engine.eval("1+");
+            fail("The script should not compile");
+        } catch (ScriptException ignored) {
+        }
+
+        assertEquals(1, engine.getClassCacheLoadFailureCount());
+    }
+
+    @Test
+    public void shouldBoundClassCache() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new ClassCacheCustomizerProvider(10));
+        for (int ix = 0; ix < 100; ix++) {
+            assertEquals(ix, engine.eval(Integer.toString(ix)));
+        }
+
+        // eviction happens asynchronously to the evaluation
+        final long timeout = System.currentTimeMillis() + 10000;
+        while (engine.getClassCacheEstimatedSize() > 10 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+
+        assertThat(engine.getClassCacheEstimatedSize() <= 10, is(true));
+        assertThat(engine.getClassCacheEvictionCount(), greaterThan(0L));
+    }
+
+    @Test
+    public void shouldPreloadClassCache() throws Exception {
+        final String script = "g.V(x).out()";
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(
+                new ClassCacheCustomizerProvider(10, 0, Collections.singletonList(script)));
+        assertTrue(engine.isCached(script));
+
+        engine.reset();
+
+        assertTrue(engine.isCached(script));
+    }
+
+    @Test
+    public void shouldShareClassOfScriptsThatOnlyDifferInLiterals() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new ScriptNormalizationCustomizerProvider());
+        final Bindings b = new SimpleBindings();
+        b.put("x", 10);
+        assertEquals(13, engine.eval("x + 1 + 2", b));
+        assertEquals(17, engine.eval("x + 3 + 4", b));
+        assertEquals("x10", engine.eval("'x' + x", b));
+        assertEquals(2L, engine.eval("-1L + 3", b));
+
+        assertTrue(engine.isCached("x + gremlin_script_engine_literal_0 + gremlin_script_engine_literal_1"));
+        assertEquals(3, engine.getClassCacheMissCount());
+        assertEquals(1, engine.getClassCacheHitCount());
+
+        // lifted literals never become bindings of the caller
+        assertEquals(1, b.size());
+        assertEquals(4, engine.getLiftedScriptCount());
+        assertEquals(7, engine.getLiftedLiteralCount());
+        assertEquals(1.0d, engine.getLiftRate(), 0.0001d);
+    }
+
+    @Test
+    public void shouldNotLiftLiteralsThatAreNotValues() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new ScriptNormalizationCustomizerProvider());
+        assertEquals(Arrays.asList(10, 20), engine.eval("[1, 2].collect{it * 10}"));
+        assertEquals(1, engine.eval("['a':1].'a'"));
+        assertEquals("two", engine.eval("switch (2) { case 1: 'one'; break; case 2: 'two'; break }"));
+        assertEquals("x3", engine.eval("def y = 3; \"x${y}\""));
+        assertEquals(6, engine.eval("def f(a) { a * 3 }; f(2)"));
+        assertEquals("inner", engine.eval("def g() { 'inner' }; g()"));
+
+        assertTrue(engine.isCached("def g() { 'inner' }; g()"));
+        assertEquals(6, engine.getNormalizedScriptCount());
+        assertEquals(5, engine.getLiftedScriptCount());
+    }
+
+    @Test
+    public void shouldCompileConcurrentRequestsForTheSameScriptOnce() throws Exception {
+        final CountDownLatch compiling = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(
+                (CompilerCustomizerProvider) () -> new BlockingCompilationCustomizer(compiling, release, new AtomicReference<>()));
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        final List<Future<Object>> results = new ArrayList<>();
+        IntStream.range(0, 8).forEach(ix -> results.add(service.submit(() -> engine.eval("1+2"))));
+
+        assertTrue(compiling.await(10, TimeUnit.SECONDS));
+        release.countDown();
+        for (Future<Object> result : results) {
+            assertEquals(3, result.get(10, TimeUnit.SECONDS));
+        }
+
+        service.shutdown();
+        assertEquals(1, engine.getClassCacheMissCount());
+        assertEquals(7, engine.getClassCacheHitCount());
+    }
+
+    @Test
+    public void shouldCompileOnCompilationExecutorAndRejectOnBacklog() throws Exception {
+        final CountDownLatch compiling = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<String> compilingThread = new AtomicReference<>();
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(
+                new CompilationExecutorCustomizerProvider(1, 1, true),
+                (CompilerCustomizerProvider) () -> new BlockingCompilationCustomizer(compiling, release, compilingThread));
+        final ExecutorService service = Executors.newFixedThreadPool(2);
+        final Future<Object> first = service.submit(() -> engine.eval("1+2"));
+        assertTrue(compiling.await(10, TimeUnit.SECONDS));
+        final Future<Object> second = service.submit(() -> engine.eval("2+3"));
+
+        // the single compilation thread is busy and the other script fills the backlog
+        final long timeout = System.currentTimeMillis() + 10000;
+        while (engine.getCompilationBacklog() < 1 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, engine.getCompilationBacklog());
+
+        try {
+            engine.eval("3+4");
+            fail("The compilation should have been rejected as the backlog is full");
+        } catch (ScriptException ex) {
+            assertThat(ExceptionUtils.getRootCause(ex), instanceOf(RejectedExecutionException.class));
+        }
+
+        release.countDown();
+        assertEquals(3, first.get(10, TimeUnit.SECONDS));
+        assertEquals(5, second.get(10, TimeUnit.SECONDS));
+        assertThat(compilingThread.get().startsWith("gremlin-compiler-"), is(true));
+
+        // rejected compilations are not cached
+        assertEquals(7, engine.eval("3+4"));
+
+        service.shutdown();
+        engine.close();
+    }
+
     @Test
     public void shouldEvalWithNoBindings() throws Exception {
         final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
@@ -426,4 +579,32 @@ public class GremlinGroovyScriptEngineTest {
             assertEquals(t.getValue0() * -1, t.getValue1().get(2).intValue());
         });
     }
+
+    /**
+     * Holds the compilation of the first script until it is released.
+     */
+    private static class BlockingCompilationCustomizer extends CompilationCustomizer {
+        private final CountDownLatch compiling;
+        private final CountDownLatch release;
+        private final AtomicReference<String> compilingThread;
+
+        BlockingCompilationCustomizer(final CountDownLatch compiling, final CountDownLatch release,
+                                      final AtomicReference<String> compilingThread) {
+            super(CompilePhase.CONVERSION);
+            this.compiling = compiling;
+            this.release = release;
+            this.compilingThread = compilingThread;
+        }
+
+        @Override
+        public void call(final SourceUnit source, final GeneratorContext context, final ClassNode classNode) {
+            compilingThread.compareAndSet(null, Thread.currentThread().getName());
+            compiling.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ie) {
+                throw new RuntimeException(ie);
+            }
+        }
+    }
 }
\ No newline at end of file
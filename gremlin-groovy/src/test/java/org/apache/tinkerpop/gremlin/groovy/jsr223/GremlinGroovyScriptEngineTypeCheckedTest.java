@@ -19,11 +19,15 @@
 package org.apache.tinkerpop.gremlin.groovy.jsr223;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompilationExecutorCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.CompileStaticCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.ScriptNormalizationCustomizerProvider;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.SimpleSandboxExtension;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.TypeCheckedCustomizerProvider;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.junit.Test;
 
+import javax.script.Bindings;
 import javax.script.ScriptException;
 
 import static org.hamcrest.Matchers.containsString;
@@ -100,4 +104,29 @@ public class GremlinGroovyScriptEngineTypeCheckedTest {
             assertThat(se.getMessage(), containsString("Method call is not allowed!"));
         }
     }
+
+    @Test
+    public void shouldTypeCheckBoundVariablesOnCompilationThread() throws Exception {
+        final TypeCheckedCustomizerProvider provider = new TypeCheckedCustomizerProvider(SimpleSandboxExtension.class.getName());
+        try (GremlinGroovyScriptEngine scriptEngine = new GremlinGroovyScriptEngine(
+                new CompilationExecutorCustomizerProvider(1), provider)) {
+            final Bindings bindings = scriptEngine.createBindings();
+            bindings.put("x", 1);
+            assertEquals(2, scriptEngine.eval("x.intValue() + 1", bindings));
+
+            bindings.put("s", "marko");
+            assertEquals(5, scriptEngine.eval("s.length()", bindings));
+        }
+    }
+
+    @Test
+    public void shouldNotLiftCharactersOfTypeCheckedScripts() throws Exception {
+        final TypeCheckedCustomizerProvider provider = new TypeCheckedCustomizerProvider(SimpleSandboxExtension.class.getName());
+        try (GremlinGroovyScriptEngine scriptEngine = new GremlinGroovyScriptEngine(
+                new ScriptNormalizationCustomizerProvider(), provider)) {
+            assertEquals(Character.valueOf('a'), scriptEngine.eval("char c = 'a'; c"));
+            assertEquals(2, scriptEngine.eval("def s = 'ab'; s.length()"));
+            assertEquals(1, scriptEngine.getLiftedLiteralCount());
+        }
+    }
 }
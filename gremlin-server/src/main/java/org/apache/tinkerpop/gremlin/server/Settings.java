@@ -199,6 +199,18 @@ public class Settings {
      */
     public SslSettings ssl = null;
 
+    /**
+     * Configures classes of requests that are scheduled on the Gremlin thread pool with separate queues, weights and
+     * concurrency limits. When not specified, all requests share a single queue of the Gremlin thread pool.
+     */
+    public SchedulerSettings scheduler = null;
+
+    /**
+     * Configures the accounting of the cost of each script and traversal request along with a log of slow requests.
+     * When not specified, no per-request costs are measured.
+     */
+    public RequestAccountingSettings requestAccounting = null;
+
     public AuthenticationSettings authentication = new AuthenticationSettings();
 
     /**
@@ -221,6 +233,14 @@ public class Settings {
         return Optional.ofNullable(ssl);
     }
 
+    public Optional<SchedulerSettings> optionalScheduler() {
+        return Optional.ofNullable(scheduler);
+    }
+
+    public Optional<RequestAccountingSettings> optionalRequestAccounting() {
+        return Optional.ofNullable(requestAccounting);
+    }
+
     /**
      * Read configuration from a file into a new {@link Settings} object.
      *
@@ -267,6 +287,20 @@ public class Settings {
         final TypeDescription authenticationSettings = new TypeDescription(AuthenticationSettings.class);
         constructor.addTypeDescription(authenticationSettings);
 
+        final TypeDescription schedulerSettingsDescription = new TypeDescription(SchedulerSettings.class);
+        schedulerSettingsDescription.putListPropertyType("requestClasses", RequestClassSettings.class);
+        constructor.addTypeDescription(schedulerSettingsDescription);
+
+        final TypeDescription requestClassSettingsDescription = new TypeDescription(RequestClassSettings.class);
+        requestClassSettingsDescription.putListPropertyType("aliases", String.class);
+        requestClassSettingsDescription.putListPropertyType("users", String.class);
+        requestClassSettingsDescription.putListPropertyType("processors", String.class);
+        requestClassSettingsDescription.putMapPropertyType("args", String.class, String.class);
+        constructor.addTypeDescription(requestClassSettingsDescription);
+
+        final TypeDescription requestAccountingSettingsDescription = new TypeDescription(RequestAccountingSettings.class);
+        constructor.addTypeDescription(requestAccountingSettingsDescription);
+
         final TypeDescription serverMetricsDescription = new TypeDescription(ServerMetrics.class);
         constructor.addTypeDescription(serverMetricsDescription);
 
@@ -382,6 +416,103 @@ public class Settings {
         public Map<String, Object> config = null;
     }
 
+    /**
+     * Settings for the accounting of the cost of requests.
+     */
+    public static class RequestAccountingSettings {
+        /**
+         * Time in milliseconds from the start of the evaluation of a request to the end of the iteration of its
+         * results, beyond which the request is written to the slow query log along with its costs. Defaults to 0
+         * which disables the slow query log.
+         */
+        public long slowQueryThreshold = 0;
+
+        /**
+         * The number of query shapes, which are scripts or traversals with their literals removed, that are reported
+         * as the top offenders by the total thread CPU time of their requests.
+         */
+        public int topQueryShapes = 10;
+
+        /**
+         * The maximum number of query shapes whose costs are aggregated, beyond which the least recently used shapes
+         * are evicted.
+         */
+        public long maxQueryShapes = 1000;
+    }
+
+    /**
+     * Settings for the scheduling of requests on the Gremlin thread pool.
+     */
+    public static class SchedulerSettings {
+        /**
+         * Time in milliseconds that a request may wait in the queue of its class. Once the oldest request of a class
+         * has waited longer than this, new requests of that class are rejected with
+         * {@link org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode#SERVER_ERROR_TEMPORARY} until the
+         * queue catches up. Defaults to 0 which disables this load shedding.
+         */
+        public long targetQueueTime = 0;
+
+        /**
+         * The class of requests that do not match any of the {@link #requestClasses}.
+         */
+        public RequestClassSettings defaultRequestClass = new RequestClassSettings();
+
+        /**
+         * The classes of requests in the order in which requests are matched against them.
+         */
+        public List<RequestClassSettings> requestClasses = new ArrayList<>();
+    }
+
+    /**
+     * Settings for a class of requests. A request belongs to the first class for which it matches all of the
+     * criteria that are specified, where a request matches a list if it contains the value of the request.
+     */
+    public static class RequestClassSettings {
+        /**
+         * The name of the class which is used in metrics.
+         */
+        public String name = "default";
+
+        /**
+         * The share of the Gremlin thread pool for this class relative to the weights of the other classes when
+         * requests of multiple classes are waiting.
+         */
+        public int weight = 1;
+
+        /**
+         * The maximum number of requests of this class that may wait to be executed. Further requests are rejected
+         * with {@link org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode#SERVER_ERROR_TEMPORARY}.
+         */
+        public int maxQueueSize = 1024;
+
+        /**
+         * The maximum number of requests of this class that may execute at the same time. Defaults to 0 which
+         * allows requests of this class to use all the threads of the Gremlin thread pool.
+         */
+        public int maxConcurrency = 0;
+
+        /**
+         * The graph or traversal source names that requests refer to through their {@code aliases}.
+         */
+        public List<String> aliases = new ArrayList<>();
+
+        /**
+         * The names of the users that authenticated the requests.
+         */
+        public List<String> users = new ArrayList<>();
+
+        /**
+         * The names of the {@link OpProcessor} implementations that requests are sent to, where the standard
+         * processor has an empty name.
+         */
+        public List<String> processors = new ArrayList<>();
+
+        /**
+         * Arguments and their values (as strings) that the requests must supply.
+         */
+        public Map<String, String> args = new HashMap<>();
+    }
+
     /**
      * Settings to configure SSL support.
      */
@@ -24,6 +24,7 @@ import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpMessage;
 import io.netty.util.ReferenceCountUtil;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
 import org.apache.tinkerpop.gremlin.server.auth.AuthenticationException;
 import org.apache.tinkerpop.gremlin.server.auth.Authenticator;
 
@@ -90,7 +91,8 @@ public class HttpBasicAuthenticationHandler extends ChannelInboundHandlerAdapter
             credentials.put(PROPERTY_PASSWORD, split[1]);
 
             try {
-                authenticator.authenticate(credentials);
+                final AuthenticatedUser user = authenticator.authenticate(credentials);
+                ctx.channel().attr(StateKey.AUTHENTICATED_USER).set(user);
                 ctx.fireChannelRead(request);
             } catch (AuthenticationException ae) {
                 sendError(ctx, msg);
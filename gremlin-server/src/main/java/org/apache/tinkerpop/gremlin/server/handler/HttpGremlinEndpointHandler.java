@@ -31,6 +31,7 @@ import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.RequestSchedulingExecutorService;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.FunctionUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -72,6 +73,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -90,6 +92,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERR
 import static io.netty.handler.codec.http.HttpResponseStatus.METHOD_NOT_ALLOWED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 
 /**
@@ -223,34 +226,61 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                     return;
                 }
 
-                // provide a transform function to serialize to message - this will force serialization to occur
-                // in the same thread as the eval. after the CompletableFuture is returned from the eval the result
-                // is ready to be written as a ByteBuf directly to the response.  nothing should be blocking here.
-                final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), bindings,
-                        FunctionUtils.wrapFunction(o -> {
-                            // stopping the timer here is roughly equivalent to where the timer would have been stopped for
-                            // this metric in other contexts.  we just want to measure eval time not serialization time.
-                            timerContext.stop();
-
-                            logger.debug("Transforming result of request with script [{}] and bindings of [{}] with result of [{}] on [{}]",
-                                    requestArguments.getValue0(), requestArguments.getValue1(), o, Thread.currentThread().getName());
-                            final ResponseMessage responseMessage = ResponseMessage.build(UUID.randomUUID())
-                                    .code(ResponseStatusCode.SUCCESS)
-                                    .result(IteratorUtils.asList(o)).create();
-
-                            // http server is sessionless and must handle commit on transactions. the commit occurs
-                            // before serialization to be consistent with how things work for websocket based
-                            // communication.  this means that failed serialization does not mean that you won't get
-                            // a commit to the database
-                            attemptCommit(requestArguments.getValue3(), graphManager, settings.strictTransactionManagement);
-
-                            try {
-                                return Unpooled.wrappedBuffer(serializer.getValue1().serializeResponseAsString(responseMessage).getBytes(UTF8));
-                            } catch (Exception ex) {
-                                logger.warn(String.format("Error during serialization for %s", responseMessage), ex);
-                                throw ex;
-                            }
-                        }));
+                // the class of the request determines how the gremlin thread pool queues the evaluation. the http
+                // endpoint only evaluates scripts without a session so its requests are classified like those of the
+                // standard op processor, which is named with the empty string
+                final boolean scheduled = gremlinExecutor.getExecutorService() instanceof RequestSchedulingExecutorService;
+                if (scheduled) {
+                    final Map<String, Object> args = new HashMap<>();
+                    args.put(Tokens.ARGS_GREMLIN, requestArguments.getValue0());
+                    args.put(Tokens.ARGS_BINDINGS, requestArguments.getValue1());
+                    if (requestArguments.getValue2() != null) args.put(Tokens.ARGS_LANGUAGE, requestArguments.getValue2());
+                    args.put(Tokens.ARGS_ALIASES, requestArguments.getValue3());
+
+                    final RequestSchedulingExecutorService executorService = (RequestSchedulingExecutorService) gremlinExecutor.getExecutorService();
+                    RequestSchedulingExecutorService.setCurrentRequestClass(executorService.classify("",
+                            requestArguments.getValue3(), args, ctx.channel().attr(StateKey.AUTHENTICATED_USER).get()));
+                }
+
+                final CompletableFuture<Object> evalFuture;
+                try {
+                    // provide a transform function to serialize to message - this will force serialization to occur
+                    // in the same thread as the eval. after the CompletableFuture is returned from the eval the result
+                    // is ready to be written as a ByteBuf directly to the response.  nothing should be blocking here.
+                    evalFuture = gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), bindings,
+                            FunctionUtils.wrapFunction(o -> {
+                                // stopping the timer here is roughly equivalent to where the timer would have been stopped for
+                                // this metric in other contexts.  we just want to measure eval time not serialization time.
+                                timerContext.stop();
+
+                                logger.debug("Transforming result of request with script [{}] and bindings of [{}] with result of [{}] on [{}]",
+                                        requestArguments.getValue0(), requestArguments.getValue1(), o, Thread.currentThread().getName());
+                                final ResponseMessage responseMessage = ResponseMessage.build(UUID.randomUUID())
+                                        .code(ResponseStatusCode.SUCCESS)
+                                        .result(IteratorUtils.asList(o)).create();
+
+                                // http server is sessionless and must handle commit on transactions. the commit occurs
+                                // before serialization to be consistent with how things work for websocket based
+                                // communication.  this means that failed serialization does not mean that you won't get
+                                // a commit to the database
+                                attemptCommit(requestArguments.getValue3(), graphManager, settings.strictTransactionManagement);
+
+                                try {
+                                    return Unpooled.wrappedBuffer(serializer.getValue1().serializeResponseAsString(responseMessage).getBytes(UTF8));
+                                } catch (Exception ex) {
+                                    logger.warn(String.format("Error during serialization for %s", responseMessage), ex);
+                                    throw ex;
+                                }
+                            }));
+                } catch (RejectedExecutionException ree) {
+                    // the server is overloaded for this class of request - the client is free to retry later
+                    timerContext.stop();
+                    logger.debug(ree.getMessage());
+                    sendError(ctx, SERVICE_UNAVAILABLE, ree.getMessage());
+                    return;
+                } finally {
+                    if (scheduled) RequestSchedulingExecutorService.clearCurrentRequestClass();
+                }
 
                 evalFuture.exceptionally(t -> {
                     sendError(ctx, INTERNAL_SERVER_ERROR,
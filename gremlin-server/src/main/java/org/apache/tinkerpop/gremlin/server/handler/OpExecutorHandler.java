@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
+import org.apache.tinkerpop.gremlin.server.util.RequestSchedulingExecutorService;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
@@ -35,6 +36,7 @@ import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 
 /**
@@ -64,8 +66,22 @@ public class OpExecutorHandler extends SimpleChannelInboundHandler<Pair<RequestM
         final Context gremlinServerContext = new Context(msg, ctx,
                 settings, graphManager, gremlinExecutor, scheduledExecutorService);
 
+        // the class of the request determines how the gremlin thread pool queues the work that the op submits
+        final boolean scheduled = gremlinExecutor.getExecutorService() instanceof RequestSchedulingExecutorService;
+        if (scheduled) {
+            final RequestSchedulingExecutorService executorService = (RequestSchedulingExecutorService) gremlinExecutor.getExecutorService();
+            RequestSchedulingExecutorService.setCurrentRequestClass(
+                    executorService.classify(msg, ctx.channel().attr(StateKey.AUTHENTICATED_USER).get()));
+        }
+
         try {
             op.accept(gremlinServerContext);
+        } catch (RejectedExecutionException ree) {
+            // the server is overloaded for this class of request - the client is free to retry later
+            logger.debug(ree.getMessage());
+            ctx.writeAndFlush(ResponseMessage.build(msg)
+                    .code(ResponseStatusCode.SERVER_ERROR_TEMPORARY)
+                    .statusMessage(ree.getMessage()).create());
         } catch (OpProcessorException ope) {
             // Ops may choose to throw OpProcessorException or write the error ResponseMessage down the line
             // themselves
@@ -79,6 +95,7 @@ public class OpExecutorHandler extends SimpleChannelInboundHandler<Pair<RequestM
                     .code(ResponseStatusCode.SERVER_ERROR)
                     .statusMessage(ex.getMessage()).create());
         } finally {
+            if (scheduled) RequestSchedulingExecutorService.clearCurrentRequestClass();
             ReferenceCountUtil.release(objects);
         }
     }
@@ -92,8 +92,8 @@ public class SaslAuthenticationHandler extends ChannelInboundHandlerAdapter {
                     try {
                         final byte[] saslMessage = negotiator.get().evaluateResponse(saslResponse);
                         if (negotiator.get().isComplete()) {
-                            // todo: do something with this user
                             final AuthenticatedUser user = negotiator.get().getAuthenticatedUser();
+                            ctx.channel().attr(StateKey.AUTHENTICATED_USER).set(user);
 
                             // If we have got here we are authenticated so remove the handler and pass
                             // the original message down the pipeline for processing
@@ -25,6 +25,8 @@ import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptNormalizer;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.customizer.TimedInterruptTimeoutException;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Order;
@@ -38,6 +40,7 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.RequestAccounting;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import io.netty.channel.ChannelHandlerContext;
@@ -53,6 +56,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -190,6 +194,17 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
         return Optional.empty();
     }
 
+    /**
+     * Gets the {@link ScriptNormalizer} of the engine that evaluates scripts of the language, if that engine
+     * normalizes scripts.
+     */
+    private static ScriptNormalizer scriptNormalizerOf(final GremlinExecutor gremlinExecutor, final String language) {
+        return gremlinExecutor.getScriptEngines().getScriptEngine(null == language ? "gremlin-groovy" : language)
+                .filter(engine -> engine instanceof GremlinGroovyScriptEngine)
+                .flatMap(engine -> ((GremlinGroovyScriptEngine) engine).getScriptNormalizer())
+                .orElse(null);
+    }
+
     /**
      * A generalized implementation of the "eval" operation.  It handles script evaluation and iteration of results
      * so as to write {@link ResponseMessage} objects down the Netty pipeline.  It also handles script timeouts,
@@ -216,6 +231,8 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
         final String script = (String) args.get(Tokens.ARGS_GREMLIN);
         final String language = args.containsKey(Tokens.ARGS_LANGUAGE) ? (String) args.get(Tokens.ARGS_LANGUAGE) : null;
         final Bindings bindings = new SimpleBindings();
+        final Optional<RequestAccounting.RequestCost> requestCost = requestAccounting(settings)
+                .map(a -> a.start(context, script, scriptNormalizerOf(gremlinExecutor, language)));
 
         // sessionless requests are always transaction managed, but in-session requests are configurable.
         final boolean managedTransactionsForRequest = manageTransactions ?
@@ -229,8 +246,10 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                 .scriptEvaluationTimeoutOverride(seto)
                 .afterFailure((b,t) -> {
                     if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
+                    requestCost.ifPresent(RequestAccounting.RequestCost::end);
                 })
                 .beforeEval(b -> {
+                    requestCost.ifPresent(RequestAccounting.RequestCost::begin);
                     try {
                         b.putAll(bindingsSupplier.get());
                     } catch (OpProcessorException ope) {
@@ -240,6 +259,7 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                     }
                 })
                 .withResult(o -> {
+                    requestCost.ifPresent(RequestAccounting.RequestCost::evaluated);
                     final Iterator itty = IteratorUtils.asIterator(o);
 
                     logger.debug("Preparing to iterate results from - {} - in thread [{}]", msg, Thread.currentThread().getName());
@@ -263,13 +283,24 @@ public abstract class AbstractEvalOpProcessor extends AbstractOpProcessor {
                         ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR)
                                 .statusMessage(null == err || err.isEmpty() ? ex.getClass().getSimpleName() : err).create());
                         if (managedTransactionsForRequest) attemptRollback(msg, context.getGraphManager(), settings.strictTransactionManagement);
+                    } finally {
+                        requestCost.ifPresent(RequestAccounting.RequestCost::end);
                     }
                 }).create();
 
-        final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(script, language, bindings, lifeCycle);
+        final CompletableFuture<Object> evalFuture;
+        try {
+            evalFuture = gremlinExecutor.eval(script, language, bindings, lifeCycle);
+        } catch (RejectedExecutionException ree) {
+            // the request never reached the Gremlin thread pool - the caller reports the rejection to the client
+            timerContext.stop();
+            requestCost.ifPresent(RequestAccounting.RequestCost::complete);
+            throw ree;
+        }
 
         evalFuture.handle((v, t) -> {
             timerContext.stop();
+            requestCost.ifPresent(RequestAccounting.RequestCost::complete);
 
             if (t != null) {
                 if (t instanceof OpProcessorException) {
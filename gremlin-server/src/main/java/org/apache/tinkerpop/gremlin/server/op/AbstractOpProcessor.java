@@ -32,6 +32,8 @@ import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.handler.Frame;
 import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.apache.tinkerpop.gremlin.server.util.RequestAccounting;
+import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +43,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -58,10 +61,29 @@ public abstract class AbstractOpProcessor implements OpProcessor {
      */
     protected final boolean manageTransactions;
 
+    /**
+     * The {@link RequestAccounting} of the {@link Settings} that requests were last processed with, which saves the
+     * lookup by {@link RequestAccounting#of(Settings)} on every request.
+     */
+    private volatile Pair<Settings, Optional<RequestAccounting>> requestAccounting = null;
+
     protected AbstractOpProcessor(final boolean manageTransactions) {
         this.manageTransactions = manageTransactions;
     }
 
+    /**
+     * Gets the {@link RequestAccounting} of the server that is configured with the given {@link Settings} or nothing
+     * if requests are not accounted.
+     */
+    protected Optional<RequestAccounting> requestAccounting(final Settings settings) {
+        Pair<Settings, Optional<RequestAccounting>> cached = requestAccounting;
+        if (null == cached || cached.getValue0() != settings) {
+            cached = Pair.with(settings, RequestAccounting.of(settings));
+            requestAccounting = cached;
+        }
+        return cached.getValue1();
+    }
+
     /**
      * Provides a generic way of iterating a result set back to the client. Implementers should respect the
      * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
@@ -92,6 +114,7 @@ public abstract class AbstractOpProcessor implements OpProcessor {
             ctx.writeAndFlush(ResponseMessage.build(msg)
                     .code(ResponseStatusCode.NO_CONTENT)
                     .create());
+            RequestAccounting.current().ifPresent(RequestAccounting.RequestCost::succeeded);
             return;
         }
 
@@ -154,6 +177,8 @@ public abstract class AbstractOpProcessor implements OpProcessor {
                         break;
                     }
 
+                    final int resultsInFrame = aggregate.size();
+
                     try {
                         // only need to reset the aggregation list if there's more stuff to write
                         if (itty.hasNext())
@@ -181,6 +206,14 @@ public abstract class AbstractOpProcessor implements OpProcessor {
 
                     iterateComplete(ctx, msg, itty);
 
+                    // account for the frame before the write releases it
+                    final Frame written = frame;
+                    final boolean lastFrame = !hasMore;
+                    RequestAccounting.current().ifPresent(c -> {
+                        c.addFrame(resultsInFrame, written);
+                        if (lastFrame) c.succeeded();
+                    });
+
                     // the flush is called after the commit has potentially occurred.  in this way, if a commit was
                     // required then it will be 100% complete before the client receives it. the "frame" at this point
                     // should have completely detached objects from the transaction (i.e. serialization has occurred)
@@ -33,10 +33,10 @@ import javax.script.SimpleBindings;
 import java.util.HashSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -67,7 +67,7 @@ public class Session {
      * By binding the session to run ScriptEngine evaluations in a specific thread, each request will respect
      * the ThreadLocal nature of Graph implementations.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(threadFactoryWorker);
+    private final ThreadPoolExecutor executor;
 
     private final ConcurrentHashMap<String, Session> sessions;
 
@@ -84,6 +84,13 @@ public class Session {
                 .filter(p -> p.className.equals(SessionOpProcessor.class.getCanonicalName()))
                 .findAny().orElse(SessionOpProcessor.DEFAULT_SETTINGS);
         this.configuredSessionTimeout = Long.parseLong(processorSettings.config.get(SessionOpProcessor.CONFIG_SESSION_TIMEOUT).toString());
+        final long threadIdleTimeout = Long.parseLong(processorSettings.config.getOrDefault(
+                SessionOpProcessor.CONFIG_SESSION_THREAD_IDLE_TIMEOUT, SessionOpProcessor.DEFAULT_SESSION_THREAD_IDLE_TIMEOUT).toString());
+        final int maxConcurrentEvaluations = Integer.parseInt(processorSettings.config.getOrDefault(
+                SessionOpProcessor.CONFIG_MAX_CONCURRENT_EVALUATIONS, SessionOpProcessor.DEFAULT_MAX_CONCURRENT_EVALUATIONS).toString());
+
+        this.executor = new SessionThreadPoolExecutor(threadFactoryWorker, threadIdleTimeout,
+                SessionOpProcessor.getEvaluationPermits(settings, maxConcurrentEvaluations), this::hasOpenTransaction);
 
         this.gremlinExecutor = initializeGremlinExecutor().create();
     }
@@ -100,6 +107,13 @@ public class Session {
         return executor;
     }
 
+    /**
+     * Gets the number of threads the session currently holds which is zero if its thread was released when idle.
+     */
+    public int getThreadCount() {
+        return executor.getPoolSize();
+    }
+
     public String getSessionId() {
         return session;
     }
@@ -161,6 +175,20 @@ public class Session {
         logger.info("Session {} closed", session);
     }
 
+    /**
+     * Determines if a transaction is open on the current thread for any of the graphs, in which case the session
+     * thread must not be released.
+     */
+    private boolean hasOpenTransaction() {
+        try {
+            return graphManager.getGraphs().values().stream()
+                    .anyMatch(g -> g.features().graph().supportsTransactions() && g.tx().isOpen());
+        } catch (Exception ex) {
+            logger.warn("Could not determine if session {} has open transactions - keeping its thread", session, ex);
+            return true;
+        }
+    }
+
     private GremlinExecutor.Builder initializeGremlinExecutor() {
         final GremlinExecutor.Builder gremlinExecutorBuilder = GremlinExecutor.build()
                 .scriptEvaluationTimeout(settings.scriptEvaluationTimeout)
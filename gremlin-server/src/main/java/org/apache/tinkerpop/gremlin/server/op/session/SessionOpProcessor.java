@@ -39,7 +39,9 @@ import javax.script.Bindings;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -61,8 +63,15 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
      */
     protected static ConcurrentHashMap<String, Session> sessions = new ConcurrentHashMap<>();
 
+    /**
+     * Limits the number of concurrent session evaluations for each server, which is identified by its settings.
+     */
+    private static final Map<Settings, Semaphore> evaluationPermits = new WeakHashMap<>();
+
     static {
         MetricManager.INSTANCE.getGuage(sessions::size, name(GremlinServer.class, "sessions"));
+        MetricManager.INSTANCE.getGuage(() -> sessions.values().stream().mapToInt(Session::getThreadCount).sum(),
+                name(GremlinServer.class, "sessions", "threads"));
     }
 
     /**
@@ -75,12 +84,36 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
      */
     public static final long DEFAULT_SESSION_TIMEOUT = 28800000l;
 
+    /**
+     * Configuration setting for how long the thread of a session may be idle before it is released. A new thread is
+     * started for the next request of the session. The thread is not released while a transaction is open on it.
+     */
+    public static final String CONFIG_SESSION_THREAD_IDLE_TIMEOUT = "sessionThreadIdleTimeout";
+
+    /**
+     * Default is to keep the thread of a session for the life of the session.
+     */
+    public static final long DEFAULT_SESSION_THREAD_IDLE_TIMEOUT = 0;
+
+    /**
+     * Configuration setting for the maximum number of sessions that may evaluate a request at the same time.
+     * Requests of further sessions wait on their own session thread until another evaluation completes.
+     */
+    public static final String CONFIG_MAX_CONCURRENT_EVALUATIONS = "maxConcurrentEvaluations";
+
+    /**
+     * Default is to not limit the number of concurrent session evaluations.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_EVALUATIONS = 0;
+
     static final Settings.ProcessorSettings DEFAULT_SETTINGS = new Settings.ProcessorSettings();
 
     static {
         DEFAULT_SETTINGS.className = SessionOpProcessor.class.getCanonicalName();
         DEFAULT_SETTINGS.config = new HashMap<String, Object>() {{
             put(CONFIG_SESSION_TIMEOUT, DEFAULT_SESSION_TIMEOUT);
+            put(CONFIG_SESSION_THREAD_IDLE_TIMEOUT, DEFAULT_SESSION_THREAD_IDLE_TIMEOUT);
+            put(CONFIG_MAX_CONCURRENT_EVALUATIONS, DEFAULT_MAX_CONCURRENT_EVALUATIONS);
         }};
     }
 
@@ -170,6 +203,15 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
         return session;
     }
 
+    /**
+     * Gets the permits that all sessions of the server with the given settings share to limit their concurrent
+     * evaluations or {@code null} if they are not limited.
+     */
+    static synchronized Semaphore getEvaluationPermits(final Settings settings, final int maxConcurrentEvaluations) {
+        if (maxConcurrentEvaluations <= 0) return null;
+        return evaluationPermits.computeIfAbsent(settings, s -> new Semaphore(maxConcurrentEvaluations, true));
+    }
+
     /**
      * A useful method for those extending this class, where the means for binding construction can be supplied
      * to this class.  This function is used in {@link #evalOp(Context)} to create the final argument to
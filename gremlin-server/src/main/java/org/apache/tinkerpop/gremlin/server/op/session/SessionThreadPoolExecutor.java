@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op.session;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The single thread on which a {@link Session} evaluates its requests. If given a {@code threadIdleTimeout} greater
+ * than zero, the thread is released once it has been idle for that long and a new one is started with the next
+ * request, so that idle sessions do not hold on to a thread. As transactions are bound to the thread that opened them,
+ * the thread is only released if no transaction is open on it after a request. If given {@code evaluationPermits},
+ * the thread takes a permit before each task and returns it afterwards, which bounds the number of sessions that
+ * evaluate at the same time rather than the number of session threads.
+ */
+final class SessionThreadPoolExecutor extends ThreadPoolExecutor {
+    private final boolean releaseIdleThread;
+    private final Semaphore evaluationPermits;
+    private final BooleanSupplier hasOpenTransaction;
+
+    SessionThreadPoolExecutor(final ThreadFactory threadFactory, final long threadIdleTimeout,
+                              final Semaphore evaluationPermits, final BooleanSupplier hasOpenTransaction) {
+        super(1, 1, threadIdleTimeout > 0 ? threadIdleTimeout : Long.MAX_VALUE, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        this.releaseIdleThread = threadIdleTimeout > 0;
+        this.evaluationPermits = evaluationPermits;
+        this.hasOpenTransaction = hasOpenTransaction;
+    }
+
+    @Override
+    protected void beforeExecute(final Thread t, final Runnable r) {
+        // interruption would leave the task neither run nor failed, so wait for the permit regardless
+        if (evaluationPermits != null) evaluationPermits.acquireUninterruptibly();
+        super.beforeExecute(t, r);
+    }
+
+    @Override
+    protected void afterExecute(final Runnable r, final Throwable t) {
+        try {
+            super.afterExecute(r, t);
+
+            // runs on the session thread so the check sees the transactions that are bound to it
+            if (releaseIdleThread) allowCoreThreadTimeOut(!hasOpenTransaction.getAsBoolean());
+        } finally {
+            if (evaluationPermits != null) evaluationPermits.release();
+        }
+    }
+}
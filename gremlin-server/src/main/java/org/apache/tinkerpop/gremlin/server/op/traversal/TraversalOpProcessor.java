@@ -41,6 +41,7 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import org.apache.tinkerpop.gremlin.server.util.RequestAccounting;
 import org.apache.tinkerpop.gremlin.server.util.SideEffectIterator;
 import org.apache.tinkerpop.gremlin.server.util.TraversalIterator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -58,6 +59,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -312,6 +314,10 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                 }
             });
 
+        } catch (RejectedExecutionException ree) {
+            timerContext.stop();
+            throw new OpProcessorException(ree.getMessage(),
+                    ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TEMPORARY).statusMessage(ree.getMessage()).create());
         } catch (Exception ex) {
             timerContext.stop();
             throw new OpProcessorException("Could not iterate the side-effect instance",
@@ -355,17 +361,21 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
         }
 
         final Timer.Context timerContext = traversalOpTimer.time();
+        final Optional<RequestAccounting.RequestCost> requestCost = requestAccounting(context.getSettings())
+                .map(a -> a.start(context, bytecode));
         try {
             final ChannelHandlerContext ctx = context.getChannelHandlerContext();
             final Graph graph = g.getGraph();
 
             context.getGremlinExecutor().getExecutorService().submit(() -> {
+                requestCost.ifPresent(RequestAccounting.RequestCost::begin);
                 try {
                     beforeProcessing(graph, context);
 
                     try {
                         // compile the traversal - without it getEndStep() has nothing in it
                         traversal.applyStrategies();
+                        requestCost.ifPresent(RequestAccounting.RequestCost::evaluated);
                         handleIterator(context, new TraversalIterator(traversal));
                     } catch (TimeoutException ex) {
                         final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg.getRequestId(), ex.getMessage());
@@ -387,9 +397,14 @@ public class TraversalOpProcessor extends AbstractOpProcessor {
                     onError(graph, context);
                 } finally {
                     timerContext.stop();
+                    requestCost.ifPresent(RequestAccounting.RequestCost::complete);
                 }
             });
 
+        } catch (RejectedExecutionException ree) {
+            timerContext.stop();
+            throw new OpProcessorException(ree.getMessage(),
+                    ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TEMPORARY).statusMessage(ree.getMessage()).create());
         } catch (Exception ex) {
             timerContext.stop();
             throw new OpProcessorException("Could not iterate the Traversal instance",
@@ -33,6 +33,7 @@ import com.codahale.metrics.ganglia.GangliaReporter;
 import com.codahale.metrics.graphite.Graphite;
 import com.codahale.metrics.graphite.GraphiteReporter;
 import info.ganglia.gmetric4j.gmetric.GMetric;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,6 +46,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Singleton that contains and configures Gremlin Server's {@code MetricRegistry}. Borrowed from Titan's approach to
@@ -395,6 +398,29 @@ public enum MetricManager {
         return getRegistry().register(MetricRegistry.name(prefix, names), gauge);
     }
 
+    /**
+     * Registers gauges for the class cache of the {@link GremlinGroovyScriptEngine} that the supplier returns at the
+     * time the gauges are read, which allows the engine to be replaced (e.g. on reset). Gauges that were registered
+     * under the same names before are replaced.
+     */
+    public void registerGremlinScriptEngineMetrics(final Supplier<Optional<GremlinGroovyScriptEngine>> engine,
+                                                   final String prefix, final String... names) {
+        final String base = MetricRegistry.name(prefix, names);
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheEstimatedSize, MetricRegistry.name(base, "estimated-size"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheHitCount, MetricRegistry.name(base, "hit-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheMissCount, MetricRegistry.name(base, "miss-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheHitRate, MetricRegistry.name(base, "hit-rate"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheEvictionCount, MetricRegistry.name(base, "eviction-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheLoadFailureCount, MetricRegistry.name(base, "load-failure-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheTotalLoadTime, MetricRegistry.name(base, "total-load-time"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getClassCacheAverageLoadPenalty, MetricRegistry.name(base, "average-load-penalty"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getCompilationBacklog, MetricRegistry.name(base, "compilation-backlog"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getNormalizedScriptCount, MetricRegistry.name(base, "normalized-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getLiftedScriptCount, MetricRegistry.name(base, "lifted-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getLiftedLiteralCount, MetricRegistry.name(base, "lifted-literal-count"));
+        replaceGauge(engine, GremlinGroovyScriptEngine::getLiftRate, MetricRegistry.name(base, "lift-rate"));
+    }
+
     public Meter getMeter(final String name) {
         return getRegistry().meter(name);
     }
@@ -418,4 +444,10 @@ public enum MetricManager {
     public Histogram getHistogram(final String prefix, final String... names) {
         return getRegistry().histogram(MetricRegistry.name(prefix, names));
     }
+
+    private <T extends Number> void replaceGauge(final Supplier<Optional<GremlinGroovyScriptEngine>> engine,
+                                                 final Function<GremlinGroovyScriptEngine, T> metric, final String name) {
+        getRegistry().remove(name);
+        getRegistry().register(name, (Gauge<Number>) () -> engine.get().map(metric).orElse(null));
+    }
 }
@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptNormalizer;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
+import org.apache.tinkerpop.gremlin.server.handler.Frame;
+import org.apache.tinkerpop.gremlin.server.handler.StateKey;
+import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Measures the cost of script and traversal requests when {@link Settings#requestAccounting} is configured. The cost
+ * of a request is its time in the queue of the Gremlin thread pool, the time to evaluate it and to iterate its
+ * results, the CPU time and the bytes allocated by the thread that processed it, the number of results and the size
+ * of the serialized results. Requests that take longer than the
+ * {@link Settings.RequestAccountingSettings#slowQueryThreshold} are written as JSON to the {@link #SLOW_QUERY_LOGGER}
+ * and the costs of all requests are aggregated by the shape of their query, which is the script or traversal without
+ * its literals, to report the shapes with the highest total CPU time. The shape of a script is derived from the
+ * {@link ScriptNormalizer} of the script engine if it normalizes scripts, so that scripts share a shape exactly when
+ * they share a compiled class. Otherwise the accounting parses each distinct script with its own
+ * {@link ScriptNormalizer}, which caches up to {@link Settings.RequestAccountingSettings#maxQueryShapes} scripts, so a
+ * script is only parsed again once it has been evicted. That parse happens when the request completes, after its
+ * results have been written.
+ * <p/>
+ * A request is evaluated and its results iterated on a single thread which is where its {@link RequestCost} is
+ * available from {@link #current()}. The thread measures its own costs with {@link RequestCost#end()} and the costs
+ * are then published by {@link RequestCost#complete()} from whichever thread completes the request.
+ */
+public class RequestAccounting {
+    private static final Logger logger = LoggerFactory.getLogger(RequestAccounting.class);
+
+    /**
+     * The name of the logger that slow queries are written to.
+     */
+    public static final String SLOW_QUERY_LOGGER = "org.apache.tinkerpop.gremlin.server.slowquery";
+
+    private static final Logger slowQueryLogger = LoggerFactory.getLogger(SLOW_QUERY_LOGGER);
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private static final ThreadLocal<RequestCost> currentRequestCost = new ThreadLocal<>();
+    private static final Map<Settings, RequestAccounting> requestAccountings = new WeakHashMap<>();
+
+    private final long slowQueryThreshold;
+    private final int topQueryShapes;
+    private final boolean cpuTimeSupported;
+    private final boolean allocatedBytesSupported;
+    private final Cache<String, QueryShapeCost> queryShapeCosts;
+    private final ScriptNormalizer scriptNormalizer;
+
+    private final Histogram cpuTime = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "cpu-time"));
+    private final Histogram allocatedBytes = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "allocated-bytes"));
+    private final Histogram resultCount = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "result-count"));
+    private final Histogram serializedBytes = MetricManager.INSTANCE.getHistogram(name(GremlinServer.class, "requests", "serialized-bytes"));
+    private final Meter slowQueries = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "requests", "slow"));
+
+    private RequestAccounting(final Settings.RequestAccountingSettings settings) {
+        if (settings.topQueryShapes < 0)
+            throw new IllegalArgumentException("The number of top query shapes cannot be negative");
+        if (settings.maxQueryShapes <= 0)
+            throw new IllegalArgumentException("The maximum number of query shapes must be greater than zero");
+
+        slowQueryThreshold = TimeUnit.MILLISECONDS.toNanos(settings.slowQueryThreshold);
+        topQueryShapes = settings.topQueryShapes;
+        queryShapeCosts = Caffeine.newBuilder().maximumSize(settings.maxQueryShapes).build();
+        scriptNormalizer = new ScriptNormalizer(settings.maxQueryShapes);
+
+        cpuTimeSupported = threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        allocatedBytesSupported = threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported() &&
+                ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemoryEnabled();
+        if (!cpuTimeSupported) logger.warn("Thread CPU time is not available on this JVM - requests will be ranked by their elapsed time");
+        if (!allocatedBytesSupported) logger.warn("Thread allocated bytes are not available on this JVM - request allocations will not be measured");
+
+        // the gauge of a previous instance (e.g. of a restarted server) is replaced
+        final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+        final String topQueryShapesName = name(GremlinServer.class, "requests", "top-query-shapes");
+        registry.remove(topQueryShapesName);
+        registry.register(topQueryShapesName, (Gauge<List<Map<String, Object>>>) this::getTopQueryShapes);
+    }
+
+    /**
+     * Gets the accounting of the server that is configured with the given {@link Settings} or nothing if requests
+     * are not accounted.
+     */
+    public static Optional<RequestAccounting> of(final Settings settings) {
+        if (!settings.optionalRequestAccounting().isPresent()) return Optional.empty();
+        synchronized (requestAccountings) {
+            return Optional.of(requestAccountings.computeIfAbsent(settings, s -> new RequestAccounting(s.requestAccounting)));
+        }
+    }
+
+    /**
+     * Gets the cost of the request that the current thread processes, if it is accounted.
+     */
+    public static Optional<RequestCost> current() {
+        final RequestCost requestCost = currentRequestCost.get();
+        // a request that completed without its thread ending it is still set on that thread and must not be counted
+        return null == requestCost || requestCost.ended.get() || requestCost.completed.get() ?
+                Optional.empty() : Optional.of(requestCost);
+    }
+
+    /**
+     * Starts the accounting of a request when it is submitted for evaluation.
+     *
+     * @param query the script or the {@link Bytecode} of the request
+     */
+    public RequestCost start(final Context context, final Object query) {
+        return start(context, query, null);
+    }
+
+    /**
+     * Starts the accounting of a script request when it is submitted for evaluation.
+     *
+     * @param query the script of the request
+     * @param engineNormalizer the normalizer of the script engine that evaluates the script or {@code null} if the
+     *                         engine does not normalize scripts
+     */
+    public RequestCost start(final Context context, final Object query, final ScriptNormalizer engineNormalizer) {
+        final AuthenticatedUser user = context.getChannelHandlerContext().channel().attr(StateKey.AUTHENTICATED_USER).get();
+        return new RequestCost(context.getRequestMessage(), query, null == user ? null : user.getName(),
+                null == engineNormalizer ? scriptNormalizer : engineNormalizer);
+    }
+
+    /**
+     * Gets the query shapes with the highest total CPU time (or elapsed time if the CPU time of threads is not
+     * available) along with their aggregated costs.
+     */
+    public List<Map<String, Object>> getTopQueryShapes() {
+        return queryShapeCosts.asMap().entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, QueryShapeCost> e) -> e.getValue().rank()).reversed())
+                .limit(topQueryShapes)
+                .map(e -> e.getValue().toMap(e.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the shape of a script or {@link Bytecode} query which is the query with its literals replaced by
+     * {@code ?}. The literals of a script are those that the {@link ScriptNormalizer} lifts into bindings.
+     */
+    public static String shapeOf(final Object query, final ScriptNormalizer scriptNormalizer) {
+        if (query instanceof Bytecode) {
+            final StringBuilder shape = new StringBuilder("g.");
+            appendShape(shape, (Bytecode) query);
+            return shape.toString();
+        }
+
+        final ScriptNormalizer.NormalizedScript normalized = scriptNormalizer.normalize(null == query ? "" : query.toString());
+        String shape = normalized.getScript();
+        // the last literal goes first so that the name of literal 1 is not replaced within the name of literal 10
+        final List<String> literals = new ArrayList<>(normalized.getLiterals().keySet());
+        for (int ix = literals.size() - 1; ix >= 0; ix--) {
+            shape = shape.replace(literals.get(ix), "?");
+        }
+        return shape;
+    }
+
+    private static void appendShape(final StringBuilder shape, final Bytecode bytecode) {
+        boolean first = true;
+        for (Bytecode.Instruction instruction : bytecode.getInstructions()) {
+            if (!first) shape.append('.');
+            first = false;
+
+            shape.append(instruction.getOperator()).append('(');
+            final Object[] arguments = instruction.getArguments();
+            for (int ix = 0; ix < arguments.length; ix++) {
+                if (ix > 0) shape.append(", ");
+                final Object argument = arguments[ix];
+                if (argument instanceof Bytecode)
+                    appendShape(shape.append("__."), (Bytecode) argument);
+                else if (argument instanceof Traversal)
+                    appendShape(shape.append("__."), ((Traversal) argument).asAdmin().getBytecode());
+                else if (argument instanceof Enum)
+                    shape.append(argument);
+                else if (argument instanceof P)
+                    shape.append(((P) argument).getBiPredicate()).append("(?)");
+                else
+                    shape.append('?');
+            }
+            shape.append(')');
+        }
+    }
+
+    private static long utf8Length(final String s) {
+        long length = 0;
+        for (int ix = 0; ix < s.length(); ix++) {
+            final char c = s.charAt(ix);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                ix++;
+            } else
+                length += 3;
+        }
+        return length;
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1000000d;
+    }
+
+    /**
+     * The cost of a single request.
+     */
+    public final class RequestCost {
+        private final RequestMessage msg;
+        private final Object query;
+        private final String user;
+        private final ScriptNormalizer scriptNormalizer;
+        private final long submitted = System.nanoTime();
+        private final AtomicBoolean ended = new AtomicBoolean(false);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private volatile Thread thread = null;
+        private volatile Snapshot snapshot = null;
+        private long started;
+        private long evaluated = -1;
+        private long cpuTimeAtStart;
+        private long allocatedBytesAtStart;
+        private int results = 0;
+        private long resultBytes = 0;
+        private boolean succeeded = false;
+
+        private RequestCost(final RequestMessage msg, final Object query, final String user,
+                            final ScriptNormalizer scriptNormalizer) {
+            this.msg = msg;
+            this.query = query;
+            this.user = user;
+            this.scriptNormalizer = scriptNormalizer;
+        }
+
+        /**
+         * Called by the thread that evaluates the request when evaluation starts, which ends the time in the queue.
+         */
+        public void begin() {
+            started = System.nanoTime();
+            cpuTimeAtStart = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : -1;
+            allocatedBytesAtStart = allocatedBytesSupported ?
+                    ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId()) : -1;
+            thread = Thread.currentThread();
+            currentRequestCost.set(this);
+        }
+
+        /**
+         * Called when the evaluation is done and the iteration of its results starts.
+         */
+        public void evaluated() {
+            evaluated = System.nanoTime();
+        }
+
+        /**
+         * Counts the results of a {@link Frame} that is written back to the client.
+         */
+        public void addFrame(final int resultsInFrame, final Frame frame) {
+            if (ended.get()) return;
+            results += resultsInFrame;
+            final Object m = frame.getMsg();
+            if (m instanceof ByteBuf)
+                resultBytes += ((ByteBuf) m).readableBytes();
+            else if (m instanceof String)
+                resultBytes += utf8Length((String) m);
+        }
+
+        /**
+         * Called when all results have been written back to the client.
+         */
+        public void succeeded() {
+            succeeded = true;
+        }
+
+        /**
+         * Called by the thread that evaluated the request once it is done with the request, which measures the costs
+         * of the thread. It has no effect on any other thread or if evaluation never started.
+         */
+        public void end() {
+            if (Thread.currentThread() != thread || !ended.compareAndSet(false, true)) return;
+            if (currentRequestCost.get() == this) currentRequestCost.remove();
+
+            final long cpu = cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() - cpuTimeAtStart : -1;
+            final long allocated = allocatedBytesSupported ?
+                    ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBytesAtStart : -1;
+            snapshot = new Snapshot(System.nanoTime(), evaluated, cpu, allocated, results, resultBytes, succeeded);
+        }
+
+        /**
+         * Ends the accounting of the request and publishes its costs, which may be called from any thread once the
+         * request is done. If the thread that evaluated the request did not {@link #end()} it, then its costs are only
+         * measured when this is called on that thread and are otherwise reported as unknown as that thread may
+         * already process another request.
+         */
+        public void complete() {
+            if (null == thread || !completed.compareAndSet(false, true)) return;
+
+            end();
+            final Snapshot s = null == snapshot ? new Snapshot(System.nanoTime(), -1, -1, -1, 0, 0, false) : snapshot;
+            final long queueTime = started - submitted;
+            final long elapsed = s.ended - started;
+            final long evaluationTime = (s.evaluated < 0 ? s.ended : s.evaluated) - started;
+            final long iterationTime = s.evaluated < 0 ? 0 : s.ended - s.evaluated;
+            final boolean slow = slowQueryThreshold > 0 && elapsed > slowQueryThreshold;
+
+            if (s.cpu >= 0) cpuTime.update(s.cpu);
+            if (s.allocated >= 0) allocatedBytes.update(s.allocated);
+            resultCount.update(s.results);
+            serializedBytes.update(s.resultBytes);
+
+            final String shape = shapeOf(query, scriptNormalizer);
+            queryShapeCosts.get(shape, k -> new QueryShapeCost()).add(elapsed, s.cpu, s.allocated, s.results, s.resultBytes, slow);
+
+            if (slow) {
+                slowQueries.mark();
+                if (slowQueryLogger.isInfoEnabled()) {
+                    final Map<String, Object> entry = new LinkedHashMap<>();
+                    entry.put("requestId", msg.getRequestId().toString());
+                    entry.put("op", msg.getOp());
+                    entry.put("processor", msg.getProcessor());
+                    entry.put("user", user);
+                    entry.put("aliases", msg.getArgs().get(Tokens.ARGS_ALIASES));
+                    entry.put("succeeded", s.succeeded);
+                    entry.put("queueTimeMs", millis(queueTime));
+                    entry.put("evaluationTimeMs", millis(evaluationTime));
+                    entry.put("iterationTimeMs", millis(iterationTime));
+                    entry.put("cpuTimeMs", s.cpu < 0 ? null : millis(s.cpu));
+                    entry.put("allocatedBytes", s.allocated < 0 ? null : s.allocated);
+                    entry.put("results", s.results);
+                    entry.put("serializedBytes", s.resultBytes);
+                    entry.put("shape", shape);
+                    entry.put("query", String.valueOf(query));
+                    try {
+                        slowQueryLogger.info(mapper.writeValueAsString(entry));
+                    } catch (Exception ex) {
+                        logger.warn(String.format("Could not write request %s to the slow query log", msg.getRequestId()), ex);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The costs of a request as measured by the thread that evaluated it.
+     */
+    private static final class Snapshot {
+        private final long ended;
+        private final long evaluated;
+        private final long cpu;
+        private final long allocated;
+        private final int results;
+        private final long resultBytes;
+        private final boolean succeeded;
+
+        private Snapshot(final long ended, final long evaluated, final long cpu, final long allocated,
+                         final int results, final long resultBytes, final boolean succeeded) {
+            this.ended = ended;
+            this.evaluated = evaluated;
+            this.cpu = cpu;
+            this.allocated = allocated;
+            this.results = results;
+            this.resultBytes = resultBytes;
+            this.succeeded = succeeded;
+        }
+    }
+
+    private final class QueryShapeCost {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder slowCount = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+        private final LongAdder totalCpuTime = new LongAdder();
+        private final LongAdder totalAllocatedBytes = new LongAdder();
+        private final LongAdder totalResults = new LongAdder();
+        private final LongAdder totalSerializedBytes = new LongAdder();
+
+        private void add(final long elapsed, final long cpu, final long allocated, final int results,
+                         final long resultBytes, final boolean slow) {
+            count.increment();
+            if (slow) slowCount.increment();
+            totalTime.add(elapsed);
+            maxTime.accumulate(elapsed);
+            if (cpu >= 0) totalCpuTime.add(cpu);
+            if (allocated >= 0) totalAllocatedBytes.add(allocated);
+            totalResults.add(results);
+            totalSerializedBytes.add(resultBytes);
+        }
+
+        private long rank() {
+            return cpuTimeSupported ? totalCpuTime.sum() : totalTime.sum();
+        }
+
+        private Map<String, Object> toMap(final String shape) {
+            final Map<String, Object> m = new LinkedHashMap<>();
+            m.put("shape", shape);
+            m.put("count", count.sum());
+            m.put("slowCount", slowCount.sum());
+            m.put("totalTimeMs", millis(totalTime.sum()));
+            m.put("maxTimeMs", millis(maxTime.get()));
+            m.put("totalCpuTimeMs", cpuTimeSupported ? millis(totalCpuTime.sum()) : null);
+            m.put("totalAllocatedBytes", allocatedBytesSupported ? totalAllocatedBytes.sum() : null);
+            m.put("totalResults", totalResults.sum());
+            m.put("totalSerializedBytes", totalSerializedBytes.sum());
+            return m;
+        }
+    }
+}
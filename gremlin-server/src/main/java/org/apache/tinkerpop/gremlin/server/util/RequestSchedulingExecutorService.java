@@ -0,0 +1,384 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * The Gremlin thread pool when {@link Settings#scheduler} is configured. Tasks are queued by the class of the request
+ * that submits them, which the submitting thread declares with {@link #setCurrentRequestClass(String)}. Each class
+ * has its own bounded queue and an optional limit on the number of its tasks that execute at the same time. Idle
+ * threads take the next task from the class with the lowest virtual time, which advances by the inverse of the weight
+ * of the class with every task it executes, so that waiting classes share the threads in proportion to their weights.
+ * <p/>
+ * A task that admits a new request, which is one submitted while a request class is declared on a thread outside of
+ * the pool, is rejected with a {@code RejectedExecutionException} if the queue of its class is full or, if a
+ * {@link Settings.SchedulerSettings#targetQueueTime} is configured, if the oldest task in that queue has waited longer
+ * than that target. Other tasks continue requests that were already accepted and are only rejected once the pool is
+ * shut down.
+ */
+public class RequestSchedulingExecutorService extends AbstractExecutorService {
+    private static final Logger logger = LoggerFactory.getLogger(RequestSchedulingExecutorService.class);
+
+    private static final ThreadLocal<String> currentRequestClass = new ThreadLocal<>();
+
+    private final Map<String, RequestClass> requestClasses = new LinkedHashMap<>();
+    private final RequestClass defaultRequestClass;
+    private final long targetQueueTime;
+
+    private final Set<Thread> workers = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Condition terminated = lock.newCondition();
+
+    private boolean shutdown = false;
+    private volatile boolean stopped = false;
+    private int liveWorkers;
+    private double virtualTime = 0;
+
+    public RequestSchedulingExecutorService(final int threads, final Settings.SchedulerSettings settings,
+                                            final ThreadFactory threadFactory) {
+        if (threads <= 0)
+            throw new IllegalArgumentException("The number of threads must be greater than zero");
+
+        settings.requestClasses.forEach(s -> {
+            if (requestClasses.put(s.name, new RequestClass(s)) != null)
+                throw new IllegalArgumentException(String.format("The request class name [%s] is not unique", s.name));
+        });
+
+        defaultRequestClass = new RequestClass(settings.defaultRequestClass);
+        if (requestClasses.containsKey(defaultRequestClass.name))
+            throw new IllegalArgumentException(String.format("The request class name [%s] is already used by the default request class", defaultRequestClass.name));
+
+        targetQueueTime = TimeUnit.MILLISECONDS.toNanos(settings.targetQueueTime);
+
+        for (int ix = 0; ix < threads; ix++) {
+            workers.add(threadFactory.newThread(this::work));
+        }
+        liveWorkers = threads;
+        workers.forEach(Thread::start);
+    }
+
+    /**
+     * Declares the class of the request that the current thread submits tasks for. Threads of the pool declare the
+     * class of the task they execute.
+     */
+    public static void setCurrentRequestClass(final String requestClass) {
+        currentRequestClass.set(requestClass);
+    }
+
+    public static void clearCurrentRequestClass() {
+        currentRequestClass.remove();
+    }
+
+    /**
+     * Gets the name of the class that the request belongs to.
+     */
+    public String classify(final RequestMessage msg, final AuthenticatedUser user) {
+        final Map<String, Object> args = msg.getArgs();
+        final Object aliases = args.containsKey(Tokens.ARGS_ALIASES) ? args.get(Tokens.ARGS_ALIASES) : args.get(Tokens.ARGS_REBINDINGS);
+        return classify(msg.getProcessor(), aliases instanceof Map ? (Map<String, String>) aliases : Collections.emptyMap(),
+                args, user);
+    }
+
+    /**
+     * Gets the name of the class that a request with the given processor, aliases, arguments and user belongs to.
+     */
+    public String classify(final String processor, final Map<String, String> aliases, final Map<String, Object> args,
+                           final AuthenticatedUser user) {
+        final String userName = null == user ? null : user.getName();
+        return requestClasses.values().stream()
+                .filter(c -> c.matches(null == processor ? "" : processor, aliases.values(), args, userName))
+                .map(c -> c.name)
+                .findFirst().orElse(defaultRequestClass.name);
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        final String name = currentRequestClass.get();
+        final RequestClass requestClass = null == name ? defaultRequestClass : requestClasses.getOrDefault(name, defaultRequestClass);
+        final boolean admission = null != name && !workers.contains(Thread.currentThread());
+
+        lock.lock();
+        try {
+            if (shutdown)
+                throw new RejectedExecutionException("The Gremlin thread pool is shut down");
+
+            final long now = System.nanoTime();
+            if (admission) {
+                if (requestClass.queue.size() >= requestClass.maxQueueSize) {
+                    requestClass.rejected.mark();
+                    throw new RejectedExecutionException(String.format(
+                            "The queue of request class [%s] is full with %s requests - retry the request later",
+                            requestClass.name, requestClass.maxQueueSize));
+                }
+
+                if (targetQueueTime > 0 && !requestClass.queue.isEmpty() &&
+                        now - requestClass.queue.peekFirst().enqueued > targetQueueTime) {
+                    requestClass.rejected.mark();
+                    throw new RejectedExecutionException(String.format(
+                            "Requests of request class [%s] wait longer than the target queue time of %s ms - retry the request later",
+                            requestClass.name, TimeUnit.NANOSECONDS.toMillis(targetQueueTime)));
+                }
+            }
+
+            // a class that was idle does not get to catch up on the share of the threads it did not use
+            if (requestClass.queue.isEmpty()) requestClass.pass = Math.max(requestClass.pass, virtualTime);
+
+            requestClass.queue.addLast(new QueuedTask(task, now));
+            requestClass.queued = requestClass.queue.size();
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> pending = new ArrayList<>();
+        lock.lock();
+        try {
+            shutdown = true;
+            stopped = true;
+            allRequestClasses().forEach(c -> {
+                c.queue.forEach(q -> pending.add(q.task));
+                c.queue.clear();
+                c.queued = 0;
+            });
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        workers.forEach(Thread::interrupt);
+        return pending;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        lock.lock();
+        try {
+            return shutdown;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isTerminated() {
+        lock.lock();
+        try {
+            return shutdown && 0 == liveWorkers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (liveWorkers > 0) {
+                if (nanos <= 0) return false;
+                nanos = terminated.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void work() {
+        while (true) {
+            final RequestClass requestClass;
+            final QueuedTask next;
+            lock.lock();
+            try {
+                RequestClass candidate;
+                while (null == (candidate = nextRequestClass())) {
+                    if (shutdown && allRequestClasses().allMatch(c -> c.queue.isEmpty())) {
+                        if (0 == --liveWorkers) terminated.signalAll();
+                        return;
+                    }
+                    available.awaitUninterruptibly();
+                }
+
+                requestClass = candidate;
+                next = requestClass.queue.pollFirst();
+                requestClass.queued = requestClass.queue.size();
+                requestClass.active++;
+                virtualTime = requestClass.pass;
+                requestClass.pass += 1.0d / requestClass.weight;
+
+                // another class may still have tasks to dispatch to another idle thread
+                if (!requestClass.queue.isEmpty()) available.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            requestClass.queueTime.update(System.nanoTime() - next.enqueued, TimeUnit.NANOSECONDS);
+
+            // an interrupt of a previous task (e.g. for a timeout) must not carry over into this one
+            if (!stopped) Thread.interrupted();
+
+            setCurrentRequestClass(requestClass.name);
+            try {
+                next.task.run();
+            } catch (Throwable t) {
+                logger.warn(String.format("Task of request class [%s] failed", requestClass.name), t);
+            } finally {
+                clearCurrentRequestClass();
+                lock.lock();
+                try {
+                    requestClass.active--;
+                    available.signal();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the class with the lowest virtual time among those with queued tasks that are below their concurrency
+     * limit.
+     */
+    private RequestClass nextRequestClass() {
+        return allRequestClasses()
+                .filter(c -> !c.queue.isEmpty())
+                .filter(c -> c.maxConcurrency <= 0 || c.active < c.maxConcurrency)
+                .min((a, b) -> Double.compare(a.pass, b.pass)).orElse(null);
+    }
+
+    private Stream<RequestClass> allRequestClasses() {
+        return Stream.concat(requestClasses.values().stream(), Stream.of(defaultRequestClass));
+    }
+
+    private static final class QueuedTask {
+        private final Runnable task;
+        private final long enqueued;
+
+        private QueuedTask(final Runnable task, final long enqueued) {
+            this.task = task;
+            this.enqueued = enqueued;
+        }
+    }
+
+    private static final class RequestClass {
+        private final String name;
+        private final int weight;
+        private final int maxQueueSize;
+        private final int maxConcurrency;
+        private final Set<String> aliases;
+        private final Set<String> users;
+        private final Set<String> processors;
+        private final Map<String, String> args;
+
+        private final ArrayDeque<QueuedTask> queue = new ArrayDeque<>();
+        private final Timer queueTime;
+        private final Meter rejected;
+
+        private volatile int queued = 0;
+        private volatile int active = 0;
+        private double pass = 0;
+
+        private RequestClass(final Settings.RequestClassSettings settings) {
+            if (settings.weight <= 0)
+                throw new IllegalArgumentException(String.format("The weight of request class [%s] must be greater than zero", settings.name));
+            if (settings.maxQueueSize <= 0)
+                throw new IllegalArgumentException(String.format("The maxQueueSize of request class [%s] must be greater than zero", settings.name));
+
+            name = settings.name;
+            weight = settings.weight;
+            maxQueueSize = settings.maxQueueSize;
+            maxConcurrency = settings.maxConcurrency;
+            aliases = new HashSet<>(settings.aliases);
+            users = new HashSet<>(settings.users);
+            processors = new HashSet<>(settings.processors);
+            args = new LinkedHashMap<>(settings.args);
+
+            queueTime = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "scheduler", name, "queue-time"));
+            rejected = MetricManager.INSTANCE.getMeter(name(GremlinServer.class, "scheduler", name, "rejected"));
+
+            // gauges of a previous instance (e.g. of a restarted server) are replaced
+            final MetricRegistry registry = MetricManager.INSTANCE.getRegistry();
+            final String queuedName = name(GremlinServer.class, "scheduler", name, "queued");
+            registry.remove(queuedName);
+            registry.register(queuedName, (Gauge<Integer>) () -> queued);
+            final String activeName = name(GremlinServer.class, "scheduler", name, "active");
+            registry.remove(activeName);
+            registry.register(activeName, (Gauge<Integer>) () -> active);
+        }
+
+        private boolean matches(final String processor, final Collection<String> aliasedNames,
+                                final Map<String, Object> requestArgs, final String userName) {
+            if (!processors.isEmpty() && !processors.contains(processor)) return false;
+            if (!users.isEmpty() && (null == userName || !users.contains(userName))) return false;
+            if (!aliases.isEmpty() && aliasedNames.stream().noneMatch(aliases::contains)) return false;
+
+            for (Map.Entry<String, String> arg : args.entrySet()) {
+                final Object value = requestArgs.get(arg.getKey());
+                if (null == value || !arg.getValue().equals(value.toString())) return false;
+            }
+
+            return true;
+        }
+    }
+}
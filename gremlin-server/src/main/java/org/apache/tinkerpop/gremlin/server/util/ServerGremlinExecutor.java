@@ -19,6 +19,8 @@
 package org.apache.tinkerpop.gremlin.server.util;
 
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.groovy.engine.ScriptEngines;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.Channelizer;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
@@ -39,6 +41,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * The core of script execution in Gremlin Server.  Given {@link Settings} and optionally other arguments, this
  * class will construct a {@link GremlinExecutor} to be used by Gremlin Server.  A typical usage would be to
@@ -99,7 +103,9 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
 
         if (null == gremlinExecutorService) {
             final ThreadFactory threadFactoryGremlin = ThreadFactoryUtil.create("exec-%d");
-            this.gremlinExecutorService = Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
+            this.gremlinExecutorService = settings.optionalScheduler().isPresent() ?
+                    new RequestSchedulingExecutorService(settings.gremlinPool, settings.scheduler, threadFactoryGremlin) :
+                    Executors.newFixedThreadPool(settings.gremlinPool, threadFactoryGremlin);
         } else {
             this.gremlinExecutorService = gremlinExecutorService;
         }
@@ -137,6 +143,14 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
 
         logger.info("Initialized GremlinExecutor and configured ScriptEngines.");
 
+        // gremlin-groovy is the only script engine that exposes metrics at this point
+        final ScriptEngines scriptEngines = gremlinExecutor.getScriptEngines();
+        settings.scriptEngines.keySet().forEach(engineName ->
+                MetricManager.INSTANCE.registerGremlinScriptEngineMetrics(() -> scriptEngines.getScriptEngine(engineName)
+                                .filter(engine -> engine instanceof GremlinGroovyScriptEngine)
+                                .map(engine -> (GremlinGroovyScriptEngine) engine),
+                        name(GremlinServer.class, "engine-name", engineName, "class-cache")));
+
         // script engine init may have altered the graph bindings or maybe even created new ones - need to
         // re-apply those references back
         gremlinExecutor.getGlobalBindings().entrySet().stream()
@@ -94,6 +94,24 @@ public class GremlinServerSessionIntegrateTest  extends AbstractGremlinServerInt
 
                 Logger.getRootLogger().setLevel(Level.INFO);
                 break;
+            case "shouldReleaseIdleSessionThreadAndKeepSessionState":
+                settings.processors.clear();
+                final Settings.ProcessorSettings idleProcessorSettings = new Settings.ProcessorSettings();
+                idleProcessorSettings.className = SessionOpProcessor.class.getCanonicalName();
+                idleProcessorSettings.config = new HashMap<>();
+                idleProcessorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_TIMEOUT, SessionOpProcessor.DEFAULT_SESSION_TIMEOUT);
+                idleProcessorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_THREAD_IDLE_TIMEOUT, 200L);
+                settings.processors.add(idleProcessorSettings);
+                break;
+            case "shouldLimitConcurrentEvaluationsOfSessions":
+                settings.processors.clear();
+                final Settings.ProcessorSettings limitedProcessorSettings = new Settings.ProcessorSettings();
+                limitedProcessorSettings.className = SessionOpProcessor.class.getCanonicalName();
+                limitedProcessorSettings.config = new HashMap<>();
+                limitedProcessorSettings.config.put(SessionOpProcessor.CONFIG_SESSION_TIMEOUT, SessionOpProcessor.DEFAULT_SESSION_TIMEOUT);
+                limitedProcessorSettings.config.put(SessionOpProcessor.CONFIG_MAX_CONCURRENT_EVALUATIONS, 1);
+                settings.processors.add(limitedProcessorSettings);
+                break;
             case "shouldEnsureSessionBindingsAreThreadSafe":
                 settings.threadPoolWorker = 2;
                 break;
@@ -200,6 +218,45 @@ public class GremlinServerSessionIntegrateTest  extends AbstractGremlinServerInt
                 .filter(msg -> msg.equals("INFO - Session shouldHaveTheSessionTimeout closed\n")).count());
     }
 
+    @Test
+    public void shouldReleaseIdleSessionThreadAndKeepSessionState() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client client = cluster.connect(name.getMethodName());
+
+        try {
+            final String firstThread = client.submit("x = 1; Thread.currentThread().getName()").all().get().get(0).getString();
+            assertEquals(firstThread, client.submit("Thread.currentThread().getName()").all().get().get(0).getString());
+
+            // the session thread is released after being idle for 200 milliseconds
+            Thread.sleep(1000);
+
+            final List<Result> results = client.submit("[x + 1, Thread.currentThread().getName()]").all().get();
+            assertEquals(2, results.get(0).getInt());
+            assertThat(results.get(1).getString().equals(firstThread), is(false));
+        } finally {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void shouldLimitConcurrentEvaluationsOfSessions() throws Exception {
+        final Cluster cluster = Cluster.build().create();
+        final Client first = cluster.connect(name.getMethodName() + "-1");
+        final Client second = cluster.connect(name.getMethodName() + "-2");
+
+        try {
+            final CompletableFuture<List<Result>> slow = first.submitAsync("Thread.sleep(1000); System.currentTimeMillis()")
+                    .thenCompose(ResultSet::all);
+            Thread.sleep(200);
+
+            // the second session only evaluates once the first one returned the single permit
+            final long evaluated = second.submit("System.currentTimeMillis()").all().get().get(0).getLong();
+            assertThat(evaluated >= slow.get().get(0).getLong(), is(true));
+        } finally {
+            cluster.close();
+        }
+    }
+
     @Test
     public void shouldEnsureSessionBindingsAreThreadSafe() throws Exception {
         final Cluster cluster = Cluster.build().minInProcessPerConnection(16).maxInProcessPerConnection(64).create();
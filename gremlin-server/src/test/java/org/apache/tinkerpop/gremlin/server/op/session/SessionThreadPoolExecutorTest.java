@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.op.session;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SessionThreadPoolExecutorTest {
+
+    /**
+     * Stands in for a transactional graph whose transactions are bound to the thread that opened them.
+     */
+    private final ThreadLocal<Boolean> openTransaction = ThreadLocal.withInitial(() -> false);
+
+    private final List<SessionThreadPoolExecutor> executors = new ArrayList<>();
+
+    @After
+    public void tearDown() throws Exception {
+        for (SessionThreadPoolExecutor executor : executors) {
+            executor.shutdownNow();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        }
+    }
+
+    @Test
+    public void shouldKeepThreadWhileTransactionIsOpen() throws Exception {
+        final SessionThreadPoolExecutor transactional = create(100, null);
+        final SessionThreadPoolExecutor idle = create(100, null);
+
+        final String transactionalThread = transactional.submit(() -> {
+            openTransaction.set(true);
+            return Thread.currentThread().getName();
+        }).get();
+        idle.submit(() -> openTransaction.set(false)).get();
+
+        // the idle session lets its thread go while the other one keeps the thread that holds its transaction
+        assertThat(awaitPoolSize(idle, 0), is(true));
+        assertThat(transactional.getPoolSize(), is(1));
+        assertThat(transactional.submit(() -> Thread.currentThread().getName()).get(), is(transactionalThread));
+
+        transactional.submit(() -> openTransaction.set(false)).get();
+        assertThat(awaitPoolSize(transactional, 0), is(true));
+        assertThat(transactional.submit(() -> Thread.currentThread().getName()).get().equals(transactionalThread), is(false));
+    }
+
+    @Test
+    public void shouldLimitConcurrentEvaluationsAcrossSessions() throws Exception {
+        final Semaphore evaluationPermits = new Semaphore(1, true);
+        final SessionThreadPoolExecutor first = create(0, evaluationPermits);
+        final SessionThreadPoolExecutor second = create(0, evaluationPermits);
+
+        final CountDownLatch evaluating = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger concurrent = new AtomicInteger(0);
+        final AtomicInteger maxConcurrent = new AtomicInteger(0);
+
+        final Future<?> blocking = first.submit(() -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            evaluating.countDown();
+            release.await();
+            concurrent.decrementAndGet();
+            return null;
+        });
+        assertThat(evaluating.await(10, TimeUnit.SECONDS), is(true));
+
+        final Future<?> waiting = second.submit(() -> maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max));
+        Thread.sleep(200);
+        assertThat(waiting.isDone(), is(false));
+
+        release.countDown();
+        blocking.get(10, TimeUnit.SECONDS);
+        waiting.get(10, TimeUnit.SECONDS);
+        assertThat(maxConcurrent.get(), is(1));
+        assertThat(evaluationPermits.availablePermits(), is(1));
+    }
+
+    private SessionThreadPoolExecutor create(final long threadIdleTimeout, final Semaphore evaluationPermits) {
+        final SessionThreadPoolExecutor executor = new SessionThreadPoolExecutor(Executors.defaultThreadFactory(),
+                threadIdleTimeout, evaluationPermits, openTransaction::get);
+        executors.add(executor);
+        return executor;
+    }
+
+    private static boolean awaitPoolSize(final SessionThreadPoolExecutor executor, final int poolSize) throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + 10000;
+        while (executor.getPoolSize() != poolSize && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        return executor.getPoolSize() == poolSize;
+    }
+}
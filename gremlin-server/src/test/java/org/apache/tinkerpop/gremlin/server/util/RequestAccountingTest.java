@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import com.codahale.metrics.Gauge;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptNormalizer;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Scope;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.server.Context;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
+import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RequestAccountingTest {
+
+    private final ScriptNormalizer scriptNormalizer = new ScriptNormalizer(100);
+
+    @Test
+    public void shouldRemoveLiteralsFromScriptShape() {
+        assertThat(shapeOf("g.V(1).has('name', \"marko\").limit(10L)"), is("g.V(?).has(?, ?).limit(?)"));
+        assertThat(shapeOf("g.V(2).has('name','it\\'s').values('age').is(gt(29.5d))"),
+                is("g.V(?).has(?,?).values(?).is(gt(?))"));
+    }
+
+    @Test
+    public void shouldKeepIdentifiersInScriptShape() {
+        assertThat(shapeOf("v1 = g.V(x1).next()\n  v1.value(key2)"), is("v1 = g.V(x1).next()\n  v1.value(key2)"));
+    }
+
+    @Test
+    public void shouldKeepLiteralsThatTheNormalizerKeepsInScriptShape() {
+        assertThat(shapeOf("g.V(1).map{it.get().value('name')}"), is("g.V(?).map{it.get().value('name')}"));
+        assertThat(shapeOf("g.V().valueMap([name: 'marko'])"), is("g.V().valueMap([name: ?])"));
+    }
+
+    @Test
+    public void shouldGiveScriptsTheSameShapeExactlyIfTheyNormalizeTheSame() {
+        final String a = "g.V(1).out('knows')";
+        final String b = "g.V(42).out('created')";
+        final String c = "g.V(1).out('knows').map{it.get().value('name')}";
+        final String d = "g.V(1).out('knows').map{it.get().value('age')}";
+        assertThat(scriptNormalizer.normalize(a).getScript(), is(scriptNormalizer.normalize(b).getScript()));
+        assertThat(shapeOf(a), is(shapeOf(b)));
+        assertThat(scriptNormalizer.normalize(c).getScript().equals(scriptNormalizer.normalize(d).getScript()), is(false));
+        assertThat(shapeOf(c).equals(shapeOf(d)), is(false));
+    }
+
+    @Test
+    public void shouldNotConfuseLiteralNamesInScriptShape() {
+        assertThat(shapeOf("g.V(1,2,3,4,5,6,7,8,9,10,11,12)"), is("g.V(?,?,?,?,?,?,?,?,?,?,?,?)"));
+    }
+
+    @Test
+    public void shouldGiveScriptsThatDifferInLiteralsTheSameShape() {
+        assertThat(shapeOf("g.V(1).out('knows')"), is(shapeOf("g.V(42).out('created')")));
+    }
+
+    @Test
+    public void shouldRemoveArgumentsFromBytecodeShape() {
+        assertThat(shapeOf(__.V(1).out("knows").has("age", P.gt(30)).count(Scope.local).asAdmin().getBytecode()),
+                is("g.V(?).out(?).has(?, gt(?)).count(local)"));
+    }
+
+    @Test
+    public void shouldIncludeChildTraversalsInBytecodeShape() {
+        assertThat(shapeOf(__.V().where(__.out("knows").has("name", "josh")).asAdmin().getBytecode()),
+                is("g.V().where(__.out(?).has(?, ?))"));
+    }
+
+    @Test
+    public void shouldLogSlowQueryAndReportTopQueryShapes() throws Exception {
+        final Settings settings = new Settings();
+        settings.requestAccounting = new Settings.RequestAccountingSettings();
+        settings.requestAccounting.slowQueryThreshold = 1;
+        final RequestAccounting requestAccounting = RequestAccounting.of(settings).get();
+
+        final RequestMessage msg = RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, "g.V(1).out('knows')").create();
+        final EmbeddedChannel channel = new EmbeddedChannel(new ChannelInboundHandlerAdapter());
+        final Context context = new Context(msg, channel.pipeline().firstContext(), settings, null, null, null);
+
+        final Log4jRecordingAppender recordingAppender = new Log4jRecordingAppender();
+        final Logger slowQueryLogger = Logger.getLogger(RequestAccounting.SLOW_QUERY_LOGGER);
+        final Level originalLevel = slowQueryLogger.getLevel();
+        slowQueryLogger.addAppender(recordingAppender);
+        slowQueryLogger.setLevel(Level.INFO);
+        try {
+            final RequestAccounting.RequestCost requestCost = requestAccounting.start(context, "g.V(1).out('knows')", scriptNormalizer);
+            requestCost.begin();
+            assertThat(RequestAccounting.current().get() == requestCost, is(true));
+            Thread.sleep(10);
+            requestCost.evaluated();
+            requestCost.succeeded();
+            requestCost.complete();
+            assertThat(RequestAccounting.current().isPresent(), is(false));
+        } finally {
+            slowQueryLogger.removeAppender(recordingAppender);
+            slowQueryLogger.setLevel(originalLevel);
+            channel.close();
+        }
+
+        assertThat(recordingAppender.getMessages().size(), is(1));
+        final String line = recordingAppender.getMessages().get(0);
+        final Map<String, Object> entry = new ObjectMapper().readValue(line.substring(line.indexOf('{')).trim(), Map.class);
+        assertThat(entry.get("requestId"), is(msg.getRequestId().toString()));
+        assertThat(entry.get("op"), is(Tokens.OPS_EVAL));
+        assertThat(entry.get("succeeded"), is(true));
+        assertThat(entry.get("results"), is(0));
+        assertThat(entry.get("shape"), is("g.V(?).out(?)"));
+        assertThat(entry.get("query"), is("g.V(1).out('knows')"));
+        assertThat(((Number) entry.get("evaluationTimeMs")).doubleValue() >= 10d, is(true));
+
+        final Gauge<List<Map<String, Object>>> topQueryShapes = MetricManager.INSTANCE.getRegistry().getGauges()
+                .get(name(GremlinServer.class, "requests", "top-query-shapes"));
+        final List<Map<String, Object>> shapes = topQueryShapes.getValue();
+        assertThat(shapes.size(), is(1));
+        assertThat(shapes.get(0).get("shape"), is("g.V(?).out(?)"));
+        assertThat(shapes.get(0).get("count"), is(1L));
+        assertThat(shapes.get(0).get("slowCount"), is(1L));
+    }
+
+    private String shapeOf(final Object query) {
+        return RequestAccounting.shapeOf(query, scriptNormalizer);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.server.util;
+
+import org.apache.tinkerpop.gremlin.driver.Tokens;
+import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.auth.AuthenticatedUser;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class RequestSchedulingExecutorServiceTest {
+
+    private RequestSchedulingExecutorService executorService;
+
+    @After
+    public void tearDown() throws Exception {
+        RequestSchedulingExecutorService.clearCurrentRequestClass();
+        if (executorService != null) {
+            executorService.shutdownNow();
+            assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS), is(true));
+        }
+    }
+
+    @Test
+    public void shouldClassifyRequests() {
+        final Settings.RequestClassSettings analytics = requestClass("analytics", 1, 16);
+        analytics.aliases.add("olap");
+        final Settings.RequestClassSettings admin = requestClass("admin", 1, 16);
+        admin.users.add("stephen");
+        admin.processors.add("");
+        final Settings.RequestClassSettings batch = requestClass("batch", 1, 16);
+        batch.args.put("batchSize", "64");
+        executorService = create(1, 0, analytics, admin, batch);
+
+        final Map<String, String> aliases = new HashMap<>();
+        aliases.put("g", "olap");
+        final RequestMessage olap = RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, "g.V()")
+                .add(Tokens.ARGS_ALIASES, aliases).create();
+        assertThat(executorService.classify(olap, null), is("analytics"));
+
+        final RequestMessage plain = RequestMessage.build(Tokens.OPS_EVAL).add(Tokens.ARGS_GREMLIN, "g.V()").create();
+        assertThat(executorService.classify(plain, new AuthenticatedUser("stephen")), is("admin"));
+        assertThat(executorService.classify(plain, new AuthenticatedUser("marko")), is("default"));
+        assertThat(executorService.classify(plain, null), is("default"));
+
+        final RequestMessage traversal = RequestMessage.build(Tokens.OPS_BYTECODE).processor("traversal")
+                .add("batchSize", 64).create();
+        assertThat(executorService.classify(traversal, new AuthenticatedUser("stephen")), is("batch"));
+    }
+
+    @Test
+    public void shouldRejectRequestsWhenQueueIsFull() throws Exception {
+        executorService = create(1, 0, requestClass("limited", 1, 1));
+        final CountDownLatch release = block();
+
+        RequestSchedulingExecutorService.setCurrentRequestClass("limited");
+        final CountDownLatch done = new CountDownLatch(3);
+        executorService.execute(done::countDown);
+        try {
+            executorService.execute(done::countDown);
+            fail("The queue of the request class is full");
+        } catch (RejectedExecutionException ree) {
+            // expected
+        }
+
+        // tasks that continue accepted requests are not subject to admission
+        RequestSchedulingExecutorService.clearCurrentRequestClass();
+        executorService.execute(done::countDown);
+        executorService.execute(done::countDown);
+
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldRejectRequestsThatWouldWaitLongerThanTargetQueueTime() throws Exception {
+        executorService = create(1, 50, requestClass("slow", 1, 16));
+        final CountDownLatch release = block();
+
+        RequestSchedulingExecutorService.setCurrentRequestClass("slow");
+        final CountDownLatch done = new CountDownLatch(1);
+        executorService.execute(done::countDown);
+        Thread.sleep(100);
+        try {
+            executorService.execute(done::countDown);
+            fail("The oldest request of the request class waited longer than the target queue time");
+        } catch (RejectedExecutionException ree) {
+            // expected
+        }
+
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+
+        // the queue caught up so requests are admitted again
+        final CountDownLatch admitted = new CountDownLatch(1);
+        executorService.execute(admitted::countDown);
+        assertThat(admitted.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void shouldShareThreadsByWeight() throws Exception {
+        executorService = create(1, 0, requestClass("light", 1, 16), requestClass("heavy", 3, 16));
+        final CountDownLatch release = block();
+
+        final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(6);
+        for (String requestClass : Arrays.asList("light", "light", "light", "heavy", "heavy", "heavy")) {
+            RequestSchedulingExecutorService.setCurrentRequestClass(requestClass);
+            executorService.execute(() -> {
+                executed.add(requestClass);
+                done.countDown();
+            });
+        }
+
+        release.countDown();
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(executed, is(Arrays.asList("light", "heavy", "heavy", "heavy", "light", "light")));
+    }
+
+    @Test
+    public void shouldLimitConcurrencyOfRequestClass() throws Exception {
+        final Settings.RequestClassSettings serial = requestClass("serial", 1, 16);
+        serial.maxConcurrency = 1;
+        executorService = create(4, 0, serial);
+
+        final Object monitor = new Object();
+        final int[] running = new int[2];
+        final CountDownLatch done = new CountDownLatch(8);
+        RequestSchedulingExecutorService.setCurrentRequestClass("serial");
+        for (int ix = 0; ix < 8; ix++) {
+            executorService.execute(() -> {
+                synchronized (monitor) {
+                    running[0]++;
+                    running[1] = Math.max(running[0], running[1]);
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ignored) {
+                    // nothing to do
+                }
+                synchronized (monitor) {
+                    running[0]--;
+                }
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS), is(true));
+        synchronized (monitor) {
+            assertThat(running[1], is(1));
+        }
+    }
+
+    @Test(expected = RejectedExecutionException.class)
+    public void shouldRejectAfterShutdown() {
+        executorService = create(1, 0);
+        executorService.shutdown();
+        executorService.execute(() -> {});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowDuplicateRequestClassNames() {
+        create(1, 0, requestClass("dup", 1, 16), requestClass("dup", 1, 16));
+    }
+
+    private CountDownLatch block() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        executorService.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                // nothing to do
+            }
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        return release;
+    }
+
+    private static RequestSchedulingExecutorService create(final int threads, final long targetQueueTime,
+                                                           final Settings.RequestClassSettings... requestClasses) {
+        final Settings.SchedulerSettings settings = new Settings.SchedulerSettings();
+        settings.targetQueueTime = targetQueueTime;
+        settings.requestClasses.addAll(Arrays.asList(requestClasses));
+        return new RequestSchedulingExecutorService(threads, settings, ThreadFactoryUtil.create("test-%d"));
+    }
+
+    private static Settings.RequestClassSettings requestClass(final String name, final int weight, final int maxQueueSize) {
+        final Settings.RequestClassSettings settings = new Settings.RequestClassSettings();
+        settings.name = name;
+        settings.weight = weight;
+        settings.maxQueueSize = maxQueueSize;
+        return settings;
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.IgnoreEngine;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
@@ -40,6 +41,7 @@ import org.junit.Test;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
@@ -167,6 +169,26 @@ public class BulkLoaderVertexProgramTest extends AbstractGremlinProcessTest {
         result.close();
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldLoadInBatches() throws Exception {
+        final BulkLoaderVertexProgram blvp = BulkLoaderVertexProgram.build()
+                .loadBatchSize(4)
+                .writeGraph(getWriteGraphConfiguration()).create(graph);
+        final BulkLoader loader = getBulkLoader(blvp);
+        for (int iteration = 1; iteration <= 2; iteration++) {
+            final ComputerResult result = graphProvider.getGraphComputer(graph).workers(1).program(blvp).submit().get();
+            assertEquals(6L, (long) result.memory().get(BulkLoaderVertexProgram.LOADED_VERTICES));
+            assertEquals(6L, (long) result.memory().get(BulkLoaderVertexProgram.LOADED_EDGES));
+            assertEquals(1, result.memory().<Map>get(BulkLoaderVertexProgram.VERTEX_LOAD_RATES).size());
+            assertEquals(1, result.memory().<Map>get(BulkLoaderVertexProgram.EDGE_LOAD_RATES).size());
+            final Graph target = getWriteGraph();
+            assertEquals(6, IteratorUtils.count(target.edges()));
+            assertGraphEquality(graph, target, v -> v.value(loader.getVertexIdProperty()));
+            target.close();
+        }
+    }
+
     private static void assertGraphEquality(final Graph source, final Graph target) {
         assertGraphEquality(source, target, Element::id);
     }
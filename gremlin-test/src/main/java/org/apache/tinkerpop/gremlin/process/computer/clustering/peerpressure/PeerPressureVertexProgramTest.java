@@ -26,7 +26,9 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
@@ -60,4 +62,21 @@ public class PeerPressureVertexProgramTest extends AbstractGremlinProcessTest {
             assertTrue(result.memory().keys().contains("gremlin.peerPressureVertexProgram.voteToHalt"));  // this is private in PeerPressureVertexProgram (and that is okay)
         }*/
     }
-}
\ No newline at end of file
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePeerPressureIncrementally() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PeerPressureVertexProgram.build().create(graph))
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES).submit().get();
+            final Map<Object, Object> clusters = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> clusters.put(v.id(), v.value(PeerPressureVertexProgram.CLUSTER)));
+            assertEquals(6, clusters.size());
+            // the previous clusters are the seed and thus, the vertices vote to halt right away
+            final ComputerResult incrementalResult = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PeerPressureVertexProgram.build().incremental(true).create(graph))
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES).submit().get();
+            assertTrue(incrementalResult.memory().getIteration() <= result.memory().getIteration());
+            incrementalResult.graph().traversal().V().forEachRemaining(v -> assertEquals(clusters.get(v.id()), v.value(PeerPressureVertexProgram.CLUSTER)));
+        }
+    }
+}
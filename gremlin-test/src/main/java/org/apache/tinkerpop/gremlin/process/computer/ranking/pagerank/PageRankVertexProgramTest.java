@@ -25,6 +25,9 @@ import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
@@ -68,6 +71,32 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         }
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankToConvergenceAndIncrementally() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().epsilon(0.00001d).create(graph))
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES).submit().get();
+            assertTrue(result.memory().getIteration() < 30);
+            assertEquals(result.memory().asMap().size(), 0);
+            final Map<String, Double> pageRanks = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> pageRanks.put(v.value("name"), v.value(PageRankVertexProgram.PAGE_RANK)));
+            assertEquals(6, pageRanks.size());
+            assertEquals(0.15d, pageRanks.get("marko"), 0.01d);
+            assertEquals(0.19d, pageRanks.get("vadas"), 0.01d);
+            assertEquals(0.40d, pageRanks.get("lop"), 0.01d);
+            assertEquals(0.19d, pageRanks.get("josh"), 0.01d);
+            assertEquals(0.23d, pageRanks.get("ripple"), 0.01d);
+            assertEquals(0.15d, pageRanks.get("peter"), 0.01d);
+            // the previous ranks are the seed and thus, nothing changes
+            final ComputerResult incrementalResult = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(PageRankVertexProgram.build().epsilon(0.00001d).create(graph))
+                    .result(GraphComputer.ResultGraph.ORIGINAL).persist(GraphComputer.Persist.VERTEX_PROPERTIES).submit().get();
+            assertTrue(incrementalResult.memory().getIteration() < result.memory().getIteration());
+            incrementalResult.graph().traversal().V().forEachRemaining(v ->
+                    assertEquals(pageRanks.get(v.<String>value("name")), v.value(PageRankVertexProgram.PAGE_RANK), 0.0001d));
+        }
+    }
+
     /*@Test
     @LoadGraphWith(MODERN)
     public void shouldExecutePageRankWithNormalizedValues() throws Exception {
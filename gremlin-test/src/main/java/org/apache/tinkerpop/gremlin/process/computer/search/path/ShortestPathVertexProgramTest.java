@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.computer.search.path;
+
+import org.apache.tinkerpop.gremlin.LoadGraphWith;
+import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
+import static org.junit.Assert.assertEquals;
+
+public class ShortestPathVertexProgramTest extends AbstractGremlinProcessTest {
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteShortestPath() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().source(__.<Vertex>has("name", "marko").asAdmin()).create(graph)).submit().get();
+            final Map<String, List<List<Object>>> paths = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                if (v.property(ShortestPathVertexProgram.PATHS).isPresent())
+                    paths.put(v.value("name"), v.value(ShortestPathVertexProgram.PATHS));
+            });
+            assertEquals(4, paths.size());
+            assertEquals(Collections.singletonList(Arrays.asList(convertToVertexId("marko"), convertToVertexId("vadas"))), paths.get("vadas"));
+            assertEquals(Collections.singletonList(Arrays.asList(convertToVertexId("marko"), convertToVertexId("lop"))), paths.get("lop"));
+            assertEquals(Collections.singletonList(Arrays.asList(convertToVertexId("marko"), convertToVertexId("josh"))), paths.get("josh"));
+            assertEquals(Collections.singletonList(Arrays.asList(convertToVertexId("marko"), convertToVertexId("josh"), convertToVertexId("ripple"))), paths.get("ripple"));
+            assertEquals(0, result.memory().asMap().size());
+        }
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecuteBoundedShortestPath() throws Exception {
+        if (graphProvider.getGraphComputer(graph).features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(graphProvider.getGraphComputer(graph).getClass()).program(ShortestPathVertexProgram.build().maxDistance(1).target(__.<Vertex>hasLabel("software").asAdmin()).create(graph)).submit().get();
+            final Map<String, List<List<Object>>> paths = new HashMap<>();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                if (v.property(ShortestPathVertexProgram.PATHS).isPresent())
+                    paths.put(v.value("name"), v.value(ShortestPathVertexProgram.PATHS));
+            });
+            assertEquals(2, paths.size());
+            assertEquals(3, paths.get("lop").size());
+            assertEquals(Collections.singletonList(Arrays.asList(convertToVertexId("josh"), convertToVertexId("ripple"))), paths.get("ripple"));
+        }
+    }
+}
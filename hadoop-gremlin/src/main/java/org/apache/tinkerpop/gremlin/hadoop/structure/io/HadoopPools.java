@@ -43,7 +43,8 @@ public final class HadoopPools {
             GRYO_POOL = GryoPool.build().
                     poolSize(configuration.getInt(GryoPool.CONFIG_IO_GRYO_POOL_SIZE, 256)).
                     ioRegistries(configuration.getList(GryoPool.CONFIG_IO_REGISTRY, Collections.emptyList())).
-                    initializeMapper(m -> m.registrationRequired(false)).
+                    initializeMapper(m -> m.registrationRequired(false)
+                            .compactTraversers(configuration.getBoolean(GryoPool.CONFIG_IO_GRYO_COMPACT_TRAVERSERS, GryoPool.CONFIG_IO_GRYO_COMPACT_TRAVERSERS_DEFAULT))).
                     create();
         }
     }
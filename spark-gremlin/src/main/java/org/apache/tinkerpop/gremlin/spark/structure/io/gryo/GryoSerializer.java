@@ -66,6 +66,7 @@ public final class GryoSerializer extends Serializer {
         final long maxBufferSizeMb = sparkConfiguration.getSizeAsMb("spark.kryoserializer.buffer.max", "64m");
         final boolean referenceTracking = sparkConfiguration.getBoolean("spark.kryo.referenceTracking", true);
         final boolean registrationRequired = sparkConfiguration.getBoolean("spark.kryo.registrationRequired", false);
+        final boolean compactTraversers = sparkConfiguration.getBoolean(GryoPool.CONFIG_IO_GRYO_COMPACT_TRAVERSERS, GryoPool.CONFIG_IO_GRYO_COMPACT_TRAVERSERS_DEFAULT);
         if (bufferSizeKb >= ByteUnit.GiB.toKiB(2L)) {
             throw new IllegalArgumentException("spark.kryoserializer.buffer must be less than 2048 mb, got: " + bufferSizeKb + " mb.");
         } else {
@@ -105,7 +106,8 @@ public final class GryoSerializer extends Serializer {
                                 .addCustom(VertexWritable.class, new VertexWritableSerializer())
                                 .addCustom(ObjectWritable.class, new ObjectWritableSerializer())
                                 .referenceTracking(referenceTracking)
-                                .registrationRequired(registrationRequired);
+                                .registrationRequired(registrationRequired)
+                                .compactTraversers(compactTraversers);
                         // add these as we find ClassNotFoundExceptions
                     } catch (final ClassNotFoundException e) {
                         throw new IllegalStateException(e);
@@ -23,13 +23,18 @@ import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
 import org.apache.tinkerpop.gremlin.process.computer.MapReduce;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.traversal.strategy.optimization.GraphFilterStrategy;
 import org.apache.tinkerpop.gremlin.process.computer.util.ComputerGraph;
 import org.apache.tinkerpop.gremlin.process.computer.util.DefaultComputerResult;
 import org.apache.tinkerpop.gremlin.process.computer.util.GraphComputerHelper;
+import org.apache.tinkerpop.gremlin.process.computer.util.WorkerMemory;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LocalBarrier;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -62,6 +67,25 @@ public final class TinkerGraphComputer implements GraphComputer {
                 TraversalStrategies.GlobalCache.getStrategies(GraphComputer.class).clone().removeStrategies(GraphFilterStrategy.class));
     }
 
+    /**
+     * In asynchronous mode, the vertices that are messaged during an iteration (other than the first) are executed
+     * again within that same iteration until no more messages are sent and only then does the master synchronize the
+     * computation. Thus, a traverser that walks across many vertices does so without a master synchronization at
+     * every step and only the messaged vertices are visited. This mode is only available to
+     * {@link TraversalVertexProgram} which has no master logic between message passing iterations. It is not used for
+     * traversals with a {@link LocalBarrier} (e.g. {@code aggregate()} or {@code barrier()}) as the traversers that
+     * such a barrier parks at a vertex must not resume before the master has merged the barrier at the end of the
+     * iteration.
+     */
+    public static final String ASYNCHRONOUS = "tinkergraph.computer.asynchronous";
+
+    /**
+     * In columnar mode, the {@link TinkerGraphComputerView} stores the compute properties as one array per
+     * {@link org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey} indexed by a dense vertex ordinal and the
+     * legal vertices and edges of the {@link GraphFilter} as bitsets which requires far less memory for large graphs.
+     */
+    public static final String COLUMNAR = "tinkergraph.computer.columnar";
+
     private ResultGraph resultGraph = null;
     private Persist persist = null;
 
@@ -72,6 +96,8 @@ public final class TinkerGraphComputer implements GraphComputer {
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
     private int workers = Runtime.getRuntime().availableProcessors();
+    private boolean asynchronous = false;
+    private boolean columnar = false;
     private final GraphFilter graphFilter = new GraphFilter();
 
     private final ThreadFactory threadFactoryBoss = new BasicThreadFactory.Builder().namingPattern(TinkerGraphComputer.class.getSimpleName() + "-boss").build();
@@ -116,6 +142,19 @@ public final class TinkerGraphComputer implements GraphComputer {
         return this;
     }
 
+    /**
+     * Set {@link #ASYNCHRONOUS} to {@code true} to execute a {@link TraversalVertexProgram} asynchronously and
+     * {@link #COLUMNAR} to {@code true} to use the columnar {@link TinkerGraphComputerView}.
+     */
+    @Override
+    public GraphComputer configure(final String key, final Object value) {
+        if (key.equals(ASYNCHRONOUS))
+            this.asynchronous = value instanceof Boolean ? (Boolean) value : Boolean.valueOf(value.toString());
+        else if (key.equals(COLUMNAR))
+            this.columnar = value instanceof Boolean ? (Boolean) value : Boolean.valueOf(value.toString());
+        return this;
+    }
+
     @Override
     public GraphComputer vertices(final Traversal<Vertex, Vertex> vertexFilter) {
         this.graphFilter.setVertexFilter(vertexFilter);
@@ -160,28 +199,27 @@ public final class TinkerGraphComputer implements GraphComputer {
             final TinkerWorkerPool workers = new TinkerWorkerPool(this.workers);
             try {
                 if (null != this.vertexProgram) {
-                    view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, this.vertexProgram.getVertexComputeKeys());
+                    view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, this.vertexProgram.getVertexComputeKeys(), this.columnar);
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
+                    final boolean asynchronous = this.asynchronous && this.vertexProgram instanceof TraversalVertexProgram &&
+                            !TraversalHelper.hasStepOfAssignableClassRecursively(LocalBarrier.class, ((TraversalVertexProgram) this.vertexProgram).getTraversal().get());
                     while (true) {
                         if (Thread.interrupted()) throw new TraversalInterruptedException();
                         this.memory.completeSubRound();
                         workers.setVertexProgram(this.vertexProgram);
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
-                        workers.executeVertexProgram(vertexProgram -> {
-                            vertexProgram.workerIterationStart(this.memory.asImmutable());
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (Thread.interrupted()) throw new TraversalInterruptedException();
-                                if (null == vertex) break;
-                                vertexProgram.execute(
-                                        ComputerGraph.vertexProgram(vertex, vertexProgram),
-                                        new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
-                                        this.memory
-                                );
+                        // asynchronously process the vertices that were messaged without synchronizing at the master
+                        if (asynchronous && !this.memory.isInitialIteration()) {
+                            this.executeVertexProgram(workers, this.graph.vertices(), true, false);
+                            while (!this.messageBoard.sendMessages.isEmpty() &&
+                                    this.messageBoard.currentMessageScopes.stream().allMatch(scope -> scope instanceof MessageScope.Global)) {
+                                this.messageBoard.completeIteration();
+                                this.executeVertexProgram(workers, this.graph.vertices(this.messageBoard.receiveMessages.keySet().stream().map(vertex -> ((Vertex) vertex).id()).toArray()), false, false);
                             }
-                            vertexProgram.workerIterationEnd(this.memory.asImmutable());
-                        });
+                            // the workers end the iteration once after all of its passes
+                            this.executeVertexProgram(workers, Collections.emptyIterator(), false, true);
+                        } else
+                            this.executeVertexProgram(workers, this.graph.vertices(), true, true);
                         this.messageBoard.completeIteration();
                         this.memory.completeSubRound();
                         if (this.vertexProgram.terminate(this.memory)) {
@@ -194,7 +232,7 @@ public final class TinkerGraphComputer implements GraphComputer {
                     view.complete(); // drop all transient vertex compute keys
                 } else {
                     // MapReduce only
-                    view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, Collections.emptySet());
+                    view = TinkerHelper.createGraphComputerView(this.graph, this.graphFilter, Collections.emptySet(), this.columnar);
                 }
 
                 // execute mapreduce jobs
@@ -254,6 +292,27 @@ public final class TinkerGraphComputer implements GraphComputer {
         });
     }
 
+    private void executeVertexProgram(final TinkerWorkerPool workers, final Iterator<Vertex> vertexIterator,
+                                      final boolean iterationStart, final boolean iterationEnd) throws InterruptedException {
+        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(vertexIterator);
+        workers.executeVertexProgram(vertexProgram -> {
+            final WorkerMemory workerMemory = new WorkerMemory(this.memory, this.memory.memoryKeys);
+            if (iterationStart) vertexProgram.workerIterationStart(this.memory.asImmutable());
+            while (true) {
+                final Vertex vertex = vertices.next();
+                if (Thread.interrupted()) throw new TraversalInterruptedException();
+                if (null == vertex) break;
+                vertexProgram.execute(
+                        ComputerGraph.vertexProgram(vertex, vertexProgram),
+                        new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
+                        workerMemory
+                );
+            }
+            workerMemory.complete(); // combine the worker's memory with the memory of the other workers
+            if (iterationEnd) vertexProgram.workerIterationEnd(this.memory.asImmutable());
+        });
+    }
+
     @Override
     public String toString() {
         return StringFactory.graphComputerString(this);
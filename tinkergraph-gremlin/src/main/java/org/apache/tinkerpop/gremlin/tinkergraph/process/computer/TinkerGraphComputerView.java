@@ -30,15 +30,19 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerEdge;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertexProperty;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +51,15 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
+ * The view of a {@link TinkerGraph} during a {@link TinkerGraphComputer} job which holds the compute properties of
+ * the vertices and the vertices and edges that are legal according to the {@link GraphFilter}.
+ * <p/>
+ * In columnar mode, every vertex and edge is assigned a dense ordinal when the view is created. The compute
+ * properties are then stored as one array per {@link VertexComputeKey} that is indexed by the vertex ordinal and the
+ * legal vertices and edges are stored as bitsets indexed by the vertex and edge ordinals. Vertex properties are only
+ * created when a compute property is read. A compute key that has multiple values (or meta-properties) on a vertex is
+ * stored in the property map of the vertex just like in the default mode.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TinkerGraphComputerView {
@@ -58,23 +71,66 @@ public final class TinkerGraphComputerView {
     private final Map<Object, Set<Object>> legalEdges = new HashMap<>();
     private final GraphFilter graphFilter;
 
+    private final boolean columnar;
+    private TinkerVertex[] vertices;
+    private final Map<String, Object[]> columns = new HashMap<>();
+    private BitSet legalVertexOrdinals;
+    private BitSet legalOutEdgeOrdinals;
+    private BitSet legalInEdgeOrdinals;
+
     public TinkerGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys) {
+        this(graph, graphFilter, computeKeys, false);
+    }
+
+    public TinkerGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys, final boolean columnar) {
         this.graph = graph;
         this.computeKeys = new HashMap<>();
         computeKeys.forEach(key -> this.computeKeys.put(key.getKey(), key));
         this.computeProperties = new ConcurrentHashMap<>();
         this.graphFilter = graphFilter;
+        this.columnar = columnar;
+        if (this.columnar) {
+            final List<TinkerVertex> vertexList = new ArrayList<>();
+            graph.vertices().forEachRemaining(vertex -> {
+                TinkerHelper.setComputeOrdinal((TinkerVertex) vertex, vertexList.size());
+                vertexList.add((TinkerVertex) vertex);
+            });
+            this.vertices = vertexList.toArray(new TinkerVertex[vertexList.size()]);
+            this.computeKeys.keySet().forEach(key -> this.columns.put(key, new Object[this.vertices.length]));
+            if (this.graphFilter.hasEdgeFilter()) {
+                int ordinal = 0;
+                for (final Iterator<Edge> edges = graph.edges(); edges.hasNext(); ) {
+                    TinkerHelper.setComputeOrdinal((TinkerEdge) edges.next(), ordinal++);
+                }
+                this.legalOutEdgeOrdinals = new BitSet(ordinal);
+                this.legalInEdgeOrdinals = new BitSet(ordinal);
+            }
+            this.legalVertexOrdinals = new BitSet(this.vertices.length);
+        }
         if (this.graphFilter.hasFilter()) {
             graph.vertices().forEachRemaining(vertex -> {
                 boolean legalVertex = false;
                 if (this.graphFilter.hasVertexFilter() && this.graphFilter.legalVertex(vertex)) {
-                    this.legalVertices.add(vertex.id());
+                    if (this.columnar)
+                        this.legalVertexOrdinals.set(TinkerHelper.getComputeOrdinal((TinkerVertex) vertex));
+                    else
+                        this.legalVertices.add(vertex.id());
                     legalVertex = true;
                 }
                 if ((legalVertex || !this.graphFilter.hasVertexFilter()) && this.graphFilter.hasEdgeFilter()) {
-                    final Set<Object> edges = new HashSet<>();
-                    this.legalEdges.put(vertex.id(), edges);
-                    this.graphFilter.legalEdges(vertex).forEachRemaining(edge -> edges.add(edge.id()));
+                    if (this.columnar) {
+                        this.graphFilter.legalEdges(vertex).forEachRemaining(edge -> {
+                            final int ordinal = TinkerHelper.getComputeOrdinal((TinkerEdge) edge);
+                            if (edge.outVertex().id().equals(vertex.id()))
+                                this.legalOutEdgeOrdinals.set(ordinal);
+                            if (edge.inVertex().id().equals(vertex.id()))
+                                this.legalInEdgeOrdinals.set(ordinal);
+                        });
+                    } else {
+                        final Set<Object> edges = new HashSet<>();
+                        this.legalEdges.put(vertex.id(), edges);
+                        this.graphFilter.legalEdges(vertex).forEachRemaining(edge -> edges.add(edge.id()));
+                    }
                 }
             });
         }
@@ -83,12 +139,19 @@ public final class TinkerGraphComputerView {
     public <V> Property<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
         ElementHelper.validateProperty(key, value);
         if (isComputeKey(key)) {
-            final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>((TinkerVertex) vertex, key, value) {
-                @Override
-                public void remove() {
-                    removeProperty(vertex, key, this);
+            final TinkerVertexProperty<V> property = this.createProperty(vertex, key, value);
+            if (this.columnar) {
+                final Object[] column = this.columns.get(key);
+                final int ordinal = TinkerHelper.getComputeOrdinal(vertex);
+                if (null == column[ordinal] && this.getValue(vertex, key).isEmpty()) {
+                    column[ordinal] = value;
+                    return property;
+                } else if (null != column[ordinal]) {
+                    // the key is multi-valued on the vertex so move its value to the property map of the vertex
+                    this.addValue(vertex, key, this.createProperty(vertex, key, column[ordinal]));
+                    column[ordinal] = null;
                 }
-            };
+            }
             this.addValue(vertex, key, property);
             return property;
         } else {
@@ -98,7 +161,7 @@ public final class TinkerGraphComputerView {
 
     public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
         // if the vertex property is already on the vertex, use that.
-        final List<VertexProperty<?>> vertexProperty = this.getValue(vertex, key);
+        final List<VertexProperty<?>> vertexProperty = this.columnar ? this.getColumnValue(vertex, key) : this.getValue(vertex, key);
         return vertexProperty.isEmpty() ? (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList()) : vertexProperty;
         //return isComputeKey(key) ? this.getValue(vertex, key) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
     }
@@ -108,6 +171,13 @@ public final class TinkerGraphComputerView {
         final Stream<Property> b = this.computeProperties.containsKey(vertex) ?
                 this.computeProperties.get(vertex).values().stream().flatMap(list -> list.stream()) :
                 Stream.empty();
+        if (this.columnar) {
+            final int ordinal = TinkerHelper.getComputeOrdinal(vertex);
+            final Stream<Property> c = this.columns.entrySet().stream()
+                    .filter(column -> null != column.getValue()[ordinal])
+                    .map(column -> this.createProperty(vertex, column.getKey(), column.getValue()[ordinal]));
+            return Stream.concat(Stream.concat(a, b), c).collect(Collectors.toList());
+        }
         return Stream.concat(a, b).collect(Collectors.toList());
     }
 
@@ -120,17 +190,31 @@ public final class TinkerGraphComputerView {
     }
 
     public boolean legalVertex(final Vertex vertex) {
-        return !this.graphFilter.hasVertexFilter() || this.legalVertices.contains(vertex.id());
+        if (!this.graphFilter.hasVertexFilter())
+            return true;
+        else if (this.columnar)
+            return this.legalVertexOrdinals.get(TinkerHelper.getComputeOrdinal((TinkerVertex) vertex));
+        else
+            return this.legalVertices.contains(vertex.id());
     }
 
     public boolean legalEdge(final Vertex vertex, final Edge edge) {
-        return !this.graphFilter.hasEdgeFilter() || this.legalEdges.get(vertex.id()).contains(edge.id());
+        if (!this.graphFilter.hasEdgeFilter())
+            return true;
+        else if (this.columnar) {
+            final int ordinal = TinkerHelper.getComputeOrdinal((TinkerEdge) edge);
+            return (this.legalOutEdgeOrdinals.get(ordinal) && edge.outVertex().id().equals(vertex.id())) ||
+                    (this.legalInEdgeOrdinals.get(ordinal) && edge.inVertex().id().equals(vertex.id()));
+        } else
+            return this.legalEdges.get(vertex.id()).contains(edge.id());
     }
 
     protected void complete() {
         // remove all transient properties from the vertices
         for (final VertexComputeKey computeKey : this.computeKeys.values()) {
             if (computeKey.isTransient()) {
+                if (this.columnar)
+                    Arrays.fill(this.columns.get(computeKey.getKey()), null);
                 final List<VertexProperty<?>> toRemove = this.computeProperties.values().stream().flatMap(map -> map.getOrDefault(computeKey.getKey(), Collections.emptyList()).stream()).collect(Collectors.toList());
                 toRemove.forEach(VertexProperty::remove);
             }
@@ -191,6 +275,13 @@ public final class TinkerGraphComputerView {
 
     private void addPropertiesToOriginalGraph() {
         TinkerHelper.dropGraphComputerView(this.graph);
+        this.columns.forEach((key, column) -> {
+            for (int ordinal = 0; ordinal < column.length; ordinal++) {
+                if (null != column[ordinal])
+                    this.vertices[ordinal].property(VertexProperty.Cardinality.list, key, column[ordinal]);
+            }
+        });
+        this.columns.clear();
         this.computeProperties.forEach((element, properties) -> {
             properties.forEach((key, vertexProperties) -> {
                 vertexProperties.forEach(vertexProperty -> {
@@ -210,6 +301,39 @@ public final class TinkerGraphComputerView {
         return this.computeKeys.containsKey(key);
     }
 
+    private <V> TinkerVertexProperty<V> createProperty(final TinkerVertex vertex, final String key, final V value) {
+        return new TinkerVertexProperty<V>(vertex, key, value) {
+            @Override
+            public void remove() {
+                removeProperty(vertex, key, this);
+            }
+
+            @Override
+            public <U> Property<U> property(final String propertyKey, final U propertyValue) {
+                // meta-properties are only retained by the property map of the vertex
+                if (columnar) {
+                    final Object[] column = columns.get(key);
+                    final int ordinal = TinkerHelper.getComputeOrdinal(vertex);
+                    if (column[ordinal] == this.value()) {
+                        column[ordinal] = null;
+                        addValue(vertex, key, this);
+                    }
+                }
+                return super.property(propertyKey, propertyValue);
+            }
+        };
+    }
+
+    private List<VertexProperty<?>> getColumnValue(final TinkerVertex vertex, final String key) {
+        final Object[] column = this.columns.get(key);
+        if (null != column) {
+            final Object value = column[TinkerHelper.getComputeOrdinal(vertex)];
+            if (null != value)
+                return Collections.singletonList(this.createProperty(vertex, key, value));
+        }
+        return this.getValue(vertex, key);
+    }
+
     private void addValue(final Vertex vertex, final String key, final VertexProperty property) {
         final Map<String, List<VertexProperty<?>>> elementProperties = this.computeProperties.computeIfAbsent(vertex, k -> new ConcurrentHashMap<>());
         elementProperties.compute(key, (k, v) -> {
@@ -220,6 +344,14 @@ public final class TinkerGraphComputerView {
     }
 
     private void removeValue(final Vertex vertex, final String key, final VertexProperty property) {
+        if (this.columnar) {
+            final Object[] column = this.columns.get(key);
+            final int ordinal = TinkerHelper.getComputeOrdinal((TinkerVertex) vertex);
+            if (null != column[ordinal]) {
+                column[ordinal] = null;
+                return;
+            }
+        }
         this.computeProperties.computeIfPresent(vertex, (k, v) -> {
             v.computeIfPresent(key, (k1, v1) -> {
                 v1.remove(property);
@@ -43,6 +43,7 @@ public final class TinkerEdge extends TinkerElement implements Edge {
     protected Map<String, Property> properties;
     protected final Vertex inVertex;
     protected final Vertex outVertex;
+    protected int computeOrdinal;
 
     protected TinkerEdge(final Object id, final Vertex outVertex, final String label, final Vertex inVertex) {
         super(id, label);
@@ -91,7 +92,8 @@ public final class TinkerEdge extends TinkerElement implements Edge {
         }
 
         TinkerHelper.removeElementIndex(this);
-        ((TinkerGraph) this.graph()).edges.remove(this.id());
+        if (null != ((TinkerGraph) this.graph()).edges.remove(this.id()))
+            ((TinkerGraph) this.graph()).statistics.removeElement(this);
         this.properties = null;
         this.removed = true;
     }
@@ -22,16 +22,23 @@ import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.GraphStatistics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.IoCore;
+import org.apache.tinkerpop.gremlin.structure.util.BatchAdjacencyProvider;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.tinkerpop.gremlin.structure.util.ParallelScanProvider;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
@@ -39,7 +46,9 @@ import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optim
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -70,7 +79,7 @@ import java.util.stream.Stream;
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_ENVIRONMENT_INTEGRATE)
 @Graph.OptIn(Graph.OptIn.SUITE_GROOVY_ENVIRONMENT_PERFORMANCE)
 @Graph.OptIn("org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.TinkerGraphStrategySuite")
-public final class TinkerGraph implements Graph {
+public final class TinkerGraph implements Graph, GraphStatistics.Provider, BatchAdjacencyProvider, ParallelScanProvider {
 
     static {
         TraversalStrategies.GlobalCache.registerStrategies(TinkerGraph.class, TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone().addStrategies(TinkerGraphStepStrategy.instance()));
@@ -128,6 +137,7 @@ public final class TinkerGraph implements Graph {
     protected TinkerGraphComputerView graphComputerView = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
+    protected final TinkerGraphStatistics statistics = new TinkerGraphStatistics(this);
 
     protected final IdManager<?> vertexIdManager;
     protected final IdManager<?> edgeIdManager;
@@ -205,6 +215,7 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        this.statistics.addElement(vertex);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -246,9 +257,66 @@ public final class TinkerGraph implements Graph {
         this.currentId.set(-1l);
         this.vertexIndex = null;
         this.edgeIndex = null;
+        this.statistics.clear();
         this.graphComputerView = null;
     }
 
+    /**
+     * Gets the {@link GraphStatistics} of this graph which cost-based optimizations (e.g.
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep.CostMatchAlgorithm}) consult.
+     */
+    @Override
+    public TinkerGraphStatistics statistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Resolves the adjacency of a batch of vertices. As the graph is in-memory this is a single pass over the batch
+     * and it serves as the reference implementation (and benchmark baseline) of {@link BatchAdjacencyProvider}.
+     */
+    @Override
+    public <E extends Element> List<Iterator<E>> adjacent(final List<Vertex> vertices, final Class<E> returnClass, final Direction direction, final String... edgeLabels) {
+        final boolean returnsVertex = Vertex.class.isAssignableFrom(returnClass);
+        final List<Iterator<E>> adjacent = new ArrayList<>(vertices.size());
+        for (final Vertex vertex : vertices) {
+            adjacent.add(returnsVertex ?
+                    (Iterator<E>) vertex.vertices(direction, edgeLabels) :
+                    (Iterator<E>) vertex.edges(direction, edgeLabels));
+        }
+        return adjacent;
+    }
+
+    @Override
+    public List<Iterator<?>> properties(final List<Element> elements, final PropertyType returnType, final String... propertyKeys) {
+        final boolean values = PropertyType.VALUE == returnType;
+        final List<Iterator<?>> properties = new ArrayList<>(elements.size());
+        for (final Element element : elements) {
+            properties.add(values ? element.values(propertyKeys) : element.properties(propertyKeys));
+        }
+        return properties;
+    }
+
+    /**
+     * Splits the elements of a start step into contiguous ranges. Full scans are split over a snapshot of the vertex
+     * (or edge) map while id and index lookups are split over the elements the step resolves.
+     */
+    @Override
+    public <E extends Element> List<Iterator<E>> split(final GraphStep<?, E> graphStep, final int splits) {
+        final boolean fullScan = graphStep.getIds().length == 0 &&
+                (!(graphStep instanceof HasContainerHolder) || ((HasContainerHolder) graphStep).getHasContainers().isEmpty());
+        final List<E> elements;
+        if (fullScan)
+            elements = new ArrayList<>((Collection<E>) (graphStep.returnsVertex() ? this.vertices.values() : this.edges.values()));
+        else
+            elements = null == graphStep.getIteratorSupplier() ? Collections.emptyList() : IteratorUtils.list(graphStep.getIteratorSupplier().get());
+        final int size = (elements.size() + splits - 1) / splits;
+        final List<Iterator<E>> ranges = new ArrayList<>(splits);
+        for (int i = 0; i < elements.size(); i = i + size) {
+            ranges.add(elements.subList(i, Math.min(i + size, elements.size())).iterator());
+        }
+        return ranges;
+    }
+
     @Override
     public void close() {
         if (graphLocation != null) saveGraph();
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.GraphStatistics;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link GraphStatistics} of a {@link TinkerGraph}. Element counts per label are maintained as elements are added
+ * and removed and equality tests on indexed keys are estimated from the size of the index entry.
+ */
+public final class TinkerGraphStatistics implements GraphStatistics {
+
+    private final TinkerGraph graph;
+    private final Map<String, AtomicLong> vertexLabelCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> edgeLabelCounts = new ConcurrentHashMap<>();
+
+    TinkerGraphStatistics(final TinkerGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public long count(final Class<? extends Element> elementClass, final String... labels) {
+        final boolean vertex = Vertex.class.isAssignableFrom(elementClass);
+        if (0 == labels.length)
+            return vertex ? this.graph.vertices.size() : this.graph.edges.size();
+        final Map<String, AtomicLong> counts = vertex ? this.vertexLabelCounts : this.edgeLabelCounts;
+        long count = 0l;
+        for (final String label : labels) {
+            final AtomicLong labelCount = counts.get(label);
+            if (null != labelCount)
+                count = count + labelCount.get();
+        }
+        return count;
+    }
+
+    @Override
+    public double selectivity(final Class<? extends Element> elementClass, final HasContainer hasContainer) {
+        if (hasContainer.getBiPredicate() == Compare.eq && this.graph.getIndexedKeys(elementClass).contains(hasContainer.getKey())) {
+            final long total = this.count(elementClass);
+            if (0 == total)
+                return 0.0d;
+            final int hits = Vertex.class.isAssignableFrom(elementClass) ?
+                    TinkerHelper.queryVertexIndex(this.graph, hasContainer.getKey(), hasContainer.getValue()).size() :
+                    TinkerHelper.queryEdgeIndex(this.graph, hasContainer.getKey(), hasContainer.getValue()).size();
+            return (double) hits / (double) total;
+        }
+        return GraphStatistics.super.selectivity(elementClass, hasContainer);
+    }
+
+    void addElement(final Element element) {
+        (element instanceof Edge ? this.edgeLabelCounts : this.vertexLabelCounts).computeIfAbsent(element.label(), label -> new AtomicLong()).incrementAndGet();
+    }
+
+    void removeElement(final Element element) {
+        final AtomicLong count = (element instanceof Edge ? this.edgeLabelCounts : this.vertexLabelCounts).get(element.label());
+        if (null != count)
+            count.decrementAndGet();
+    }
+
+    void clear() {
+        this.vertexLabelCounts.clear();
+        this.edgeLabelCounts.clear();
+    }
+}
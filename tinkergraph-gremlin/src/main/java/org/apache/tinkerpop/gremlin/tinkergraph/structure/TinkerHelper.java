@@ -64,6 +64,7 @@ public final class TinkerHelper {
         edge = new TinkerEdge(idValue, outVertex, label, inVertex);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
+        graph.statistics.addElement(edge);
         TinkerHelper.addOutEdge(outVertex, label, edge);
         TinkerHelper.addInEdge(inVertex, label, edge);
         return edge;
@@ -103,7 +104,11 @@ public final class TinkerHelper {
     }
 
     public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys) {
-        return graph.graphComputerView = new TinkerGraphComputerView(graph, graphFilter, computeKeys);
+        return createGraphComputerView(graph, graphFilter, computeKeys, false);
+    }
+
+    public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final GraphFilter graphFilter, final Set<VertexComputeKey> computeKeys, final boolean columnar) {
+        return graph.graphComputerView = new TinkerGraphComputerView(graph, graphFilter, computeKeys, columnar);
     }
 
     public static TinkerGraphComputerView getGraphComputerView(final TinkerGraph graph) {
@@ -114,6 +119,28 @@ public final class TinkerHelper {
         graph.graphComputerView = null;
     }
 
+    /**
+     * The dense ordinal of the vertex in the columnar {@link TinkerGraphComputerView}.
+     */
+    public static int getComputeOrdinal(final TinkerVertex vertex) {
+        return vertex.computeOrdinal;
+    }
+
+    public static void setComputeOrdinal(final TinkerVertex vertex, final int ordinal) {
+        vertex.computeOrdinal = ordinal;
+    }
+
+    /**
+     * The dense ordinal of the edge in the columnar {@link TinkerGraphComputerView}.
+     */
+    public static int getComputeOrdinal(final TinkerEdge edge) {
+        return edge.computeOrdinal;
+    }
+
+    public static void setComputeOrdinal(final TinkerEdge edge, final int ordinal) {
+        edge.computeOrdinal = ordinal;
+    }
+
     public static Map<String, List<VertexProperty>> getProperties(final TinkerVertex vertex) {
         return null == vertex.properties ? Collections.emptyMap() : vertex.properties;
     }
@@ -46,6 +46,7 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     protected Map<String, Set<Edge>> outEdges;
     protected Map<String, Set<Edge>> inEdges;
     private final TinkerGraph graph;
+    protected int computeOrdinal;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
         super(id, label);
@@ -132,7 +133,8 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         edges.stream().filter(edge -> !((TinkerEdge) edge).removed).forEach(Edge::remove);
         this.properties = null;
         TinkerHelper.removeElementIndex(this);
-        this.graph.vertices.remove(this.id);
+        if (null != this.graph.vertices.remove(this.id))
+            this.graph.statistics.removeElement(this);
         this.removed = true;
     }
 
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.branch.ParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelStrategyTest {
+
+    private static GraphTraversalSource generate() {
+        final Graph graph = TinkerGraph.open();
+        final Random random = new Random(42);
+        final Vertex[] vertices = new Vertex[500];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = graph.addVertex(T.label, i % 3 == 0 ? "person" : "software", "name", "v" + i, "age", random.nextInt(80));
+        }
+        for (int i = 0; i < 2000; i++) {
+            vertices[random.nextInt(vertices.length)].addEdge(random.nextBoolean() ? "knows" : "created", vertices[random.nextInt(vertices.length)], "weight", random.nextDouble());
+        }
+        return graph.traversal();
+    }
+
+    @Test
+    public void shouldYieldTheSameResultsInParallel() {
+        final GraphTraversalSource g = generate();
+        final GraphTraversalSource p = g.withParallelism(4);
+        assertEquals(g.V().count().next(), p.V().count().next());
+        assertEquals(g.E().count().next(), p.E().count().next());
+        assertEquals(g.V().out().out().count().next(), p.V().out().out().count().next());
+        assertEquals(g.V().hasLabel("person").out("knows").values("age").sum().next(), p.V().hasLabel("person").out("knows").values("age").sum().next());
+        assertEquals(g.V().out().values("age").mean().next(), p.V().out().values("age").mean().next());
+        assertEquals(g.V().out().values("age").max().next(), p.V().out().values("age").max().next());
+        assertEquals(g.V().out().groupCount().by("name").next(), p.V().out().groupCount().by("name").next());
+        assertEquals(g.V().group().by(T.label).by(__.out().values("name").order().fold()).next(), p.V().group().by(T.label).by(__.out().values("name").order().fold()).next());
+        assertEquals(g.V().group().by("age").by(__.count()).next(), p.V().group().by("age").by(__.count()).next());
+        assertEquals(g.V().values("name").fold().next(), p.V().values("name").fold().next());
+        assertEquals(g.V().has("age", 10).values("name").fold().next(), p.V().has("age", 10).values("name").fold().next());
+        assertEquals(g.V().out().order().by("age").by("name", Order.decr).values("name").toList(), p.V().out().order().by("age").by("name", Order.decr).values("name").toList());
+        assertEquals(g.E().has("weight", 0.5d).count().next(), p.E().has("weight", 0.5d).count().next());
+        assertEquals(g.V().count().as("c").select("c").toList(), p.V().count().as("c").select("c").toList());
+    }
+
+    @Test
+    public void shouldYieldTheSameResultsOnAnEmptyGraph() {
+        final GraphTraversalSource g = TinkerGraph.open().traversal();
+        assertEquals(0l, g.withParallelism(4).V().count().next().longValue());
+        assertTrue(g.withParallelism(4).V().fold().next().isEmpty());
+        assertFalse(g.withParallelism(4).V().order().by("name").hasNext());
+    }
+
+    @Test
+    public void shouldOnlyWrapLinearPrefixes() {
+        final GraphTraversalSource p = generate().withParallelism(4);
+        assertTrue(isParallel(p.V().out().count()));
+        assertTrue(isParallel(p.V().has("name", "v1").values("age").fold()));
+        assertTrue(isParallel(p.V().order().by("age")));
+        assertFalse(isParallel(p.V().out()));
+        assertFalse(isParallel(p.V().limit(10).count()));
+        assertFalse(isParallel(p.V().dedup().count()));
+        assertFalse(isParallel(p.V().as("a").out().count()));
+        assertFalse(isParallel(p.V().out().path().count()));
+        assertFalse(isParallel(p.V().aggregate("x").count()));
+        assertFalse(isParallel(p.V().map(t -> t.get()).count()));
+        assertFalse(isParallel(p.V().property("touched", true).count()));
+        assertFalse(isParallel(p.inject(1).count()));
+        assertFalse(isParallel(generate().V().count()));
+    }
+
+    private static boolean isParallel(final Traversal<?, ?> traversal) {
+        traversal.asAdmin().applyStrategies();
+        return TraversalHelper.hasStepOfClass(ParallelStep.class, traversal.asAdmin());
+    }
+}
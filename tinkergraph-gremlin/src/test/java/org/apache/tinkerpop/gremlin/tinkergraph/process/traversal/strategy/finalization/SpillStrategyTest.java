@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.finalization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.SpillStrategy;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.count;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.values;
+import static org.junit.Assert.assertEquals;
+
+public class SpillStrategyTest {
+
+    @Rule
+    public TemporaryFolder spillFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldOrderTheSameWithAndWithoutSpilling() {
+        final Graph graph = TinkerGraph.open();
+        final Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(T.label, "event", "ts", random.nextInt(100), "name", "e" + i);
+        }
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource spilling = g.withStrategies(SpillStrategy.build().threshold(64).directory(this.spillFolder.getRoot().getAbsolutePath()).create());
+        assertEquals(g.V().order().by("ts").by("name", Order.decr).values("name").toList(),
+                spilling.V().order().by("ts").by("name", Order.decr).values("name").toList());
+        assertEquals(g.V().values("ts").order().toList(), spilling.V().values("ts").order().toList());
+        assertEquals(g.V().order().by("ts").by("name").limit(10).id().toList(), spilling.V().order().by("ts").by("name").limit(10).id().toList());
+        assertEquals(0, this.spillFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldGroupTheSameWithAndWithoutSpilling() {
+        final Graph graph = TinkerGraph.open();
+        final Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            graph.addVertex(T.label, "event", "ts", random.nextInt(100), "name", "e" + i);
+        }
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource spilling = g.withStrategies(SpillStrategy.build().threshold(64).directory(this.spillFolder.getRoot().getAbsolutePath()).create());
+        assertEquals(g.V().group().by("ts").by(count()).next(), spilling.V().group().by("ts").by(count()).next());
+        assertEquals(g.V().group().by("ts").by("name").next(), spilling.V().group().by("ts").by("name").next());
+        assertEquals(g.V().group().by("ts").by(values("name").order().fold()).next(), spilling.V().group().by("ts").by(values("name").order().fold()).next());
+        assertEquals(g.V().group().by("ts").by(values("ts").sum()).next(), spilling.V().group().by("ts").by(values("ts").sum()).next());
+        assertEquals(0, this.spillFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldReattachSpilledElements() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+        final GraphTraversalSource spilling = g.withStrategies(SpillStrategy.build().threshold(2).directory(this.spillFolder.getRoot().getAbsolutePath()).create());
+        final List<Vertex> vertices = spilling.V().hasLabel("person").order().by("age", Order.decr).toList();
+        assertEquals(g.V().hasLabel("person").order().by("age", Order.decr).toList(), vertices);
+        vertices.forEach(vertex -> assertEquals(TinkerVertex.class, vertex.getClass()));
+        assertEquals(g.V().hasLabel("person").order().by("age").out().values("name").toList(),
+                spilling.V().hasLabel("person").order().by("age").out().values("name").toList());
+        final Map<Object, List<Vertex>> groups = spilling.V().<Object, List<Vertex>>group().by(T.label).next();
+        assertEquals(g.V().<Object, List<Vertex>>group().by(T.label).next(), groups);
+        groups.values().forEach(vertices -> vertices.forEach(vertex -> assertEquals(TinkerVertex.class, vertex.getClass())));
+        assertEquals(0, this.spillFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldNotSpillWhenPathsAreRequired() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal();
+        final GraphTraversalSource spilling = g.withStrategies(SpillStrategy.build().threshold(2).directory(this.spillFolder.getRoot().getAbsolutePath()).create());
+        assertEquals(g.V().as("a").out().order().by("name").by(T.id).select("a").toList(),
+                spilling.V().as("a").out().order().by("name").by(T.id).select("a").toList());
+        assertEquals(0, this.spillFolder.getRoot().list().length);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.ShortestPathStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.ShortestPathStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.both;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.hasId;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ShortestPathStrategyTest {
+
+    @Test
+    public void shouldFindShortestPathInModern() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal().withStrategies(ShortestPathStrategy.instance());
+        final GraphTraversal<Vertex, Path> traversal = g.V(1).repeat(both().simplePath()).until(hasId(6)).limit(1).path();
+        traversal.asAdmin().applyStrategies();
+        assertTrue(TraversalHelper.hasStepOfClass(ShortestPathStep.class, traversal.asAdmin()));
+        assertEquals(Arrays.asList(1, 3, 6), ids(traversal.next()));
+        assertFalse(traversal.hasNext());
+        // an id of a type that can not be looked up falls back to a unidirectional search
+        assertEquals(Arrays.asList(1, 3, 6), ids(g.V(1).repeat(both().simplePath()).until(hasId(6l)).path().limit(1).next()));
+        assertEquals(Arrays.asList("marko", "lop", "peter"), g.V().has("name", "marko").as("a").repeat(both().simplePath()).until(hasId(6)).limit(1).path().next().objects().stream().map(v -> ((Vertex) v).value("name")).collect(Collectors.toList()));
+        assertFalse(g.V(2).repeat(out().simplePath()).until(hasId(6)).limit(1).path().hasNext());
+        assertFalse(g.V(1).out("created").in("created").repeat(both().simplePath()).until(hasId(4)).limit(1).path().hasNext());
+        assertFalse(g.V(1).repeat(both().simplePath()).until(hasId()).limit(1).path().hasNext());
+    }
+
+    @Test
+    public void shouldNotBeRegisteredByDefault() {
+        final GraphTraversal<Vertex, Path> traversal = TinkerFactory.createModern().traversal().V(1).repeat(both().simplePath()).until(hasId(6)).limit(1).path();
+        traversal.asAdmin().applyStrategies();
+        assertFalse(TraversalHelper.hasStepOfClass(ShortestPathStep.class, traversal.asAdmin()));
+    }
+
+    @Test
+    public void shouldNotOptimizeOtherRepeats() {
+        final GraphTraversalSource g = TinkerFactory.createModern().traversal().withStrategies(ShortestPathStrategy.instance());
+        for (final GraphTraversal<?, ?> traversal : Arrays.<GraphTraversal<?, ?>>asList(
+                g.V(1).repeat(both().simplePath()).until(hasId(6)).limit(2).path(),
+                g.V(1).repeat(both().simplePath()).emit().until(hasId(6)).limit(1).path(),
+                g.V(1).repeat(both().simplePath()).until(hasId(6)).path().by("name").limit(1),
+                g.V(1).until(hasId(6)).repeat(both().simplePath()).limit(1).path(),
+                g.V(1).repeat(both().simplePath().as("x")).until(hasId(6)).limit(1).path())) {
+            traversal.asAdmin().applyStrategies();
+            assertFalse(TraversalHelper.hasStepOfClass(ShortestPathStep.class, traversal.asAdmin()));
+        }
+    }
+
+    @Test
+    public void shouldFindPathsAsShortAsAllSimplePaths() {
+        final Graph graph = TinkerGraph.open();
+        final Random random = new Random(17);
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            vertices.add(graph.addVertex(T.id, i));
+        }
+        for (int i = 0; i < 25; i++) {
+            vertices.get(random.nextInt(15)).addEdge("link", vertices.get(random.nextInt(15)));
+        }
+        final GraphTraversalSource unoptimized = graph.traversal();
+        final GraphTraversalSource g = unoptimized.withStrategies(ShortestPathStrategy.instance());
+        for (int source = 0; source < 15; source++) {
+            for (int target = 0; target < 15; target++) {
+                final List<Path> shortest = g.V(source).repeat(out().simplePath()).until(hasId(target)).limit(1).path().toList();
+                final int expected = unoptimized.V(source).repeat(out().simplePath()).until(hasId(target)).path().toList().stream().mapToInt(Path::size).min().orElse(-1);
+                assertEquals(-1 == expected ? 0 : 1, shortest.size());
+                if (!shortest.isEmpty()) {
+                    final Path path = shortest.get(0);
+                    assertEquals(expected, path.size());
+                    assertTrue(path.isSimple());
+                    assertEquals(source, ((Vertex) path.get(0)).id());
+                    assertEquals(target, ((Vertex) path.get(path.size() - 1)).id());
+                    for (int i = 1; i < path.size(); i++) {
+                        assertTrue(g.V(((Vertex) path.get(i - 1)).id()).out().hasId(((Vertex) path.get(i)).id()).hasNext());
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Object> ids(final Path path) {
+        final List<Object> ids = new ArrayList<>();
+        path.forEach(object -> ids.add(((Vertex) object).id()));
+        return ids;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Batching;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.PropertiesStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.PropertyType;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.BatchAdjacencyProvider;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerGraphBatchAdjacencyTest {
+
+    @Test
+    public void shouldResolveAdjacencyOfManyVertices() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        assertTrue(BatchAdjacencyProvider.of(graph).isPresent());
+        final List<Vertex> vertices = Arrays.asList(graph.vertices(1).next(), graph.vertices(4).next(), graph.vertices(2).next());
+        final List<Iterator<Vertex>> adjacent = graph.adjacent(vertices, Vertex.class, Direction.OUT, "created");
+        assertEquals(3, adjacent.size());
+        assertEquals(1, IteratorUtils.count(adjacent.get(0)));
+        assertEquals(2, IteratorUtils.count(adjacent.get(1)));
+        assertEquals(0, IteratorUtils.count(adjacent.get(2)));
+        final List<Iterator<Edge>> edges = graph.adjacent(vertices, Edge.class, Direction.BOTH);
+        assertEquals(3, IteratorUtils.count(edges.get(0)));
+        final List<Iterator<?>> names = graph.properties(new ArrayList<>(vertices), PropertyType.VALUE, "name");
+        assertEquals("marko", names.get(0).next());
+        assertEquals("josh", names.get(1).next());
+        assertEquals("vadas", names.get(2).next());
+    }
+
+    @Test
+    public void shouldFeedLazyBarriersIntoBatchedLookups() {
+        final TinkerGraph graph = TinkerGraph.open();
+        final Random random = new Random(11);
+        final List<Vertex> vertices = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            vertices.add(graph.addVertex(T.id, i, "name", "v" + i));
+        }
+        for (int i = 0; i < 300; i++) {
+            vertices.get(random.nextInt(50)).addEdge("link", vertices.get(random.nextInt(50)));
+        }
+        final GraphTraversalSource g = graph.traversal();
+        final Traversal.Admin<Vertex, Object> traversal = g.withStrategies(LazyBarrierStrategy.instance()).V().out().out().out().values("name").asAdmin();
+        traversal.applyStrategies();
+        int batched = 0;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step.getPreviousStep() instanceof NoOpBarrierStep && (step instanceof VertexStep || step instanceof PropertiesStep)) {
+                assertEquals(graph.getBatchSize(), ((Batching) step).getBatchSize());
+                batched++;
+            }
+        }
+        assertTrue(batched > 0);
+        final List<Object> expected = g.V().out().out().out().values("name").toList();
+        final List<Object> actual = traversal.toList();
+        assertEquals(expected.size(), actual.size());
+        expected.sort((a, b) -> a.toString().compareTo(b.toString()));
+        actual.sort((a, b) -> a.toString().compareTo(b.toString()));
+        assertEquals(expected, actual);
+    }
+}
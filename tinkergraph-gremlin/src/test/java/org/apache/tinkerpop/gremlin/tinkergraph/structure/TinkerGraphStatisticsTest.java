@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MatchStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.MatchAlgorithmStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.GraphStatistics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TinkerGraphStatisticsTest {
+
+    @Test
+    public void shouldMaintainLabelCounts() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphStatistics statistics = GraphStatistics.of(graph).get();
+        assertEquals(6l, statistics.count(Vertex.class));
+        assertEquals(4l, statistics.count(Vertex.class, "person"));
+        assertEquals(6l, statistics.count(Vertex.class, "person", "software"));
+        assertEquals(2l, statistics.count(Edge.class, "knows"));
+        assertEquals(1.0d, statistics.averageDegree(Direction.OUT), 0.0001d);
+        assertEquals(2.0d / 3.0d, statistics.averageDegree(Direction.BOTH, "knows"), 0.0001d);
+        graph.vertices(1).next().remove();
+        assertEquals(3l, statistics.count(Vertex.class, "person"));
+        assertEquals(0l, statistics.count(Edge.class, "knows"));
+        assertEquals(3l, statistics.count(Edge.class, "created"));
+        graph.clear();
+        assertEquals(0l, statistics.count(Vertex.class, "person"));
+        assertEquals(0l, statistics.count(Edge.class));
+    }
+
+    @Test
+    public void shouldEstimateSelectivity() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphStatistics statistics = graph.statistics();
+        assertEquals(4.0d / 6.0d, statistics.selectivity(Vertex.class, new HasContainer(T.label.getAccessor(), P.eq("person"))), 0.0001d);
+        assertEquals(1.0d / 6.0d, statistics.selectivity(Vertex.class, new HasContainer(T.id.getAccessor(), P.eq(1))), 0.0001d);
+        assertEquals(1.0d, statistics.selectivity(Vertex.class, new HasContainer("name", P.eq("marko"))), 0.0001d);
+        graph.createIndex("name", Vertex.class);
+        assertEquals(1.0d / 6.0d, statistics.selectivity(Vertex.class, new HasContainer("name", P.eq("marko"))), 0.0001d);
+    }
+
+    @Test
+    public void shouldOrderPatternsByEstimatedCost() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final Traversal.Admin<?, ?> traversal = g.V().match(
+                as("a").both().as("b"),
+                as("a").out("knows").as("c")).asAdmin();
+        traversal.applyStrategies();
+        final List<Traversal.Admin<Object, Object>> patterns = TraversalHelper.getStepsOfClass(MatchStep.class, traversal).get(0).getGlobalChildren();
+        assertEquals(2.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(0), graph.statistics()), 0.0001d);
+        assertEquals(1.0d / 3.0d, MatchStep.CostMatchAlgorithm.estimate(patterns.get(1), graph.statistics()), 0.0001d);
+
+        final GraphTraversalSource costed = g.withStrategies(MatchAlgorithmStrategy.build().algorithm(MatchStep.CostMatchAlgorithm.class).create());
+        final List<Map<String, Object>> expected = g.V().match(
+                as("a").out("created").as("b"),
+                as("b").in("created").as("c"),
+                as("c").has("name", "peter")).<Object>select("a", "b", "c").toList();
+        final List<Map<String, Object>> actual = costed.V().match(
+                as("a").out("created").as("b"),
+                as("b").in("created").as("c"),
+                as("c").has("name", "peter")).<Object>select("a", "b", "c").toList();
+        assertEquals(expected.size(), actual.size());
+        assertTrue(expected.containsAll(actual));
+    }
+}
@@ -21,12 +21,23 @@ package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.tinkerpop.gremlin.TestHelper;
+import org.apache.tinkerpop.gremlin.process.computer.Computer;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.GraphFilter;
+import org.apache.tinkerpop.gremlin.process.computer.VertexComputeKey;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.Io;
 import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
@@ -39,6 +50,8 @@ import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoClassResolver;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.apache.tinkerpop.shaded.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.shaded.kryo.ClassResolver;
@@ -59,14 +72,17 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -473,6 +489,68 @@ public class TinkerGraphTest {
         assertEquals(TestIoBuilder.calledCreate, 1);
     }
 
+    @Test
+    public void shouldExecuteTraversalVertexProgramAsynchronously() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final ComputerResult synchronous = graph.compute(TinkerGraphComputer.class)
+                .program(TraversalVertexProgram.build().traversal(graph.traversal().V().both().both().both().both().groupCount().by(T.label).asAdmin()).create(graph))
+                .submit().get();
+        final ComputerResult asynchronous = graph.compute(TinkerGraphComputer.class)
+                .configure(TinkerGraphComputer.ASYNCHRONOUS, true)
+                .program(TraversalVertexProgram.build().traversal(graph.traversal().V().both().both().both().both().groupCount().by(T.label).asAdmin()).create(graph))
+                .submit().get();
+        final TraverserSet<Object> expected = synchronous.memory().get(TraversalVertexProgram.HALTED_TRAVERSERS);
+        final TraverserSet<Object> actual = asynchronous.memory().get(TraversalVertexProgram.HALTED_TRAVERSERS);
+        assertEquals(1, actual.size());
+        assertEquals(expected.iterator().next().get(), actual.iterator().next().get());
+        assertEquals(4, synchronous.memory().getIteration());
+        assertEquals(2, asynchronous.memory().getIteration());
+    }
+
+    @Test
+    public void shouldNotResumeLocalBarrierTraversersAsynchronously() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphTraversalSource g = graph.traversal();
+        final GraphTraversalSource synchronous = graph.traversal().withComputer(TinkerGraphComputer.class);
+        final GraphTraversalSource asynchronous = graph.traversal().withComputer(Computer.compute(TinkerGraphComputer.class).configure(TinkerGraphComputer.ASYNCHRONOUS, true));
+        final List<Function<GraphTraversalSource, GraphTraversal<Vertex, ?>>> traversals = Arrays.asList(
+                s -> s.V().both().aggregate("x").both().where(P.within("x")).count(),
+                s -> s.V().out().aggregate("x").in().both().where(P.without("x")).groupCount().by(T.label),
+                s -> s.V().both().barrier().both().both().groupCount().by(T.label));
+        for (final Function<GraphTraversalSource, GraphTraversal<Vertex, ?>> traversal : traversals) {
+            final List<?> expected = traversal.apply(g).toList();
+            assertEquals(expected, traversal.apply(synchronous).toList());
+            assertEquals(expected, traversal.apply(asynchronous).toList());
+        }
+    }
+
+    @Test
+    public void shouldStoreComputePropertiesInColumnarGraphComputerView() {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final GraphFilter graphFilter = new GraphFilter();
+        graphFilter.setEdgeFilter(__.outE("created"));
+        final TinkerGraphComputerView view = TinkerHelper.createGraphComputerView(graph, graphFilter,
+                new HashSet<>(Arrays.asList(VertexComputeKey.of("rank", false), VertexComputeKey.of("names", false))), true);
+        final Vertex marko = graph.vertices(1).next();
+        marko.property(VertexProperty.Cardinality.single, "rank", 0.1d);
+        marko.property(VertexProperty.Cardinality.single, "rank", 0.2d);
+        assertEquals(0.2d, marko.<Double>value("rank"), 0.0d);
+        marko.property(VertexProperty.Cardinality.list, "names", "a");
+        marko.property(VertexProperty.Cardinality.list, "names", "b");
+        assertEquals(Arrays.asList("a", "b"), IteratorUtils.list(marko.values("names")));
+        assertEquals("marko", marko.value("name"));
+        assertEquals(5, IteratorUtils.count(marko.properties()));
+        assertEquals(1, IteratorUtils.count(marko.edges(Direction.BOTH)));
+        assertEquals(0, IteratorUtils.count(graph.vertices(3).next().edges(Direction.IN)));
+        marko.property("rank").remove();
+        assertFalse(marko.property("rank").isPresent());
+        marko.property(VertexProperty.Cardinality.single, "rank", 0.3d);
+        view.processResultGraphPersist(GraphComputer.ResultGraph.ORIGINAL, GraphComputer.Persist.VERTEX_PROPERTIES);
+        assertEquals(0.3d, marko.<Double>value("rank"), 0.0d);
+        assertEquals(Arrays.asList("a", "b"), IteratorUtils.list(marko.values("names")));
+        assertEquals(3, IteratorUtils.count(marko.edges(Direction.BOTH)));
+    }
+
     @Test
     public void shouldSerializeWithColorClassResolverToTinkerGraph() throws Exception {
         final Map<String,Color> colors = new HashMap<>();